@@ -0,0 +1,20 @@
+#!/usr/bin/env bash
+# Load a synthetic, production-shaped feedback dataset through Postgres COPY
+# Usage: ./scripts/generate-dataset.sh [--key=value ...]
+#   e.g. ./scripts/generate-dataset.sh --rows=5000000 --seed=7 --truncate=true
+# Options (defaults): --url=jdbc:postgresql://localhost:5433/feedbackdb --user=postgres --password=postgres
+#   --rows=1000000 --providers=2000 --members=rows/4 --zipf=1.1 --hot-member-fraction=0.01
+#   --hot-member-share=0.25 --comment-rate=0.7 --days=365 --end=2026-01-01T00:00:00Z --seed=42
+#   --truncate=false --rebuild-indexes=true
+# The schema must already be migrated (start the app once). The same seed and options always
+# produce the same rows. Duplicate tracking needs about 32 bytes per row of heap: raise JAVA_OPTS
+# (e.g. -Xmx1g) beyond ~20 million rows.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+./mvnw -q -B test-compile
+./mvnw -q -B dependency:build-classpath -Dmdep.includeScope=test -Dmdep.outputFile=target/benchmark-classpath.txt
+
+java ${JAVA_OPTS:-} -cp "target/test-classes:target/classes:$(cat target/benchmark-classpath.txt)" \
+    com.example.feedback_api.benchmarks.FeedbackDatasetGenerator "$@"
@@ -0,0 +1,15 @@
+#!/usr/bin/env bash
+# Closed-loop HTTP load test against a running feedback-api (servlet or reactive build)
+# Usage: ./scripts/load-benchmark.sh [base-url] [concurrency] [seconds] [write-percent]
+#   e.g. start the app normally, run ./scripts/load-benchmark.sh http://localhost:8080 500 30 10,
+#   then restart it with SPRING_PROFILES_ACTIVE=reactive and run the same command.
+# Reports throughput, p50/p99/p99.9 latency and the server's live thread count.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+./mvnw -q -B test-compile
+./mvnw -q -B dependency:build-classpath -Dmdep.includeScope=test -Dmdep.outputFile=target/benchmark-classpath.txt
+
+java -cp "target/test-classes:target/classes:$(cat target/benchmark-classpath.txt)" \
+    com.example.feedback_api.benchmarks.HttpLoadGenerator "$@"
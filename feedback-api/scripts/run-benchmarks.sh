@@ -0,0 +1,17 @@
+#!/usr/bin/env bash
+# Run the JMH microbenchmarks in src/test/java/com/example/feedback_api/benchmarks
+# Usage: ./scripts/run-benchmarks.sh [benchmark-regex] [extra JMH args...]
+#   e.g. ./scripts/run-benchmarks.sh FeedbackValidationBenchmark
+# Allocation per operation is reported by the gc profiler as gc.alloc.rate.norm.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PATTERN="${1:-.*}"
+shift || true
+
+./mvnw -q -B test-compile
+./mvnw -q -B dependency:build-classpath -Dmdep.includeScope=test -Dmdep.outputFile=target/benchmark-classpath.txt
+
+java -cp "target/test-classes:target/classes:$(cat target/benchmark-classpath.txt)" \
+    org.openjdk.jmh.Main "$PATTERN" -prof gc "$@"
@@ -0,0 +1,35 @@
+#!/usr/bin/env sh
+# Startup benchmark: measures time from `docker start` to the first successful
+# readiness probe, plus the JVM's own "Started ... in X seconds" line.
+#
+# Usage (from the repository root, with postgres and kafka already up):
+#   ./feedback-api/scripts/startup-benchmark.sh [runs]
+set -eu
+
+RUNS="${1:-5}"
+CONTAINER="${CONTAINER:-feedback-api}"
+READY_URL="${READY_URL:-http://localhost:8080/actuator/health/readiness}"
+
+now_ms() {
+    date +%s%3N
+}
+
+total=0
+i=1
+while [ "$i" -le "$RUNS" ]; do
+    docker stop "$CONTAINER" >/dev/null
+    start=$(now_ms)
+    docker start "$CONTAINER" >/dev/null
+
+    until curl -fs "$READY_URL" >/dev/null 2>&1; do
+        sleep 0.05
+    done
+
+    elapsed=$(( $(now_ms) - start ))
+    total=$(( total + elapsed ))
+    jvm=$(docker logs "$CONTAINER" 2>&1 | grep "Started FeedbackApiApplication" | tail -1 | sed 's/.*Started FeedbackApiApplication //')
+    echo "run $i: ready after ${elapsed} ms (${jvm})"
+    i=$(( i + 1 ))
+done
+
+echo "average time to readiness: $(( total / RUNS )) ms over $RUNS runs"
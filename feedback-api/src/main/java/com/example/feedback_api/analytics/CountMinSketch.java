@@ -0,0 +1,139 @@
+package com.example.feedback_api.analytics;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Count-Min sketch for approximate per-key frequencies
+ * Estimates never undercount; with probability 1 - delta they overcount by at
+ * most epsilon * N, where width = ceil(e / epsilon) and depth = ceil(ln(1 / delta)).
+ * Not thread-safe; callers synchronize.
+ */
+class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final double epsilon;
+    private final long[][] table;
+    private long total;
+
+    CountMinSketch(double epsilon, double delta) {
+        this.epsilon = epsilon;
+        this.width = (int) Math.ceil(Math.E / epsilon);
+        this.depth = (int) Math.ceil(Math.log(1 / delta));
+        this.table = new long[depth][width];
+    }
+
+    void add(String key) {
+        total++;
+        long[] hash = murmur3(key.getBytes(StandardCharsets.UTF_8));
+        for (int row = 0; row < depth; row++) {
+            table[row][bucket(hash, row)]++;
+        }
+    }
+
+    long estimate(String key) {
+        long[] hash = murmur3(key.getBytes(StandardCharsets.UTF_8));
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, table[row][bucket(hash, row)]);
+        }
+        return min;
+    }
+
+    /**
+     * @return additive error bound (epsilon * N) that holds with probability 1 - delta
+     */
+    long errorBound() {
+        return (long) Math.ceil(epsilon * total);
+    }
+
+    private int bucket(long[] hash, int row) {
+        // Kirsch-Mitzenmacher: derive the row hashes from the two independent 64-bit halves
+        return (int) Math.floorMod(hash[0] + row * hash[1], (long) width);
+    }
+
+    /**
+     * MurmurHash3 x64 128-bit (seed 0)
+     * Both halves come from the full key bytes, so keys that share a
+     * String.hashCode (e.g. "Aa" and "BB") still land in independent buckets
+     *
+     * @return the two 64-bit halves
+     */
+    static long[] murmur3(byte[] data) {
+        final long c1 = 0x87c37b91114253d5L;
+        final long c2 = 0x4cf5ad432745937fL;
+        long h1 = 0;
+        long h2 = 0;
+        int blocks = data.length / 16;
+        for (int i = 0; i < blocks; i++) {
+            long k1 = littleEndian(data, i * 16);
+            long k2 = littleEndian(data, i * 16 + 8);
+
+            k1 *= c1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= c2;
+            h1 ^= k1;
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            k2 *= c2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= c1;
+            h2 ^= k2;
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        int tail = blocks * 16;
+        long k1 = 0;
+        long k2 = 0;
+        for (int i = data.length - tail - 1; i >= 8; i--) {
+            k2 = (k2 << 8) | (data[tail + i] & 0xffL);
+        }
+        for (int i = Math.min(data.length - tail, 8) - 1; i >= 0; i--) {
+            k1 = (k1 << 8) | (data[tail + i] & 0xffL);
+        }
+        if (data.length - tail > 8) {
+            k2 *= c2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= c1;
+            h2 ^= k2;
+        }
+        if (data.length - tail > 0) {
+            k1 *= c1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= c2;
+            h1 ^= k1;
+        }
+
+        h1 ^= data.length;
+        h2 ^= data.length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new long[] { h1, h2 };
+    }
+
+    private static long littleEndian(byte[] data, int offset) {
+        long value = 0;
+        for (int i = 7; i >= 0; i--) {
+            value = (value << 8) | (data[offset + i] & 0xffL);
+        }
+        return value;
+    }
+
+    // 64-bit finalizer from MurmurHash3
+    private static long fmix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.feedback_api.analytics;
+
+import com.example.feedback_api.dtos.DistinctMembersResponse;
+import com.example.feedback_api.dtos.FeedbackResponse;
+import com.example.feedback_api.model.ProviderMemberSketchEntity;
+import com.example.feedback_api.repositories.ProviderMemberSketchRepository;
+import com.example.feedback_api.services.ProviderDictionary;
+import com.example.feedback_api.streaming.FeedbackSubmittedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Approximate count of distinct members per provider
+ * Every committed submission is added to an in-memory HyperLogLog for its
+ * provider and calendar month; a scheduled flush merges those into the
+ * provider_member_sketch table. Because HyperLogLog merges are idempotent
+ * unions, every instance flushes independently, a flush may safely repeat,
+ * and queries combine any range of months by merging their rows.
+ */
+@Service
+public class DistinctMemberCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(DistinctMemberCounter.class);
+
+    private static final LocalDate ALL_TIME = LocalDate.of(1970, 1, 1);
+
+    private final ProviderMemberSketchRepository sketchRepository;
+    private final ProviderDictionary providerDictionary;
+    private final TransactionTemplate newTransaction;
+
+    // Sketches updated since they were last flushed
+    private final Map<Bucket, HyperLogLog> pending = new ConcurrentHashMap<>();
+
+    public DistinctMemberCounter(ProviderMemberSketchRepository sketchRepository,
+            ProviderDictionary providerDictionary,
+            PlatformTransactionManager transactionManager) {
+        this.sketchRepository = sketchRepository;
+        this.providerDictionary = providerDictionary;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Count a committed submission, or immediately when it was published
+     * outside a transaction (reactive variant)
+     *
+     * @param event event published by FeedbackService
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFeedbackSubmitted(FeedbackSubmittedEvent event) {
+        FeedbackResponse feedback = event.getFeedback();
+        providerDictionary.findId(feedback.getProviderName()).ifPresent(providerId -> {
+            Bucket bucket = new Bucket(providerId, monthOf(feedback.getSubmittedAt()));
+            pending.compute(bucket, (key, sketch) -> {
+                HyperLogLog updated = sketch == null ? new HyperLogLog() : sketch;
+                updated.add(feedback.getMemberId());
+                return updated;
+            });
+        });
+    }
+
+    /**
+     * Approximate number of distinct members who rated a provider
+     *
+     * @param providerName provider name (any spelling that normalizes to the provider)
+     * @param months       number of most recent calendar months to include, or null for all time
+     * @return estimate with its relative standard error
+     */
+    public DistinctMembersResponse distinctMembers(String providerName, Integer months) {
+        LocalDate since = months == null
+                ? ALL_TIME
+                : YearMonth.now(ZoneOffset.UTC).minusMonths(months - 1L).atDay(1);
+
+        HyperLogLog union = new HyperLogLog();
+        Optional<Integer> providerId = providerDictionary.findId(providerName);
+        providerId.ifPresent(id -> {
+            for (ProviderMemberSketchEntity row : sketchRepository
+                    .findByProviderIdAndBucketStartGreaterThanEqual(id, since)) {
+                union.merge(HyperLogLog.fromBytes(row.getRegisters()));
+            }
+            // Include submissions not yet flushed by this instance
+            for (Bucket bucket : pending.keySet()) {
+                if (bucket.providerId() == id && !bucket.month().isBefore(since)) {
+                    pending.computeIfPresent(bucket, (key, sketch) -> {
+                        union.merge(sketch);
+                        return sketch;
+                    });
+                }
+            }
+        });
+
+        return new DistinctMembersResponse(providerName, union.estimate(), HyperLogLog.STANDARD_ERROR,
+                months == null ? null : since);
+    }
+
+    /**
+     * Merge pending sketches into the database
+     * A sketch is dropped from memory only if nothing was added to it while it
+     * was being written; otherwise it is kept and written again next time,
+     * which is harmless because merging is idempotent
+     */
+    @Scheduled(fixedDelayString = "${feedback.analytics.distinct-members.flush-interval-ms:60000}")
+    @PreDestroy
+    public void flush() {
+        for (Bucket bucket : pending.keySet()) {
+            HyperLogLog[] snapshot = new HyperLogLog[1];
+            pending.computeIfPresent(bucket, (key, sketch) -> {
+                snapshot[0] = sketch.copy();
+                return sketch;
+            });
+            if (snapshot[0] == null) {
+                continue;
+            }
+
+            try {
+                persist(bucket, snapshot[0]);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to flush distinct-member sketches; will retry: {}", e.getMessage());
+                return;
+            }
+            pending.computeIfPresent(bucket, (key, sketch) -> sketch.sameRegisters(snapshot[0]) ? null : sketch);
+        }
+    }
+
+    private void persist(Bucket bucket, HyperLogLog sketch) {
+        newTransaction.executeWithoutResult(status -> {
+            if (sketchRepository.insertIfAbsent(bucket.providerId(), bucket.month(), sketch.toBytes()) == 1) {
+                return;
+            }
+            ProviderMemberSketchEntity row = sketchRepository.findForUpdate(bucket.providerId(), bucket.month())
+                    .orElseThrow();
+            HyperLogLog merged = HyperLogLog.fromBytes(row.getRegisters());
+            merged.merge(sketch);
+            row.setRegisters(merged.toBytes());
+            row.setUpdatedAt(Instant.now());
+        });
+    }
+
+    private static LocalDate monthOf(Instant instant) {
+        return YearMonth.from(instant.atZone(ZoneOffset.UTC)).atDay(1);
+    }
+
+    private record Bucket(int providerId, LocalDate month) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.feedback_api.analytics;
+
+import com.example.feedback_api.dtos.FeedbackResponse;
+import com.example.feedback_api.dtos.HeavyHittersResponse;
+import com.example.feedback_api.streaming.FeedbackSubmittedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Streaming heavy-hitter tracking for providers and members
+ * Fed by every committed submission; answers "most-reviewed providers" and
+ * "members submitting most often" over a sliding window from bounded in-memory
+ * sketches, without touching the database.
+ */
+@Service
+public class HeavyHitterTracker {
+
+    private final SlidingWindowSketch providers;
+    private final SlidingWindowSketch members;
+    private final LongSupplier clock;
+
+    @Autowired
+    public HeavyHitterTracker(
+            @Value("${feedback.analytics.window-minutes:60}") long windowMinutes,
+            @Value("${feedback.analytics.sub-windows:12}") int subWindows,
+            @Value("${feedback.analytics.top-k-capacity:200}") int topKCapacity,
+            @Value("${feedback.analytics.count-min-epsilon:0.002}") double countMinEpsilon,
+            @Value("${feedback.analytics.count-min-delta:0.01}") double countMinDelta) {
+        this(windowMinutes * 60_000, subWindows, topKCapacity, countMinEpsilon, countMinDelta,
+                System::currentTimeMillis);
+    }
+
+    HeavyHitterTracker(long windowMs, int subWindows, int topKCapacity, double countMinEpsilon,
+            double countMinDelta, LongSupplier clock) {
+        this.providers = new SlidingWindowSketch(windowMs, subWindows, topKCapacity, countMinEpsilon, countMinDelta);
+        this.members = new SlidingWindowSketch(windowMs, subWindows, topKCapacity, countMinEpsilon, countMinDelta);
+        this.clock = clock;
+    }
+
+    /**
+     * Count a committed submission
+     *
+     * @param event event published by FeedbackService
+     */
+    // fallbackExecution: the reactive save publishes outside any transaction
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFeedbackSubmitted(FeedbackSubmittedEvent event) {
+        record(event.getFeedback());
+    }
+
+    void record(FeedbackResponse feedback) {
+        long now = clock.getAsLong();
+        providers.add(feedback.getProviderName(), now);
+        members.add(feedback.getMemberId(), now);
+    }
+
+    /**
+     * @param limit maximum number of providers
+     * @return most-reviewed providers in the window
+     */
+    public HeavyHittersResponse topProviders(int limit) {
+        return top(providers, limit);
+    }
+
+    /**
+     * @param limit maximum number of members
+     * @return members submitting most often in the window
+     */
+    public HeavyHittersResponse topMembers(int limit) {
+        return top(members, limit);
+    }
+
+    /**
+     * @param memberId member identifier
+     * @return approximate number of submissions by the member in the window
+     */
+    public HeavyHittersResponse memberFrequency(String memberId) {
+        long now = clock.getAsLong();
+        SlidingWindowSketch.HeavyHitter estimate = members.estimate(memberId, now);
+        return new HeavyHittersResponse(members.getWindowMs() / 1000, members.total(now),
+                List.of(new HeavyHittersResponse.Entry(estimate.key(), estimate.count(), estimate.error())));
+    }
+
+    private HeavyHittersResponse top(SlidingWindowSketch sketch, int limit) {
+        long now = clock.getAsLong();
+        List<HeavyHittersResponse.Entry> entries = sketch.top(limit, now).stream()
+                .map(hitter -> new HeavyHittersResponse.Entry(hitter.key(), hitter.count(), hitter.error()))
+                .toList();
+        return new HeavyHittersResponse(sketch.getWindowMs() / 1000, sketch.total(now), entries);
+    }
+}
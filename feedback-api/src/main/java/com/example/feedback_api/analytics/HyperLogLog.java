@@ -0,0 +1,107 @@
+package com.example.feedback_api.analytics;
+
+import java.util.Arrays;
+
+/**
+ * HyperLogLog cardinality estimator with 2^12 one-byte registers (4 KB)
+ * Relative standard error is 1.04 / sqrt(4096), about 1.6%. Two sketches are
+ * merged by taking the element-wise maximum of their registers, which gives
+ * exactly the sketch of the union, so merging is order-independent and
+ * idempotent. Not thread-safe; callers synchronize.
+ */
+class HyperLogLog {
+
+    static final int PRECISION = 12;
+    static final int REGISTER_COUNT = 1 << PRECISION;
+    static final double STANDARD_ERROR = 1.04 / Math.sqrt(REGISTER_COUNT);
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    private final byte[] registers;
+
+    HyperLogLog() {
+        this(new byte[REGISTER_COUNT]);
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    /**
+     * Restore a sketch from {@link #toBytes()}
+     *
+     * @param bytes serialized registers
+     * @return sketch
+     * @throws IllegalArgumentException if the register count does not match
+     */
+    static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes.length != REGISTER_COUNT) {
+            throw new IllegalArgumentException(
+                    "Expected " + REGISTER_COUNT + " HyperLogLog registers but got " + bytes.length);
+        }
+        return new HyperLogLog(bytes.clone());
+    }
+
+    void add(String value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (64 - PRECISION));
+        // Sentinel bit caps the rank at 64 - PRECISION + 1
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0) {
+            // Linear counting is more accurate while many registers are still empty
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    HyperLogLog copy() {
+        return new HyperLogLog(registers.clone());
+    }
+
+    byte[] toBytes() {
+        return registers.clone();
+    }
+
+    boolean sameRegisters(HyperLogLog other) {
+        return Arrays.equals(registers, other.registers);
+    }
+
+    // 64-bit FNV-1a over the UTF-16 code units, then the MurmurHash3 finalizer for avalanche
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.feedback_api.analytics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free ring of per-minute feedback buckets for one provider
+ * Each slot packs the minute it belongs to, the submission count and the sum
+ * of ratings into a single long, so recording a rating is one compare-and-set
+ * with no locks and no allocation. A slot is reset in the same CAS when the
+ * ring wraps around to a newer minute; a writer with an older minute than the
+ * slot already holds is dropped rather than overwriting newer data. Minutes
+ * are stamped modulo 2^21 (about four years), far longer than any window.
+ */
+final class ProviderActivityRing {
+
+    private static final int COUNT_BITS = 20;
+    private static final int SUM_BITS = 23;
+    private static final int MINUTE_BITS = 64 - COUNT_BITS - SUM_BITS;
+
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long SUM_MASK = (1L << SUM_BITS) - 1;
+    private static final long MINUTE_MASK = (1L << MINUTE_BITS) - 1;
+
+    private final AtomicLongArray slots;
+    private final AtomicLong lastAlertMinute = new AtomicLong(Long.MIN_VALUE);
+
+    ProviderActivityRing(int minutes) {
+        this.slots = new AtomicLongArray(minutes);
+    }
+
+    /**
+     * Add one rating to a minute's bucket
+     * Counts saturate at about a million submissions per provider per minute
+     *
+     * @param rating rating between 1 and 5
+     * @param minute epoch minute of the submission
+     */
+    void add(int rating, long minute) {
+        int index = (int) Math.floorMod(minute, (long) slots.length());
+        long stamp = minute & MINUTE_MASK;
+        while (true) {
+            long current = slots.get(index);
+            long currentStamp = stampOf(current);
+            long next;
+            if (currentStamp == stamp) {
+                long count = Math.min(countOf(current) + 1, COUNT_MASK);
+                long sum = Math.min(sumOf(current) + rating, SUM_MASK);
+                next = pack(stamp, count, sum);
+            } else if (current != 0 && isAfter(currentStamp, stamp)) {
+                // The ring already moved past this minute
+                return;
+            } else {
+                next = pack(stamp, 1, rating);
+            }
+            if (slots.compareAndSet(index, current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sum the buckets of a range of minutes
+     * Minutes older than the ring or not yet written count as empty
+     *
+     * @param fromMinute first epoch minute, inclusive
+     * @param toMinute   last epoch minute, inclusive
+     * @return submissions and rating sum in the range
+     */
+    Totals sum(long fromMinute, long toMinute) {
+        long count = 0;
+        long ratingSum = 0;
+        long first = Math.max(fromMinute, toMinute - slots.length() + 1);
+        for (long minute = first; minute <= toMinute; minute++) {
+            long value = slots.get((int) Math.floorMod(minute, (long) slots.length()));
+            if (value != 0 && stampOf(value) == (minute & MINUTE_MASK)) {
+                count += countOf(value);
+                ratingSum += sumOf(value);
+            }
+        }
+        return new Totals(count, ratingSum);
+    }
+
+    /**
+     * Claim the right to raise an alert
+     * Only one caller wins per cooldown period, so concurrent submissions that
+     * all cross a threshold raise a single alert
+     *
+     * @param minute          current epoch minute
+     * @param cooldownMinutes minimum minutes between alerts for this provider
+     * @return true if the caller should raise the alert
+     */
+    boolean tryClaimAlert(long minute, long cooldownMinutes) {
+        long last = lastAlertMinute.get();
+        if (last != Long.MIN_VALUE && minute - last < cooldownMinutes) {
+            return false;
+        }
+        return lastAlertMinute.compareAndSet(last, minute);
+    }
+
+    private static boolean isAfter(long stamp, long other) {
+        // Modular comparison so the check survives the stamp wrapping around
+        long distance = (stamp - other) & MINUTE_MASK;
+        return distance != 0 && distance < (1L << (MINUTE_BITS - 1));
+    }
+
+    private static long pack(long stamp, long count, long sum) {
+        return (stamp << (COUNT_BITS + SUM_BITS)) | (count << SUM_BITS) | sum;
+    }
+
+    private static long stampOf(long value) {
+        return value >>> (COUNT_BITS + SUM_BITS);
+    }
+
+    private static long countOf(long value) {
+        return (value >>> SUM_BITS) & COUNT_MASK;
+    }
+
+    private static long sumOf(long value) {
+        return value & SUM_MASK;
+    }
+
+    /**
+     * Submissions and rating sum over a range of minutes
+     *
+     * @param count     number of submissions
+     * @param ratingSum sum of their ratings
+     */
+    record Totals(long count, long ratingSum) {
+
+        double average() {
+            return count == 0 ? 0.0 : (double) ratingSum / count;
+        }
+    }
+}
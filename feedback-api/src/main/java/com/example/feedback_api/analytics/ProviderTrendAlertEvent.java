@@ -0,0 +1,50 @@
+package com.example.feedback_api.analytics;
+
+import com.example.feedback_api.dtos.TrendingProvidersResponse;
+
+import java.time.Instant;
+
+/**
+ * In-process application event raised when a provider starts trending
+ * Raised at most once per provider per cooldown period
+ */
+public class ProviderTrendAlertEvent {
+
+    /**
+     * Which threshold the provider crossed
+     */
+    public enum Reason {
+        VOLUME, RATING
+    }
+
+    private final TrendingProvidersResponse.Entry trend;
+    private final Reason reason;
+    private final Instant detectedAt;
+
+    public ProviderTrendAlertEvent(TrendingProvidersResponse.Entry trend, Reason reason, Instant detectedAt) {
+        this.trend = trend;
+        this.reason = reason;
+        this.detectedAt = detectedAt;
+    }
+
+    public TrendingProvidersResponse.Entry getTrend() {
+        return trend;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public Instant getDetectedAt() {
+        return detectedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ProviderTrendAlertEvent{" +
+                "trend=" + trend +
+                ", reason=" + reason +
+                ", detectedAt=" + detectedAt +
+                '}';
+    }
+}
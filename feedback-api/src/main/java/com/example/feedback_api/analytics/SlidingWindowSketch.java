@@ -0,0 +1,131 @@
+package com.example.feedback_api.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sliding time window of Space-Saving and Count-Min sketches
+ * The window is a ring of fixed-length sub-windows; each holds its own sketches
+ * and is reset when the ring wraps around to it, so memory is bounded by
+ * subWindows x sketch size regardless of key cardinality. Queries merge the
+ * sub-windows that are still inside the window, summing counts and error bounds.
+ */
+class SlidingWindowSketch {
+
+    private final long subWindowMs;
+    private final Slot[] slots;
+    private final int topKCapacity;
+    private final double cmEpsilon;
+    private final double cmDelta;
+
+    SlidingWindowSketch(long windowMs, int subWindows, int topKCapacity, double cmEpsilon, double cmDelta) {
+        this.subWindowMs = Math.max(1, windowMs / subWindows);
+        this.slots = new Slot[subWindows];
+        this.topKCapacity = topKCapacity;
+        this.cmEpsilon = cmEpsilon;
+        this.cmDelta = cmDelta;
+    }
+
+    long getWindowMs() {
+        return subWindowMs * slots.length;
+    }
+
+    synchronized void add(String key, long nowMs) {
+        long bucket = nowMs / subWindowMs;
+        int index = (int) Math.floorMod(bucket, (long) slots.length);
+        Slot slot = slots[index];
+        if (slot == null || slot.bucket != bucket) {
+            slot = new Slot(bucket, new SpaceSavingSketch(topKCapacity), new CountMinSketch(cmEpsilon, cmDelta));
+            slots[index] = slot;
+        }
+        slot.topK.add(key);
+        slot.frequencies.add(key);
+    }
+
+    synchronized long total(long nowMs) {
+        return live(nowMs).stream().mapToLong(slot -> slot.topK.getTotal()).sum();
+    }
+
+    /**
+     * Heaviest keys in the window
+     *
+     * @param limit maximum number of keys
+     * @param nowMs current time
+     * @return keys by descending estimated count, each with its overcount bound
+     */
+    synchronized List<HeavyHitter> top(int limit, long nowMs) {
+        List<Slot> live = live(nowMs);
+        Set<String> candidates = new LinkedHashSet<>();
+        for (Slot slot : live) {
+            candidates.addAll(slot.topK.keys());
+        }
+
+        List<HeavyHitter> merged = new ArrayList<>(candidates.size());
+        for (String key : candidates) {
+            long count = 0;
+            long error = 0;
+            for (Slot slot : live) {
+                long[] counter = slot.topK.get(key);
+                if (counter != null) {
+                    count += counter[0];
+                    error += counter[1];
+                } else {
+                    // Key may have been evicted from (or never admitted to) this sub-window
+                    long bound = slot.topK.untrackedBound();
+                    count += bound;
+                    error += bound;
+                }
+            }
+            merged.add(new HeavyHitter(key, count, error));
+        }
+
+        return merged.stream()
+                .sorted(Comparator.comparingLong(HeavyHitter::count).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Point frequency estimate from the Count-Min sketches
+     *
+     * @param key   key to estimate
+     * @param nowMs current time
+     * @return estimate and its additive error bound
+     */
+    synchronized HeavyHitter estimate(String key, long nowMs) {
+        long count = 0;
+        long error = 0;
+        for (Slot slot : live(nowMs)) {
+            count += slot.frequencies.estimate(key);
+            error += slot.frequencies.errorBound();
+        }
+        return new HeavyHitter(key, count, error);
+    }
+
+    private List<Slot> live(long nowMs) {
+        long currentBucket = nowMs / subWindowMs;
+        List<Slot> live = new ArrayList<>(slots.length);
+        for (Slot slot : slots) {
+            if (slot != null && slot.bucket > currentBucket - slots.length) {
+                live.add(slot);
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Approximate count for a key
+     *
+     * @param key   tracked key
+     * @param count estimated count (never below the true count)
+     * @param error maximum overcount
+     */
+    record HeavyHitter(String key, long count, long error) {
+    }
+
+    private record Slot(long bucket, SpaceSavingSketch topK, CountMinSketch frequencies) {
+    }
+}
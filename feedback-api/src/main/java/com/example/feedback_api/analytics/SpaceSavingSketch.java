@@ -0,0 +1,89 @@
+package com.example.feedback_api.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving top-k summary (Metwally et al.)
+ * Tracks at most {@code capacity} keys. When full, a new key replaces the key
+ * with the smallest count and inherits that count as its error, so every
+ * estimate overcounts by at most its recorded error, which is at most N/capacity.
+ * Not thread-safe; callers synchronize.
+ */
+class SpaceSavingSketch {
+
+    private final int capacity;
+    private final Map<String, long[]> counters; // key -> {count, error}
+    private long total;
+
+    SpaceSavingSketch(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    void add(String key) {
+        total++;
+        long[] counter = counters.get(key);
+        if (counter != null) {
+            counter[0]++;
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counters.put(key, new long[] { 1, 0 });
+            return;
+        }
+
+        // Evict the minimum; the newcomer may have been seen up to min times before
+        Map.Entry<String, long[]> min = null;
+        for (Map.Entry<String, long[]> entry : counters.entrySet()) {
+            if (min == null || entry.getValue()[0] < min.getValue()[0]) {
+                min = entry;
+            }
+        }
+        long minCount = min.getValue()[0];
+        counters.remove(min.getKey());
+        counters.put(key, new long[] { minCount + 1, minCount });
+    }
+
+    long getTotal() {
+        return total;
+    }
+
+    /**
+     * @return the largest count a key that is not tracked could have (0 until the sketch is full)
+     */
+    long untrackedBound() {
+        if (counters.size() < capacity) {
+            return 0;
+        }
+        return counters.values().stream().mapToLong(counter -> counter[0]).min().orElse(0);
+    }
+
+    /**
+     * @param key key to look up
+     * @return {count, error} or null if the key is not tracked
+     */
+    long[] get(String key) {
+        return counters.get(key);
+    }
+
+    List<String> keys() {
+        return new ArrayList<>(counters.keySet());
+    }
+
+    /**
+     * @param limit maximum number of keys
+     * @return tracked keys by descending estimated count
+     */
+    List<String> top(int limit) {
+        return counters.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[0]).reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.feedback_api.analytics;
+
+import com.example.feedback_api.dtos.FeedbackResponse;
+import com.example.feedback_api.dtos.TrendingProvidersResponse;
+import com.example.feedback_api.streaming.FeedbackSubmittedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Detects providers whose feedback volume or average rating shifts sharply
+ * Every committed submission lands in its provider's lock-free ring of
+ * per-minute buckets. The last few minutes (recent window) are compared with
+ * the longer window before them (baseline): a provider trends when its
+ * submission rate rises by the rate-ratio threshold or its average rating
+ * moves by the rating-delta threshold. The submitting thread re-evaluates only
+ * its own provider and raises a ProviderTrendAlertEvent when a threshold is
+ * crossed, at most once per cooldown; nothing on this path touches the database.
+ * No provider trends until the detector has run for a full baseline window.
+ */
+@Service
+public class TrendingProviderDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrendingProviderDetector.class);
+
+    private final int recentMinutes;
+    private final int baselineMinutes;
+    private final long minRecentCount;
+    private final double rateRatioThreshold;
+    private final double ratingDeltaThreshold;
+    private final long cooldownMinutes;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final LongSupplier clock;
+    private final long startMinute;
+
+    private final Counter volumeAlerts;
+    private final Counter ratingAlerts;
+
+    // Keyed by canonical provider name, so bounded by the provider dictionary
+    private final Map<String, ProviderActivityRing> rings = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TrendingProviderDetector(
+            @Value("${feedback.trending.recent-minutes:5}") int recentMinutes,
+            @Value("${feedback.trending.baseline-minutes:60}") int baselineMinutes,
+            @Value("${feedback.trending.min-recent-count:10}") long minRecentCount,
+            @Value("${feedback.trending.rate-ratio-threshold:3.0}") double rateRatioThreshold,
+            @Value("${feedback.trending.rating-delta-threshold:1.0}") double ratingDeltaThreshold,
+            @Value("${feedback.trending.alert-cooldown-minutes:15}") long cooldownMinutes,
+            ApplicationEventPublisher applicationEventPublisher,
+            MeterRegistry meterRegistry) {
+        this(recentMinutes, baselineMinutes, minRecentCount, rateRatioThreshold, ratingDeltaThreshold,
+                cooldownMinutes, applicationEventPublisher, meterRegistry, System::currentTimeMillis);
+    }
+
+    TrendingProviderDetector(int recentMinutes, int baselineMinutes, long minRecentCount, double rateRatioThreshold,
+            double ratingDeltaThreshold, long cooldownMinutes, ApplicationEventPublisher applicationEventPublisher,
+            MeterRegistry meterRegistry, LongSupplier clock) {
+        this.recentMinutes = Math.max(1, recentMinutes);
+        this.baselineMinutes = Math.max(1, baselineMinutes);
+        this.minRecentCount = Math.max(1, minRecentCount);
+        this.rateRatioThreshold = rateRatioThreshold;
+        this.ratingDeltaThreshold = ratingDeltaThreshold;
+        this.cooldownMinutes = cooldownMinutes;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.clock = clock;
+        this.startMinute = clock.getAsLong() / 60_000;
+        this.volumeAlerts = meterRegistry.counter("feedback.trending.alerts", "reason", "volume");
+        this.ratingAlerts = meterRegistry.counter("feedback.trending.alerts", "reason", "rating");
+    }
+
+    /**
+     * Count a committed submission and check its provider's trend
+     *
+     * @param event event published by FeedbackService
+     */
+    @TransactionalEventListener(fallbackExecution = true) // reactive saves publish without a transaction
+    public void onFeedbackSubmitted(FeedbackSubmittedEvent event) {
+        record(event.getFeedback());
+    }
+
+    void record(FeedbackResponse feedback) {
+        if (feedback.getProviderName() == null || feedback.getRating() == null) {
+            return;
+        }
+        long minute = clock.getAsLong() / 60_000;
+        ProviderActivityRing ring = rings.computeIfAbsent(feedback.getProviderName(),
+                name -> new ProviderActivityRing(recentMinutes + baselineMinutes));
+        ring.add(feedback.getRating(), minute);
+
+        TrendingProvidersResponse.Entry trend = evaluate(feedback.getProviderName(), ring, minute);
+        if (trend.isTrending() && ring.tryClaimAlert(minute, cooldownMinutes)) {
+            raiseAlert(trend);
+        }
+    }
+
+    /**
+     * @param limit maximum number of providers
+     * @return providers with enough recent submissions, by descending trend score
+     */
+    public TrendingProvidersResponse trending(int limit) {
+        long minute = clock.getAsLong() / 60_000;
+        List<TrendingProvidersResponse.Entry> entries = rings.entrySet().stream()
+                .map(entry -> evaluate(entry.getKey(), entry.getValue(), minute))
+                .filter(entry -> entry.getRecentCount() >= minRecentCount)
+                .sorted(Comparator.comparingDouble(TrendingProvidersResponse.Entry::getScore).reversed())
+                .limit(limit)
+                .toList();
+        return new TrendingProvidersResponse(recentMinutes * 60L, baselineMinutes * 60L, entries);
+    }
+
+    private TrendingProvidersResponse.Entry evaluate(String providerName, ProviderActivityRing ring, long minute) {
+        // The current minute is still filling, so the recent rate reads slightly low early in each minute
+        long recentStart = minute - recentMinutes + 1;
+        ProviderActivityRing.Totals recent = ring.sum(recentStart, minute);
+        ProviderActivityRing.Totals baseline = ring.sum(recentStart - baselineMinutes, recentStart - 1);
+
+        double recentRate = (double) recent.count() / recentMinutes;
+        // An empty baseline counts as one submission so a brand-new provider has a finite ratio
+        double baselineRate = (double) Math.max(1, baseline.count()) / baselineMinutes;
+        double rateRatio = recentRate / baselineRate;
+        double ratingDelta = baseline.count() == 0 ? 0.0 : recent.average() - baseline.average();
+
+        double score = 0.0;
+        if (recent.count() >= minRecentCount) {
+            score = Math.max(rateRatio / rateRatioThreshold, Math.abs(ratingDelta) / ratingDeltaThreshold);
+        }
+        // After a restart every ring is empty, so nothing trends until a full baseline has been observed
+        boolean warmedUp = minute - startMinute >= recentMinutes + baselineMinutes;
+        return new TrendingProvidersResponse.Entry(providerName, recent.count(), baseline.count(), rateRatio,
+                recent.average(), baseline.average(), ratingDelta, score, warmedUp && score >= 1.0);
+    }
+
+    private void raiseAlert(TrendingProvidersResponse.Entry trend) {
+        ProviderTrendAlertEvent.Reason reason = trend.getRateRatio() / rateRatioThreshold
+                >= Math.abs(trend.getRatingDelta()) / ratingDeltaThreshold
+                        ? ProviderTrendAlertEvent.Reason.VOLUME
+                        : ProviderTrendAlertEvent.Reason.RATING;
+        (reason == ProviderTrendAlertEvent.Reason.VOLUME ? volumeAlerts : ratingAlerts).increment();
+        logger.info("Provider trending ({}): {}", reason, trend);
+        applicationEventPublisher.publishEvent(
+                new ProviderTrendAlertEvent(trend, reason, Instant.ofEpochMilli(clock.getAsLong())));
+    }
+}
@@ -0,0 +1,375 @@
+package com.example.feedback_api.archive;
+
+import com.example.feedback_api.model.FeedbackEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * One immutable, compressed archive file of feedback rows
+ *
+ * Layout: a fixed header, deflated column blocks of blockRows rows (see
+ * SegmentCodec), a sparse block index (offset, sizes, CRC and first member
+ * of each block), an id table of (uuid, row) sorted by uuid, and a Bloom
+ * filter over member ids. The file is memory-mapped; only the block index
+ * is copied onto the heap, everything else is read in place on demand.
+ */
+final class ArchiveSegment {
+
+    private static final int MAGIC = 0x46425347; // "FBSG"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int ID_ENTRY_BYTES = 20;
+    private static final int BLOOM_BITS_PER_ROW = 10;
+    private static final int BLOOM_HASHES = 7;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int rowCount;
+    private final int blockRows;
+    private final Instant oldest;
+    private final Instant newest;
+    private final long idTableOffset;
+    private final long bloomOffset;
+    private final long bloomBits;
+
+    // Sparse block index, one entry per block
+    private final long[] blockOffsets;
+    private final int[] compressedLengths;
+    private final int[] rawLengths;
+    private final int[] blockRowCounts;
+    private final int[] checksums;
+    private final String[] firstMembers;
+
+    private ArchiveSegment(Path path, MappedByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a version " + VERSION + " archive segment: " + path);
+        }
+        this.rowCount = buffer.getInt(8);
+        this.blockRows = buffer.getInt(12);
+        int blockCount = buffer.getInt(16);
+        this.oldest = SegmentCodec.fromMicros(buffer.getLong(24));
+        this.newest = SegmentCodec.fromMicros(buffer.getLong(32));
+        long blockIndexOffset = buffer.getLong(40);
+        this.idTableOffset = buffer.getLong(48);
+        this.bloomOffset = buffer.getLong(56);
+        this.bloomBits = (buffer.capacity() - bloomOffset) * Byte.SIZE;
+
+        byte[] index = new byte[(int) (idTableOffset - blockIndexOffset)];
+        buffer.get((int) blockIndexOffset, index);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(index));
+        this.blockOffsets = new long[blockCount];
+        this.compressedLengths = new int[blockCount];
+        this.rawLengths = new int[blockCount];
+        this.blockRowCounts = new int[blockCount];
+        this.checksums = new int[blockCount];
+        this.firstMembers = new String[blockCount];
+        for (int i = 0; i < blockCount; i++) {
+            blockOffsets[i] = in.readLong();
+            compressedLengths[i] = in.readInt();
+            rawLengths[i] = in.readInt();
+            blockRowCounts[i] = in.readInt();
+            checksums[i] = in.readInt();
+            firstMembers[i] = in.readUTF();
+        }
+    }
+
+    /**
+     * Map an existing segment file
+     *
+     * @param path segment file
+     * @return the opened segment
+     * @throws IOException if the file cannot be read or is not a segment
+     */
+    static ArchiveSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return new ArchiveSegment(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Write rows as a new segment file
+     * The file is written under a unique temporary name, forced to disk and
+     * then hard-linked to the target, so a crash never leaves a partial segment
+     * behind and an existing segment is never replaced.
+     *
+     * @param target    final segment path
+     * @param rows      rows to archive (any order, at least one)
+     * @param blockRows rows per compressed block
+     * @throws java.nio.file.FileAlreadyExistsException if the target segment already exists
+     * @throws IOException                                if the file cannot be written
+     */
+    static void write(Path target, List<FeedbackEntity> rows, int blockRows) throws IOException {
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("An archive segment needs at least one row");
+        }
+        List<FeedbackEntity> sorted = new ArrayList<>(rows);
+        sorted.sort(SegmentCodec.ROW_ORDER);
+
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        file.write(new byte[HEADER_BYTES]);
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        DataOutputStream indexOut = new DataOutputStream(index);
+        int blockCount = 0;
+        Deflater deflater = new Deflater();
+        try {
+            for (int start = 0; start < sorted.size(); start += blockRows) {
+                List<FeedbackEntity> block = sorted.subList(start, Math.min(start + blockRows, sorted.size()));
+                byte[] raw = SegmentCodec.encodeBlock(block);
+                byte[] compressed = deflate(deflater, raw);
+                CRC32 crc = new CRC32();
+                crc.update(compressed);
+
+                indexOut.writeLong(file.size());
+                indexOut.writeInt(compressed.length);
+                indexOut.writeInt(raw.length);
+                indexOut.writeInt(block.size());
+                indexOut.writeInt((int) crc.getValue());
+                indexOut.writeUTF(block.get(0).getMemberId());
+                file.write(compressed);
+                blockCount++;
+            }
+        } finally {
+            deflater.end();
+        }
+
+        long blockIndexOffset = file.size();
+        indexOut.flush();
+        index.writeTo(file);
+
+        long idTableOffset = file.size();
+        DataOutputStream idOut = new DataOutputStream(file);
+        Integer[] byId = new Integer[sorted.size()];
+        Arrays.setAll(byId, i -> i);
+        Arrays.sort(byId, (a, b) -> compareIds(sorted.get(a).getId(), sorted.get(b).getId()));
+        for (int row : byId) {
+            idOut.writeLong(sorted.get(row).getId().getMostSignificantBits());
+            idOut.writeLong(sorted.get(row).getId().getLeastSignificantBits());
+            idOut.writeInt(row);
+        }
+
+        long bloomOffset = file.size();
+        long[] bloom = new long[Math.max(1, (sorted.size() * BLOOM_BITS_PER_ROW + 63) / 64)];
+        long bits = bloom.length * 64L;
+        for (FeedbackEntity row : sorted) {
+            long hash = SegmentCodec.memberHash(row.getMemberId());
+            for (int i = 0; i < BLOOM_HASHES; i++) {
+                long bit = bloomBit(hash, i, bits);
+                bloom[(int) (bit >>> 6)] |= 1L << bit;
+            }
+        }
+        for (long word : bloom) {
+            idOut.writeLong(word);
+        }
+        idOut.flush();
+
+        ByteBuffer bytes = ByteBuffer.wrap(file.toByteArray());
+        bytes.putInt(0, MAGIC)
+                .putInt(4, VERSION)
+                .putInt(8, sorted.size())
+                .putInt(12, blockRows)
+                .putInt(16, blockCount)
+                .putLong(24, SegmentCodec.toMicros(sorted.stream().map(FeedbackEntity::getSubmittedAt)
+                        .min(Instant::compareTo).orElseThrow()))
+                .putLong(32, SegmentCodec.toMicros(sorted.stream().map(FeedbackEntity::getSubmittedAt)
+                        .max(Instant::compareTo).orElseThrow()))
+                .putLong(40, blockIndexOffset)
+                .putLong(48, idTableOffset)
+                .putLong(56, bloomOffset);
+
+        Path temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE)) {
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(true);
+            }
+            // Unlike a rename, linking fails instead of replacing a segment that already exists
+            Files.createLink(target, temp);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Look up one row by id
+     * Binary search of the mapped id table, then a single block is decompressed
+     *
+     * @param id feedback id
+     * @return the row, or empty if it is not in this segment
+     */
+    Optional<FeedbackEntity> findById(UUID id) {
+        int low = 0;
+        int high = rowCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int entry = (int) (idTableOffset + (long) mid * ID_ENTRY_BYTES);
+            int cmp = Long.compareUnsigned(buffer.getLong(entry), id.getMostSignificantBits());
+            if (cmp == 0) {
+                cmp = Long.compareUnsigned(buffer.getLong(entry + 8), id.getLeastSignificantBits());
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                int row = buffer.getInt(entry + 16);
+                return Optional.of(readBlock(row / blockRows).get(row % blockRows));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * All rows of one member, newest first
+     * Members absent from the Bloom filter cost no decompression; otherwise
+     * only the blocks whose key range can contain the member are read
+     *
+     * @param memberId member identifier
+     * @return the member's rows (may be empty)
+     */
+    List<FeedbackEntity> findByMemberId(String memberId) {
+        if (!mightContainMember(memberId)) {
+            return List.of();
+        }
+
+        // Rows sharing the member can start in the last block whose first member sorts before it
+        int low = 0;
+        int high = firstMembers.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (firstMembers[mid].compareTo(memberId) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int first = Math.max(0, low - 1);
+
+        List<FeedbackEntity> matches = new ArrayList<>();
+        for (int block = first; block < firstMembers.length && firstMembers[block].compareTo(memberId) <= 0; block++) {
+            for (FeedbackEntity row : readBlock(block)) {
+                if (row.getMemberId().equals(memberId)) {
+                    matches.add(row);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @param memberId member identifier
+     * @return false if the member certainly has no rows here
+     */
+    boolean mightContainMember(String memberId) {
+        long hash = SegmentCodec.memberHash(memberId);
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            long bit = bloomBit(hash, i, bloomBits);
+            long word = buffer.getLong((int) (bloomOffset + (bit >>> 6) * Long.BYTES));
+            if ((word & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return ids of every row, read from the id table without decompressing blocks
+     */
+    List<UUID> ids() {
+        List<UUID> ids = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            int entry = (int) (idTableOffset + (long) i * ID_ENTRY_BYTES);
+            ids.add(new UUID(buffer.getLong(entry), buffer.getLong(entry + 8)));
+        }
+        return ids;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    Instant oldest() {
+        return oldest;
+    }
+
+    Instant newest() {
+        return newest;
+    }
+
+    private List<FeedbackEntity> readBlock(int block) {
+        byte[] compressed = new byte[compressedLengths[block]];
+        buffer.get((int) blockOffsets[block], compressed);
+        CRC32 crc = new CRC32();
+        crc.update(compressed);
+        if ((int) crc.getValue() != checksums[block]) {
+            throw new IllegalStateException("Checksum mismatch in block " + block + " of archive segment " + path);
+        }
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLengths[block]];
+            int length = inflater.inflate(raw);
+            if (length != raw.length) {
+                throw new IllegalStateException("Truncated block " + block + " in archive segment " + path);
+            }
+            return SegmentCodec.decodeBlock(ByteBuffer.wrap(raw), blockRowCounts[block]);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt block " + block + " in archive segment " + path, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] deflate(Deflater deflater, byte[] raw) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 64);
+        byte[] chunk = new byte[8192];
+        while (!deflater.finished()) {
+            out.write(chunk, 0, deflater.deflate(chunk));
+        }
+        return out.toByteArray();
+    }
+
+    // Kirsch-Mitzenmacher: the i-th probe is h1 + i * h2
+    private static long bloomBit(long hash, int i, long bits) {
+        long combined = (hash >>> 32) + i * (hash & 0xFFFFFFFFL | 1);
+        return Math.floorMod(combined, bits);
+    }
+
+    private static int compareIds(UUID a, UUID b) {
+        int cmp = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return cmp != 0 ? cmp : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
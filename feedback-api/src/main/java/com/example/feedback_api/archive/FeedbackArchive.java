@@ -0,0 +1,281 @@
+package com.example.feedback_api.archive;
+
+import com.example.feedback_api.model.FeedbackEntity;
+import com.example.feedback_api.services.ProviderDictionary;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Read side of the cold-storage archive: every segment file in the archive directory
+ * The directory must be an absolute path on storage shared by every instance;
+ * without one archiving is disabled and all feedback stays in Postgres.
+ * Segments are memory-mapped at startup and as they appear, whichever instance
+ * wrote them, so lookups see a segment before its rows are deleted.
+ * Rows come back as detached FeedbackEntity objects with
+ * the provider name resolved from the dictionary, so callers can treat them like
+ * rows loaded from the feedback table.
+ */
+@Component
+public class FeedbackArchive {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackArchive.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    // Null when archiving is disabled
+    private final Path directory;
+    private final ProviderDictionary providerDictionary;
+
+    // Oldest first; each segment holds rows older than every row of the next one
+    private final List<ArchiveSegment> segments = new CopyOnWriteArrayList<>();
+
+    // Highest sequence number on disk, including segments that failed to open
+    private volatile long lastSequence;
+
+    public FeedbackArchive(@Value("${feedback.archive.directory:}") String directory,
+            ProviderDictionary providerDictionary) {
+        if (directory.isBlank()) {
+            this.directory = null;
+        } else if (!Paths.get(directory).isAbsolute()) {
+            throw new IllegalStateException("feedback.archive.directory must be an absolute path on storage "
+                    + "shared by every instance: " + directory);
+        } else {
+            this.directory = Paths.get(directory);
+        }
+        this.providerDictionary = providerDictionary;
+    }
+
+    @PostConstruct
+    public void load() throws IOException {
+        if (directory == null) {
+            logger.info("Feedback archive disabled (feedback.archive.directory is not set)");
+            return;
+        }
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*")) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            // *.tmp files may belong to a write in progress on another instance; the job cleans them up
+            if (name.endsWith(SEGMENT_SUFFIX)) {
+                lastSequence = Math.max(lastSequence, sequenceOf(name));
+                try {
+                    segments.add(ArchiveSegment.open(file));
+                } catch (IOException | RuntimeException e) {
+                    logger.error("Skipping unreadable archive segment {}: {}", file, e.getMessage());
+                }
+            }
+        }
+        logger.info("Feedback archive: {} segments, {} rows in {}", segments.size(), rowCount(), directory);
+    }
+
+    /**
+     * Look up archived feedback by id
+     *
+     * @param id feedback id
+     * @return the archived row, or empty if it was never archived
+     */
+    public Optional<FeedbackEntity> findById(UUID id) {
+        refresh();
+        for (ArchiveSegment segment : segments) {
+            Optional<FeedbackEntity> row = segment.findById(id);
+            if (row.isPresent()) {
+                return row.map(this::withProviderName);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Archived feedback of one member, newest first
+     *
+     * @param memberId member identifier
+     * @return archived rows (may be empty)
+     */
+    public List<FeedbackEntity> findByMemberId(String memberId) {
+        refresh();
+        List<FeedbackEntity> rows = new ArrayList<>();
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            segments.get(i).findByMemberId(memberId).forEach(row -> rows.add(withProviderName(row)));
+        }
+        // Imports before back-dated rows were bounded could put older rows in a later segment
+        rows.sort(Comparator.comparing(FeedbackEntity::getSubmittedAt).reversed());
+        return rows;
+    }
+
+    /**
+     * Archive counterpart of FeedbackRepository.existsByMemberIdAndProviderId
+     *
+     * @param memberId   member identifier
+     * @param providerId the provider's dictionary id
+     * @return true if the member has archived feedback for the provider
+     */
+    public boolean existsByMemberIdAndProviderId(String memberId, Integer providerId) {
+        return snapshot().existsByMemberIdAndProviderId(memberId, providerId);
+    }
+
+    /**
+     * The segments published so far, for many lookups in a row
+     * Checks for new segments once; segments published afterwards are not seen.
+     *
+     * @return the current segments
+     */
+    public Snapshot snapshot() {
+        refresh();
+        return new Snapshot(List.copyOf(segments));
+    }
+
+    /**
+     * @return true if an archive directory is configured
+     */
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * @return number of segment files
+     */
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * @return number of archived rows across all segments
+     */
+    public long rowCount() {
+        return segments.stream().mapToLong(ArchiveSegment::rowCount).sum();
+    }
+
+    /**
+     * Write rows as the next segment and start serving them
+     *
+     * @param rows rows to archive, all older than any row archived after them
+     * @param blockRows rows per compressed block
+     * @return the new segment
+     * @throws IOException if the segment cannot be written
+     */
+    synchronized ArchiveSegment append(List<FeedbackEntity> rows, int blockRows) throws IOException {
+        if (directory == null) {
+            throw new IllegalStateException("Archiving is disabled; set feedback.archive.directory");
+        }
+        Files.createDirectories(directory);
+        openNewSegments();
+        Path target = segmentPath(lastSequence + 1);
+        ArchiveSegment.write(target, rows, blockRows);
+        lastSequence++;
+        ArchiveSegment segment = ArchiveSegment.open(target);
+        segments.add(segment);
+        return segment;
+    }
+
+    /**
+     * Prepare for a job run: open segments other instances have published and
+     * delete temporary files left by writes that never completed (their rows
+     * are still in the database). Only safe while holding the archive lock.
+     *
+     * @throws IOException if the directory cannot be listed
+     */
+    synchronized void recover() throws IOException {
+        if (directory == null || !Files.isDirectory(directory)) {
+            return;
+        }
+        openNewSegments();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*.tmp")) {
+            for (Path file : stream) {
+                logger.info("Deleting incomplete archive segment {}", file.getFileName());
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * @return the most recently written segment, if any
+     */
+    Optional<ArchiveSegment> newestSegment() {
+        return segments.isEmpty() ? Optional.empty() : Optional.of(segments.get(segments.size() - 1));
+    }
+
+    // One stat per lookup: segments are only ever added with the next sequence number
+    private void refresh() {
+        if (directory != null && Files.exists(segmentPath(lastSequence + 1))) {
+            synchronized (this) {
+                openNewSegments();
+            }
+        }
+    }
+
+    private void openNewSegments() {
+        for (Path file = segmentPath(lastSequence + 1); Files.exists(file); file = segmentPath(lastSequence + 1)) {
+            lastSequence++;
+            try {
+                segments.add(ArchiveSegment.open(file));
+                logger.info("Opened archive segment {}", file.getFileName());
+            } catch (IOException | RuntimeException e) {
+                logger.error("Skipping unreadable archive segment {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format("%s%012d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+    }
+
+    private static long sequenceOf(String segmentName) {
+        return Long.parseLong(segmentName.substring(SEGMENT_PREFIX.length(),
+                segmentName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private FeedbackEntity withProviderName(FeedbackEntity row) {
+        row.setProviderName(providerDictionary.getName(row.getProviderId()));
+        return row;
+    }
+
+    /**
+     * Fixed set of segments, queried without touching the directory
+     */
+    public static final class Snapshot {
+
+        private final List<ArchiveSegment> segments;
+
+        private Snapshot(List<ArchiveSegment> segments) {
+            this.segments = segments;
+        }
+
+        /**
+         * @param memberId   member identifier
+         * @param providerId the provider's dictionary id
+         * @return true if the member has feedback for the provider in these segments
+         */
+        public boolean existsByMemberIdAndProviderId(String memberId, Integer providerId) {
+            for (ArchiveSegment segment : segments) {
+                if (segment.findByMemberId(memberId).stream().anyMatch(row -> row.getProviderId().equals(providerId))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
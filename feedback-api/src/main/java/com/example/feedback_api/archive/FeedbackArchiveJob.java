@@ -0,0 +1,261 @@
+package com.example.feedback_api.archive;
+
+import com.example.feedback_api.dtos.ArchiveStatusResponse;
+import com.example.feedback_api.model.FeedbackEntity;
+import com.example.feedback_api.repositories.FeedbackRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves feedback older than the retention period from the feedback table into archive segments
+ * Each pass reads the oldest rows below the cutoff, writes them as one durable
+ * segment and only then deletes them from Postgres in small batches. A crash
+ * between the two steps leaves rows in both places; the next run finishes
+ * deleting the newest segment's rows before archiving anything else, so no row
+ * is archived twice. Rows are only deleted once their segment is on the shared
+ * archive directory, so the job refuses to run (and a scheduled job fails
+ * startup) while feedback.archive.directory is not set. A run holds a Postgres
+ * advisory lock from start to finish, so across all instances only one writes
+ * segments and deletes rows at a time.
+ */
+@Service
+public class FeedbackArchiveJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackArchiveJob.class);
+
+    // Session-level advisory lock key shared by every instance ("feedarch")
+    private static final long ARCHIVE_LOCK_KEY = 0x6665656461726368L;
+
+    public enum State {
+        IDLE, RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    private final FeedbackRepository feedbackRepository;
+    private final FeedbackArchive archive;
+    private final DataSource dataSource;
+    private final TransactionTemplate transaction;
+    private final Duration retention;
+    private final int segmentRows;
+    private final int blockRows;
+    private final int deleteBatchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong rowsArchived = new AtomicLong();
+    private volatile boolean cancelled;
+    private volatile State state = State.IDLE;
+    private volatile Instant cutoff;
+    private volatile Instant startedAt;
+    private volatile String error;
+
+    public FeedbackArchiveJob(FeedbackRepository feedbackRepository, FeedbackArchive archive, DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Value("${feedback.archive.retention-days:365}") long retentionDays,
+            @Value("${feedback.archive.segment-rows:50000}") int segmentRows,
+            @Value("${feedback.archive.block-rows:1024}") int blockRows,
+            @Value("${feedback.archive.delete-batch-size:1000}") int deleteBatchSize,
+            @Value("${feedback.archive.cron:-}") String cron) {
+        if (!archive.isEnabled() && !"-".equals(cron)) {
+            throw new IllegalStateException("feedback.archive.cron is set but feedback.archive.directory is not; "
+                    + "archived rows would be deleted without shared storage");
+        }
+        this.feedbackRepository = feedbackRepository;
+        this.archive = archive;
+        this.dataSource = dataSource;
+        // Read-write on purpose: reads go to the primary, where purged rows are already gone
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.retention = Duration.ofDays(retentionDays);
+        this.segmentRows = segmentRows;
+        this.blockRows = blockRows;
+        this.deleteBatchSize = deleteBatchSize;
+    }
+
+    /**
+     * Start archiving in the background
+     *
+     * @return status at the time the job was started
+     * @throws IllegalStateException if archiving is disabled or the job is already running
+     *                               here or on another instance
+     */
+    public ArchiveStatusResponse start() {
+        if (!archive.isEnabled()) {
+            throw new IllegalStateException("Archiving is disabled; set feedback.archive.directory to an absolute "
+                    + "path on storage shared by every instance");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("The archive job is already running");
+        }
+
+        // The lock connection is opened and closed on the job thread, which holds it for the run
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        Thread.ofPlatform()
+                .name("feedback-archive")
+                .daemon(true)
+                .start(() -> {
+                    Connection lock;
+                    try {
+                        lock = acquireLock();
+                    } catch (RuntimeException e) {
+                        started.completeExceptionally(e);
+                        return;
+                    }
+                    cancelled = false;
+                    error = null;
+                    rowsArchived.set(0);
+                    startedAt = Instant.now();
+                    cutoff = startedAt.minus(retention);
+                    state = State.RUNNING;
+                    started.complete(null);
+                    run(lock);
+                });
+        try {
+            started.join();
+        } catch (CompletionException e) {
+            running.set(false);
+            throw (RuntimeException) e.getCause();
+        }
+        return getStatus();
+    }
+
+    /**
+     * Take the cluster-wide archive lock on a connection held for the whole run
+     *
+     * @return the connection holding the lock, for releaseLock
+     * @throws IllegalStateException if another instance holds the lock or the database is unreachable
+     */
+    private Connection acquireLock() {
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+                statement.setLong(1, ARCHIVE_LOCK_KEY);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    if (resultSet.getBoolean(1)) {
+                        return connection;
+                    }
+                }
+            }
+            connection.close();
+            throw new IllegalStateException("The archive job is already running on another instance");
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new IllegalStateException("Could not take the archive lock: " + e.getMessage(), e);
+        }
+    }
+
+    private static void releaseLock(Connection connection) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, ARCHIVE_LOCK_KEY);
+            statement.execute();
+        } catch (SQLException e) {
+            // A pooled session would keep the lock: abort so the pool discards the connection
+            logger.warn("Could not release the archive lock, discarding its connection: {}", e.getMessage());
+            try {
+                connection.abort(Runnable::run);
+            } catch (SQLException abortFailure) {
+                logger.warn("Could not abort the archive lock connection: {}", abortFailure.getMessage());
+            }
+        } finally {
+            closeQuietly(connection);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.warn("Could not close the archive lock connection: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Periodic run, disabled unless feedback.archive.cron is set
+     */
+    @Scheduled(cron = "${feedback.archive.cron:-}")
+    public void scheduledRun() {
+        try {
+            start();
+        } catch (IllegalStateException e) {
+            logger.info("Skipping scheduled archive run: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Ask a running job to stop after the segment in progress
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * @return job progress and archive totals
+     */
+    public ArchiveStatusResponse getStatus() {
+        return new ArchiveStatusResponse(state.name(), cutoff, rowsArchived.get(), archive.segmentCount(),
+                archive.rowCount(), startedAt, error);
+    }
+
+    private void run(Connection lock) {
+        try {
+            // Nobody else is writing now: pick up other instances' segments and drop their partial writes
+            archive.recover();
+            archive.newestSegment().ifPresent(this::purge);
+
+            while (!cancelled) {
+                List<FeedbackEntity> rows = transaction.execute(status -> feedbackRepository
+                        .findBySubmittedAtBeforeOrderBySubmittedAtAscIdAsc(cutoff, Limit.of(segmentRows)));
+                if (rows == null || rows.isEmpty()) {
+                    break;
+                }
+
+                ArchiveSegment segment = archive.append(rows, blockRows);
+                purge(segment);
+                rowsArchived.addAndGet(rows.size());
+                logger.info("Archived {} feedback rows ({} to {}) into {}", segment.rowCount(), segment.oldest(),
+                        segment.newest(), segment.path().getFileName());
+            }
+
+            state = cancelled ? State.CANCELLED : State.COMPLETED;
+            logger.info("Archive {}: {}", state, getStatus());
+        } catch (Exception e) {
+            error = e.getMessage();
+            state = State.FAILED;
+            logger.error("Archive job failed: {}", error, e);
+        } finally {
+            releaseLock(lock);
+            running.set(false);
+        }
+    }
+
+    // Small delete batches keep row locks and WAL bursts short; already-deleted ids are no-ops
+    private void purge(ArchiveSegment segment) {
+        List<UUID> ids = segment.ids();
+        for (int start = 0; start < ids.size(); start += deleteBatchSize) {
+            List<UUID> batch = ids.subList(start, Math.min(start + deleteBatchSize, ids.size()));
+            transaction.executeWithoutResult(status -> feedbackRepository.deleteAllByIdInBatch(batch));
+        }
+    }
+}
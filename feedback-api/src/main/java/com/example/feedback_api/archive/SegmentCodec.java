@@ -0,0 +1,177 @@
+package com.example.feedback_api.archive;
+
+import com.example.feedback_api.model.FeedbackEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Column encoding of one block of archived feedback rows
+ * Within a block each field is stored contiguously: member ids front-coded
+ * against the previous row, raw UUIDs, provider ids as varints, one byte per
+ * rating, submitted_at as zig-zag varint deltas in microseconds, and
+ * length-prefixed comments. Rows arrive sorted by member, so the member
+ * column and the per-member timestamps compress well.
+ */
+final class SegmentCodec {
+
+    /**
+     * Segment row order: member, newest first, then id
+     * Matches the member listing, so a lookup returns rows already in order
+     */
+    static final Comparator<FeedbackEntity> ROW_ORDER = Comparator.comparing(FeedbackEntity::getMemberId)
+            .thenComparing(FeedbackEntity::getSubmittedAt, Comparator.reverseOrder())
+            .thenComparing(FeedbackEntity::getId);
+
+    private SegmentCodec() {
+    }
+
+    static byte[] encodeBlock(List<FeedbackEntity> rows) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(rows.size() * 64);
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        byte[] previousMember = new byte[0];
+        for (FeedbackEntity row : rows) {
+            byte[] member = row.getMemberId().getBytes(StandardCharsets.UTF_8);
+            int shared = Arrays.mismatch(previousMember, member);
+            shared = shared < 0 ? member.length : Math.min(shared, member.length);
+            writeVarLong(out, shared);
+            writeVarLong(out, member.length - shared);
+            out.write(member, shared, member.length - shared);
+            previousMember = member;
+        }
+        for (FeedbackEntity row : rows) {
+            out.writeLong(row.getId().getMostSignificantBits());
+            out.writeLong(row.getId().getLeastSignificantBits());
+        }
+        for (FeedbackEntity row : rows) {
+            writeVarLong(out, row.getProviderId());
+        }
+        for (FeedbackEntity row : rows) {
+            out.writeByte(row.getRating());
+        }
+        long previousMicros = 0;
+        for (FeedbackEntity row : rows) {
+            long micros = toMicros(row.getSubmittedAt());
+            writeVarLong(out, zigZag(micros - previousMicros));
+            previousMicros = micros;
+        }
+        for (FeedbackEntity row : rows) {
+            if (row.getComment() == null) {
+                writeVarLong(out, 0);
+            } else {
+                byte[] comment = row.getComment().getBytes(StandardCharsets.UTF_8);
+                writeVarLong(out, comment.length + 1L);
+                out.write(comment);
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode a block produced by encodeBlock
+     * Provider names are not stored; callers resolve them from providerId
+     */
+    static List<FeedbackEntity> decodeBlock(ByteBuffer in, int rowCount) {
+        String[] members = new String[rowCount];
+        byte[] previousMember = new byte[0];
+        for (int i = 0; i < rowCount; i++) {
+            int shared = (int) readVarLong(in);
+            int suffix = (int) readVarLong(in);
+            byte[] member = Arrays.copyOf(previousMember, shared + suffix);
+            in.get(member, shared, suffix);
+            members[i] = new String(member, StandardCharsets.UTF_8);
+            previousMember = member;
+        }
+
+        List<FeedbackEntity> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            FeedbackEntity row = new FeedbackEntity();
+            row.setMemberId(members[i]);
+            row.setId(new UUID(in.getLong(), in.getLong()));
+            rows.add(row);
+        }
+        for (FeedbackEntity row : rows) {
+            row.setProviderId((int) readVarLong(in));
+        }
+        for (FeedbackEntity row : rows) {
+            row.setRating((int) in.get());
+        }
+        long micros = 0;
+        for (FeedbackEntity row : rows) {
+            micros += unZigZag(readVarLong(in));
+            row.setSubmittedAt(fromMicros(micros));
+        }
+        for (FeedbackEntity row : rows) {
+            int length = (int) readVarLong(in);
+            if (length > 0) {
+                byte[] comment = new byte[length - 1];
+                in.get(comment);
+                row.setComment(new String(comment, StandardCharsets.UTF_8));
+            }
+        }
+        return rows;
+    }
+
+    // 64-bit FNV-1a over the member id's chars, finished with the MurmurHash3 fmix64 step
+    static long memberHash(String memberId) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < memberId.length(); i++) {
+            h ^= memberId.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // Postgres stores timestamptz with microsecond precision
+    static long toMicros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    static Instant fromMicros(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint in archive segment");
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
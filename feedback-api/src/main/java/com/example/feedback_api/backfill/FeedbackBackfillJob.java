@@ -0,0 +1,228 @@
+package com.example.feedback_api.backfill;
+
+import com.example.feedback_api.dtos.BackfillStatusResponse;
+import com.example.feedback_api.messaging.FeedbackEventPublisher;
+import com.example.feedback_api.model.BackfillCheckpointEntity;
+import com.example.feedback_api.model.FeedbackEntity;
+import com.example.feedback_api.repositories.BackfillCheckpointRepository;
+import com.example.feedback_api.repositories.FeedbackRepository;
+import com.example.feedback_api.services.ProviderDictionary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admin-triggered replay of the feedback table into the feedback-submitted topic
+ * The UUID key space is split into partitions that a pool of workers scans with
+ * keyset pagination. Each page is sent in the same format as live events, and its
+ * last id is checkpointed once Kafka has acknowledged the whole page, so an
+ * interrupted run resumes from the last acknowledged page of every partition.
+ */
+@Service
+public class FeedbackBackfillJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackBackfillJob.class);
+
+    public enum State {
+        IDLE, RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    private final FeedbackRepository feedbackRepository;
+    private final BackfillCheckpointRepository checkpointRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ProviderDictionary providerDictionary;
+    private final int workers;
+    private final int partitions;
+    private final int batchSize;
+    private final double targetRate;
+    private final long sendTimeoutMs;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile boolean cancelled;
+    private volatile State state = State.IDLE;
+    private volatile Instant startedAt;
+    private volatile String error;
+
+    public FeedbackBackfillJob(FeedbackRepository feedbackRepository,
+            BackfillCheckpointRepository checkpointRepository,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            ProviderDictionary providerDictionary,
+            @Value("${feedback.backfill.workers:4}") int workers,
+            @Value("${feedback.bulkhead.background.connections:${feedback.backfill.workers:4}}") int backgroundConnections,
+            @Value("${feedback.backfill.partitions:16}") int partitions,
+            @Value("${feedback.backfill.batch-size:1000}") int batchSize,
+            @Value("${feedback.backfill.target-rate:20000}") double targetRate,
+            @Value("${feedback.backfill.send-timeout-ms:60000}") long sendTimeoutMs) {
+        this.feedbackRepository = feedbackRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.providerDictionary = providerDictionary;
+        // Every worker needs a background-share connection for its page reads and checkpoints
+        this.workers = Math.max(1, Math.min(workers, backgroundConnections));
+        if (this.workers < workers) {
+            logger.warn("Capping backfill workers at {}, the size of the background connection share",
+                    this.workers);
+        }
+        this.partitions = partitions;
+        this.batchSize = batchSize;
+        this.targetRate = targetRate;
+        this.sendTimeoutMs = sendTimeoutMs;
+    }
+
+    /**
+     * Start (or resume) the backfill in the background
+     * Resumes from existing checkpoints unless they are complete, use a different
+     * partitioning, or a restart is requested
+     *
+     * @param restart discard existing checkpoints and replay from the beginning
+     * @return status at the time the job was started
+     * @throws IllegalStateException if a backfill is already running
+     */
+    public BackfillStatusResponse start(boolean restart) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("A backfill is already running");
+        }
+
+        try {
+            List<BackfillCheckpointEntity> checkpoints = prepareCheckpoints(restart);
+            cancelled = false;
+            error = null;
+            startedAt = Instant.now();
+            state = State.RUNNING;
+
+            Thread.ofPlatform()
+                    .name("feedback-backfill")
+                    .daemon(true)
+                    .start(() -> run(checkpoints));
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return getStatus();
+    }
+
+    /**
+     * Ask a running backfill to stop after the pages currently in flight
+     * Progress is kept and the next start resumes from it
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * @return current progress, combining in-memory state with stored checkpoints
+     */
+    public BackfillStatusResponse getStatus() {
+        List<BackfillCheckpointEntity> checkpoints = checkpointRepository.findAllByOrderByPartitionNoAsc();
+        int completed = (int) checkpoints.stream().filter(BackfillCheckpointEntity::isCompleted).count();
+        long sent = checkpoints.stream().mapToLong(BackfillCheckpointEntity::getEventsSent).sum();
+        return new BackfillStatusResponse(state.name(), checkpoints.size(), completed, sent, startedAt, error);
+    }
+
+    private List<BackfillCheckpointEntity> prepareCheckpoints(boolean restart) {
+        List<BackfillCheckpointEntity> existing = checkpointRepository.findAllByOrderByPartitionNoAsc();
+        boolean resumable = !restart
+                && existing.size() == partitions
+                && existing.stream().allMatch(c -> c.getPartitionCount() == partitions)
+                && existing.stream().anyMatch(c -> !c.isCompleted());
+
+        if (resumable) {
+            logger.info("Resuming backfill: {} of {} partitions still pending",
+                    existing.stream().filter(c -> !c.isCompleted()).count(), partitions);
+            return existing;
+        }
+
+        checkpointRepository.deleteAllInBatch();
+        List<BackfillCheckpointEntity> fresh = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            fresh.add(new BackfillCheckpointEntity(i, partitions));
+        }
+        return checkpointRepository.saveAll(fresh);
+    }
+
+    private void run(List<BackfillCheckpointEntity> checkpoints) {
+        RateLimiter rateLimiter = new RateLimiter(targetRate);
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (BackfillCheckpointEntity checkpoint : checkpoints) {
+                if (!checkpoint.isCompleted()) {
+                    results.add(pool.submit(() -> {
+                        replayPartition(checkpoint, rateLimiter);
+                        return null;
+                    }));
+                }
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+
+            state = cancelled ? State.CANCELLED : State.COMPLETED;
+            logger.info("Backfill {}: {}", state, getStatus());
+        } catch (Exception e) {
+            cancelled = true;
+            error = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            state = State.FAILED;
+            logger.error("Backfill failed: {}", error);
+        } finally {
+            pool.shutdownNow();
+            running.set(false);
+        }
+    }
+
+    private void replayPartition(BackfillCheckpointEntity checkpoint, RateLimiter rateLimiter) throws Exception {
+        KeyRange range = KeyRange.of(checkpoint.getPartitionNo(), checkpoint.getPartitionCount());
+        UUID cursor = checkpoint.getLastId() != null ? checkpoint.getLastId() : range.lower();
+
+        while (!cancelled) {
+            List<FeedbackEntity> page = feedbackRepository.findByIdGreaterThanAndIdLessThanOrderByIdAsc(
+                    cursor, range.upper(), Limit.of(batchSize));
+
+            if (page.isEmpty()) {
+                checkpoint.setCompleted(true);
+                saveCheckpoint(checkpoint);
+                return;
+            }
+
+            rateLimiter.acquire(page.size());
+            sendPage(page);
+
+            cursor = page.get(page.size() - 1).getId();
+            checkpoint.setLastId(cursor);
+            checkpoint.setEventsSent(checkpoint.getEventsSent() + page.size());
+            saveCheckpoint(checkpoint);
+        }
+    }
+
+    @SuppressWarnings("null") // Kafka template requires this for framework integration
+    private void sendPage(List<FeedbackEntity> page) throws Exception {
+        CompletableFuture<?>[] sends = new CompletableFuture<?>[page.size()];
+        for (int i = 0; i < page.size(); i++) {
+            FeedbackEntity feedback = page.get(i);
+            providerDictionary.fillName(feedback);
+            sends[i] = kafkaTemplate.send(FeedbackEventPublisher.FEEDBACK_TOPIC,
+                    feedback.getId().toString(), FeedbackEventPublisher.toMessage(feedback));
+        }
+        // Only checkpoint past this page once every event in it is acknowledged
+        CompletableFuture.allOf(sends).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void saveCheckpoint(BackfillCheckpointEntity checkpoint) {
+        checkpoint.setUpdatedAt(Instant.now());
+        checkpointRepository.save(checkpoint);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.feedback_api.backfill;
+
+import java.math.BigInteger;
+import java.util.UUID;
+
+/**
+ * Exclusive (lower, upper) slice of the UUID key space
+ * PostgreSQL orders uuid values bytewise, which matches unsigned ordering of the
+ * most significant 64 bits, so the space is split evenly on those bits.
+ * Boundaries have all-zero low bits, which no RFC 4122 UUID can have (variant
+ * bits), so no row ever sits exactly on a boundary and is skipped.
+ */
+record KeyRange(UUID lower, UUID upper) {
+
+    private static final BigInteger TWO_TO_64 = BigInteger.ONE.shiftLeft(64);
+    private static final UUID MAX = new UUID(-1L, -1L);
+
+    /**
+     * @param partition      zero-based partition number
+     * @param partitionCount total number of partitions
+     * @return key range of the partition
+     */
+    static KeyRange of(int partition, int partitionCount) {
+        return new KeyRange(boundary(partition, partitionCount), boundary(partition + 1, partitionCount));
+    }
+
+    private static UUID boundary(int index, int partitionCount) {
+        if (index >= partitionCount) {
+            return MAX;
+        }
+        long msb = TWO_TO_64.multiply(BigInteger.valueOf(index))
+                .divide(BigInteger.valueOf(partitionCount))
+                .longValue();
+        return new UUID(msb, 0L);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.feedback_api.backfill;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Blocking rate limiter shared by all backfill workers
+ * Hands out permits on a fixed schedule derived from the target rate;
+ * callers sleep until their permits' time slot has arrived.
+ */
+class RateLimiter {
+
+    private final double nanosPerPermit;
+    private long nextFreeNanos = System.nanoTime();
+
+    /**
+     * @param permitsPerSecond target rate; zero or negative disables throttling
+     */
+    RateLimiter(double permitsPerSecond) {
+        this.nanosPerPermit = permitsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / permitsPerSecond : 0;
+    }
+
+    /**
+     * Block until the given number of permits is available
+     *
+     * @param permits number of events about to be sent
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void acquire(int permits) throws InterruptedException {
+        if (nanosPerPermit == 0) {
+            return;
+        }
+
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            // Don't let idle time accumulate into a burst larger than one batch
+            long start = Math.max(nextFreeNanos, now);
+            nextFreeNanos = start + (long) (permits * nanosPerPermit);
+            waitNanos = start - now;
+        }
+
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
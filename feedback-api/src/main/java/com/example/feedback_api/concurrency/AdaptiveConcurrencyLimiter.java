@@ -0,0 +1,115 @@
+package com.example.feedback_api.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking admission control for one class of requests (reads or writes)
+ * A request either gets a permit immediately or is rejected; there is no queue.
+ * The limit adapts to measured latency through GradientLimit. Exported as
+ * feedback.concurrency.limit, feedback.concurrency.in_flight and
+ * feedback.concurrency.rejected, tagged with the operation.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final String operation;
+    private final GradientLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejectedCounter;
+
+    /**
+     * @param operation    operation tag (read or write)
+     * @param initialLimit starting limit
+     * @param minLimit     the limit never drops below this
+     * @param maxLimit     the limit never grows above this
+     * @param tolerance    how much slower than the long-term average latency may get before the limit shrinks
+     * @param smoothing    weight of each new limit estimate (0..1]
+     * @param longWindow   number of requests the long-term latency average spans
+     * @param meterRegistry registry for the limiter's meters
+     */
+    public AdaptiveConcurrencyLimiter(String operation, int initialLimit, int minLimit, int maxLimit, double tolerance,
+            double smoothing, int longWindow, MeterRegistry meterRegistry) {
+        this(operation, new GradientLimit(initialLimit, minLimit, maxLimit, tolerance, smoothing, longWindow),
+                meterRegistry);
+    }
+
+    AdaptiveConcurrencyLimiter(String operation, GradientLimit limit, MeterRegistry meterRegistry) {
+        this.operation = operation;
+        this.limit = limit;
+        this.rejectedCounter = meterRegistry.counter("feedback.concurrency.rejected", "operation", operation);
+        Gauge.builder("feedback.concurrency.limit", limit, GradientLimit::getLimit)
+                .tag("operation", operation)
+                .register(meterRegistry);
+        Gauge.builder("feedback.concurrency.in_flight", inFlight, AtomicInteger::get)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Admit a request if the limit allows it
+     *
+     * @return a permit to release when the request completes, or empty if the request must be shed
+     */
+    public Optional<Permit> tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit.getLimit()) {
+                rejectedCounter.increment();
+                return Optional.empty();
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return Optional.of(new Permit(current + 1, System.nanoTime()));
+    }
+
+    /**
+     * @return operation tag (read or write)
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return current limit
+     */
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    /**
+     * @return requests currently holding a permit
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * An admitted request
+     * Release exactly once, whatever the outcome
+     */
+    public final class Permit {
+
+        private final int inFlightAtStart;
+        private final long startNanos;
+
+        private Permit(int inFlightAtStart, long startNanos) {
+            this.inFlightAtStart = inFlightAtStart;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Return the permit and record the request's latency
+         *
+         * @param dropped true if the request failed in a way that suggests overload
+         *                (server error or timeout); client errors are normal samples
+         */
+        public void release(boolean dropped) {
+            inFlight.decrementAndGet();
+            limit.onSample(System.nanoTime() - startNanos, inFlightAtStart, dropped);
+        }
+    }
+}
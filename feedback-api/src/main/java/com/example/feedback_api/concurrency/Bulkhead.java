@@ -0,0 +1,151 @@
+package com.example.feedback_api.concurrency;
+
+import com.example.feedback_api.datasource.PoolShareContext;
+import com.example.feedback_api.deadline.Deadline;
+import com.example.feedback_api.deadline.DeadlineContext;
+import com.example.feedback_api.deadline.DeadlineExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded executor isolating one class of traffic (read, write or health)
+ * A fixed number of workers and a bounded queue; a task that finds both full
+ * is rejected immediately with BulkheadFullException instead of waiting.
+ * Tasks run inside the pool share of the same name, so their JDBC connections
+ * come out of that share's reservation. A task submitted with a deadline runs
+ * under that deadline, is skipped if it expires while queued, and its future
+ * fails with DeadlineExceededException as soon as the deadline passes, even if
+ * the work is still running. Exported as feedback.bulkhead.active,
+ * feedback.bulkhead.queued, feedback.bulkhead.rejected and
+ * feedback.bulkhead.queue.wait, tagged with the bulkhead name, and
+ * feedback.deadline.exceeded (stage queue or response).
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledThreadPoolExecutor deadlineTimer;
+    private final Counter rejectedCounter;
+    private final Timer queueWaitTimer;
+    private final Counter expiredInQueueCounter;
+    private final Counter expiredRunningCounter;
+
+    /**
+     * @param name          bulkhead name, also the pool share its tasks use
+     * @param threads       worker threads
+     * @param queueCapacity tasks that may wait for a worker
+     * @param meterRegistry registry for the bulkhead's meters
+     */
+    public Bulkhead(String name, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.name = name;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "bulkhead-" + name + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.deadlineTimer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "bulkhead-" + name + "-deadlines");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.deadlineTimer.setRemoveOnCancelPolicy(true);
+
+        this.rejectedCounter = meterRegistry.counter("feedback.bulkhead.rejected", "bulkhead", name);
+        this.queueWaitTimer = meterRegistry.timer("feedback.bulkhead.queue.wait", "bulkhead", name);
+        this.expiredInQueueCounter = meterRegistry.counter("feedback.deadline.exceeded", "stage", "queue");
+        this.expiredRunningCounter = meterRegistry.counter("feedback.deadline.exceeded", "stage", "response");
+        Gauge.builder("feedback.bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("feedback.bulkhead.queued", executor, pool -> pool.getQueue().size())
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run work on this bulkhead
+     *
+     * @param work work to run on a bulkhead worker
+     * @return the work's result; completes exceptionally with the work's exception
+     * @throws BulkheadFullException if every worker is busy and the queue is full
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> work) {
+        return submit(null, work);
+    }
+
+    /**
+     * Run work on this bulkhead under a request deadline
+     *
+     * @param deadline the request's deadline, or null for none
+     * @param work     work to run on a bulkhead worker
+     * @return the work's result; completes exceptionally with the work's exception,
+     *         or with DeadlineExceededException once the deadline passes
+     * @throws BulkheadFullException if every worker is busy and the queue is full
+     */
+    public <T> CompletableFuture<T> submit(Deadline deadline, Callable<T> work) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long queuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                queueWaitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                if (result.isDone()) {
+                    // Timed out while queued; nobody is waiting for the result any more
+                    expiredInQueueCounter.increment();
+                    return;
+                }
+                try {
+                    result.complete(DeadlineContext.call(deadline, () -> PoolShareContext.call(name, work)));
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new BulkheadFullException(name, "Too many " + name + " requests queued ("
+                    + executor.getMaximumPoolSize() + " running, " + executor.getQueue().size()
+                    + " waiting), retry later");
+        }
+
+        if (deadline != null) {
+            ScheduledFuture<?> timeout = deadlineTimer.schedule(() -> {
+                if (!result.isDone()) {
+                    // Counted before completing, so whoever the failure wakes already sees it
+                    expiredRunningCounter.increment();
+                    result.completeExceptionally(new DeadlineExceededException("Request deadline of "
+                            + deadline.getBudgetMillis() + " ms exceeded in the " + name + " bulkhead"));
+                }
+            }, deadline.remainingMillis(), TimeUnit.MILLISECONDS);
+            result.whenComplete((value, e) -> timeout.cancel(false));
+        }
+        return result;
+    }
+
+    /**
+     * @return bulkhead name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Stop accepting work and interrupt running tasks
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        deadlineTimer.shutdownNow();
+    }
+}
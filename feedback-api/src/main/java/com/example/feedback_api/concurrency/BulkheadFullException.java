@@ -0,0 +1,19 @@
+package com.example.feedback_api.concurrency;
+
+/**
+ * Exception thrown when a bulkhead's workers are busy and its queue is full
+ * Results in HTTP 503 Service Unavailable with Retry-After
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    private final String bulkhead;
+
+    public BulkheadFullException(String bulkhead, String message) {
+        super(message);
+        this.bulkhead = bulkhead;
+    }
+
+    public String getBulkhead() {
+        return bulkhead;
+    }
+}
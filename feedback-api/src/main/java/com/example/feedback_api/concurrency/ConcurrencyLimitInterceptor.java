@@ -0,0 +1,84 @@
+package com.example.feedback_api.concurrency;
+
+import com.example.feedback_api.controllers.FeedbackController;
+import com.example.feedback_api.dtos.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Sheds FeedbackController traffic above the adaptive concurrency limits
+ * Handlers marked @WriteOperation go through the write limiter, everything
+ * else (including POST batch lookups) through the read limiter. A rejected
+ * request gets 503 with Retry-After before any database work; admitted
+ * requests report their latency when they complete (for async handlers,
+ * after the async re-dispatch). Health endpoints are excluded when the
+ * interceptor is registered.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+    private final long retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitInterceptor(AdaptiveConcurrencyLimiter readLimiter, AdaptiveConcurrencyLimiter writeLimiter,
+            long retryAfterSeconds, ObjectMapper objectMapper) {
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler) throws IOException {
+        if (!(handler instanceof HandlerMethod method) || method.getBeanType() != FeedbackController.class
+                || request.getDispatcherType() == DispatcherType.ASYNC) {
+            // An async re-dispatch still holds the permit taken by the original dispatch
+            return true;
+        }
+
+        AdaptiveConcurrencyLimiter limiter = method.hasMethodAnnotation(WriteOperation.class) ? writeLimiter
+                : readLimiter;
+        var permit = limiter.tryAcquire();
+        if (permit.isEmpty()) {
+            reject(response, limiter);
+            return false;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, permit.get());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler, @Nullable Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof AdaptiveConcurrencyLimiter.Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permit.release(ex != null || response.getStatus() >= 500);
+        }
+    }
+
+    private void reject(HttpServletResponse response, AdaptiveConcurrencyLimiter limiter) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        ErrorResponse body = new ErrorResponse(List.of(new ErrorResponse.FieldError("concurrency",
+                "Too many " + limiter.getOperation() + " requests in flight (limit " + limiter.getLimit()
+                        + "), retry later")));
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
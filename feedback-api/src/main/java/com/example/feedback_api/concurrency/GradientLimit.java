@@ -0,0 +1,89 @@
+package com.example.feedback_api.concurrency;
+
+/**
+ * Latency-gradient concurrency limit
+ * Keeps a long-term average of request latency and compares each new sample
+ * against it. While latency stays near the average the limit grows by about
+ * sqrt(limit) per sample; once samples get slower than the average times
+ * the tolerance, the limit shrinks in proportion (at most by half per step).
+ * A failed request counts as the worst gradient. The limit only grows while
+ * at least half of it is in use, so an idle service does not inflate it.
+ */
+class GradientLimit {
+
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final double longWindowFactor;
+
+    private double limit;
+    // Read on every admission without taking the lock
+    private volatile int currentLimit;
+    private double longRttNanos;
+    private long samples;
+
+    /**
+     * @param initialLimit starting limit
+     * @param minLimit     the limit never drops below this
+     * @param maxLimit     the limit never grows above this
+     * @param tolerance    how much slower than the long-term average a sample may be before the limit shrinks
+     * @param smoothing    weight of each new estimate (0..1]
+     * @param longWindow   number of samples the long-term average spans
+     */
+    GradientLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing, int longWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.longWindowFactor = 2.0 / (longWindow + 1);
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.currentLimit = (int) limit;
+    }
+
+    /**
+     * @return current limit, rounded down
+     */
+    int getLimit() {
+        return currentLimit;
+    }
+
+    /**
+     * Feed one completed request into the estimate
+     *
+     * @param rttNanos latency of the request
+     * @param inFlight requests in flight when it started, itself included
+     * @param dropped  true if the request failed in a way that suggests overload
+     * @return the new limit
+     */
+    synchronized int onSample(long rttNanos, int inFlight, boolean dropped) {
+        double shortRtt = Math.max(1, rttNanos);
+        samples++;
+        if (samples == 1) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos += (shortRtt - longRttNanos) * longWindowFactor;
+        }
+
+        // After a long slow period the average lags behind recovered latency; pull it down faster
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        if (!dropped && inFlight < limit / 2) {
+            return currentLimit;
+        }
+
+        double gradient = dropped
+                ? MIN_GRADIENT
+                : Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+        double queueSize = Math.sqrt(limit);
+        double estimate = limit * gradient + (dropped ? 0 : queueSize);
+        double smoothed = limit * (1 - smoothing) + estimate * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, smoothed));
+        currentLimit = (int) limit;
+        return currentLimit;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.feedback_api.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a FeedbackController handler that writes
+ * ConcurrencyLimitInterceptor admits it through the write limiter; every
+ * other handler, including POST lookups, counts as a read.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface WriteOperation {
+}
@@ -0,0 +1,144 @@
+package com.example.feedback_api.config;
+
+import com.example.feedback_api.concurrency.Bulkhead;
+import com.example.feedback_api.datasource.PoolShareContext;
+import com.example.feedback_api.datasource.PoolShareDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bulkheads between read, write and health traffic
+ * FeedbackController runs reads, writes and its health endpoints on separate
+ * bounded executors (feedback.bulkhead.{read,write,health}.threads and
+ * .queue-capacity), so a burst of one kind cannot take the Tomcat workers the
+ * others need. The application DataSource is split into matching connection
+ * shares (.connections); /actuator/health requests use the health share, the
+ * statistics endpoints the stats share, and all other database work the
+ * background share.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BulkheadConfig {
+
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+    public static final String HEALTH = "health";
+    public static final String STATS = "stats";
+    public static final String BACKGROUND = "background";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    public BulkheadConfig(Environment environment, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.environment = environment;
+        // MVC test slices have no registry; bulkheads still work, their meters just go nowhere
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public Bulkhead readBulkhead() {
+        return bulkhead(READ, 8, 100);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public Bulkhead writeBulkhead() {
+        return bulkhead(WRITE, 4, 100);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public Bulkhead healthBulkhead() {
+        return bulkhead(HEALTH, 2, 10);
+    }
+
+    /**
+     * Runs actuator health checks (including the database check) in the health share
+     */
+    @Bean
+    public FilterRegistrationBean<Filter> healthPoolShareFilter() {
+        return poolShareFilter(HEALTH, "/actuator/health", "/actuator/health/*");
+    }
+
+    /**
+     * Runs the statistics endpoints in the stats share, so their aggregate
+     * queries never wait behind imports and background jobs
+     */
+    @Bean
+    public FilterRegistrationBean<Filter> statsPoolShareFilter() {
+        return poolShareFilter(STATS, "/api/v1/feedback/stats/*");
+    }
+
+    private static FilterRegistrationBean<Filter> poolShareFilter(String share, String... urlPatterns) {
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+            try {
+                PoolShareContext.call(share, () -> {
+                    chain.doFilter(request, response);
+                    return null;
+                });
+            } catch (IOException | ServletException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new ServletException(e);
+            }
+        });
+        registration.setName(share + "PoolShareFilter");
+        registration.addUrlPatterns(urlPatterns);
+        return registration;
+    }
+
+    // Static so the post-processor is registered before the DataSource is created
+    @Bean
+    public static BeanPostProcessor poolShareDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+            Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof PoolShareDataSource) {
+                    return bean;
+                }
+                Map<String, Integer> connections = new LinkedHashMap<>();
+                connections.put(READ, environment.getProperty("feedback.bulkhead.read.connections", Integer.class, 5));
+                connections.put(WRITE, environment.getProperty("feedback.bulkhead.write.connections", Integer.class, 4));
+                connections.put(HEALTH, environment.getProperty("feedback.bulkhead.health.connections", Integer.class, 1));
+                connections.put(STATS, environment.getProperty("feedback.bulkhead.stats.connections", Integer.class, 2));
+                // Everything else (analytics, SSE, imports, backfill, archive) is capped at the background share
+                connections.put(BACKGROUND,
+                        environment.getProperty("feedback.bulkhead.background.connections", Integer.class, 6));
+
+                int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                int reserved = connections.values().stream().mapToInt(Integer::intValue).sum();
+                if (reserved > poolSize || connections.values().stream().anyMatch(size -> size < 1)) {
+                    throw new IllegalStateException("Bulkhead connection shares " + connections + " add up to "
+                            + reserved + "; each needs at least one connection and together they must fit in the "
+                            + "pool's " + poolSize);
+                }
+
+                return new PoolShareDataSource(dataSource, connections, BACKGROUND,
+                        environment.getProperty("feedback.bulkhead.connection-timeout-ms", Long.class, 5000L),
+                        meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+            }
+        };
+    }
+
+    private Bulkhead bulkhead(String name, int threads, int queueCapacity) {
+        String prefix = "feedback.bulkhead." + name + ".";
+        return new Bulkhead(name,
+                environment.getProperty(prefix + "threads", Integer.class, threads),
+                environment.getProperty(prefix + "queue-capacity", Integer.class, queueCapacity),
+                meterRegistry);
+    }
+}
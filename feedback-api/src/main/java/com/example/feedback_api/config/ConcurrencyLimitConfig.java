@@ -0,0 +1,63 @@
+package com.example.feedback_api.config;
+
+import com.example.feedback_api.concurrency.AdaptiveConcurrencyLimiter;
+import com.example.feedback_api.concurrency.ConcurrencyLimitInterceptor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Adaptive concurrency limits for FeedbackController
+ * Reads and writes get separate limiters configured under
+ * feedback.concurrency.read.* and feedback.concurrency.write.*; the health
+ * endpoints are never limited so probes keep answering under overload.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "feedback.concurrency.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+    private final long retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitConfig(Environment environment, ObjectProvider<MeterRegistry> meterRegistryProvider,
+            ObjectMapper objectMapper) {
+        // MVC test slices have no registry; the limiter still works, its meters just go nowhere
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.readLimiter = limiter("read", 20, 4, 200, environment, meterRegistry);
+        this.writeLimiter = limiter("write", 10, 2, 100, environment, meterRegistry);
+        this.retryAfterSeconds = environment.getProperty("feedback.concurrency.retry-after-seconds", Long.class, 1L);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(readLimiter, writeLimiter, retryAfterSeconds,
+                objectMapper))
+                .addPathPatterns("/api/v1/feedback", "/api/v1/feedback/**")
+                .excludePathPatterns("/api/v1/health", "/api/v1/health/**");
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(String operation, int initialLimit, int minLimit, int maxLimit,
+            Environment environment, MeterRegistry meterRegistry) {
+        String prefix = "feedback.concurrency." + operation + ".";
+        return new AdaptiveConcurrencyLimiter(operation,
+                environment.getProperty(prefix + "initial-limit", Integer.class, initialLimit),
+                environment.getProperty(prefix + "min-limit", Integer.class, minLimit),
+                environment.getProperty(prefix + "max-limit", Integer.class, maxLimit),
+                environment.getProperty("feedback.concurrency.tolerance", Double.class, 1.5),
+                environment.getProperty("feedback.concurrency.smoothing", Double.class, 0.2),
+                environment.getProperty("feedback.concurrency.long-window", Integer.class, 600),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.feedback_api.config;
+
+import com.example.feedback_api.datasource.DeadlineDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Request deadlines for JDBC
+ * Wraps the application DataSource in a DeadlineDataSource so statements run
+ * for a request are cancelled once its deadline (see FeedbackController)
+ * has passed. Background work has no deadline and is not affected.
+ */
+@Configuration
+public class DeadlineConfig {
+
+    // Static so the post-processor is registered before the DataSource is created
+    @Bean
+    public static BeanPostProcessor deadlineDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof DeadlineDataSource) {
+                    return bean;
+                }
+                return new DeadlineDataSource(dataSource, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+            }
+        };
+    }
+}
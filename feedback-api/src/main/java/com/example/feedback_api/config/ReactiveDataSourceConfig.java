@@ -0,0 +1,30 @@
+package com.example.feedback_api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC DataSource for the reactive variant
+ * Spring Boot skips its DataSource auto-configuration once an R2DBC
+ * ConnectionFactory exists, but Flyway, the provider dictionary, warm-up and
+ * the admin jobs still run on JDBC. This restores the same spring.datasource.*
+ * pool; ReadReplicaDataSourceConfig replaces it when replicas are configured.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    @ConditionalOnExpression("'${feedback.datasource.replica-urls:}' == ''")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
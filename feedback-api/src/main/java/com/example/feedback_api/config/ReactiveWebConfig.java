@@ -0,0 +1,106 @@
+package com.example.feedback_api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.config.CorsRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Web stack for the reactive variant
+ * Runs WebFlux on Reactor Netty (Spring Boot would otherwise pick Tomcat, which
+ * spring-boot-starter-web keeps on the classpath), applies the same CORS
+ * rules as CorsConfig and encodes CBOR and Smile with the same Jackson
+ * settings as BinaryFormatsConfig (request bodies stay JSON)
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    private static final MimeType SMILE = MimeType.valueOf(BinaryFormatsConfig.APPLICATION_SMILE_VALUE);
+
+    private final ObjectMapper objectMapper;
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    public ReactiveWebConfig(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.objectMapper = objectMapper;
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    /**
+     * Event-loop server; server.port, compression and the other server.*
+     * settings are still applied by Spring Boot's customizers
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Override
+    public void addCorsMappings(@NonNull CorsRegistry registry) {
+        registry.addMapping("/api/**")
+                .allowedOrigins("http://localhost:3000")
+                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                .allowedHeaders("*")
+                .allowCredentials(true)
+                .maxAge(3600);
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(@NonNull ServerCodecConfigurer configurer) {
+        // WebFlux registers no Jackson CBOR encoder by default. Custom encoders are consulted
+        // before the defaults, so JSON is registered again ahead of CBOR to stay the answer
+        // for clients that do not ask for a binary format (as in BinaryFormatsConfig)
+        configurer.customCodecs().register(new Jackson2JsonEncoder(objectMapper));
+        configurer.customCodecs().register(new SingleValueCborEncoder(objectMapperBuilder.factory(new CBORFactory()).build()));
+
+        // The default Smile codecs would ignore spring.jackson.*; the mime type must be
+        // given explicitly, the single-argument constructors default to JSON's
+        ObjectMapper smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+        configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, SMILE));
+        configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, SMILE));
+    }
+
+    /**
+     * Jackson2CborEncoder rejects every Publisher, including the single values
+     * WebFlux writes for Mono results; this encodes those through encodeValue
+     */
+    private static final class SingleValueCborEncoder extends Jackson2CborEncoder {
+
+        private SingleValueCborEncoder(ObjectMapper mapper) {
+            super(mapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        @NonNull
+        public Flux<DataBuffer> encode(@NonNull Publisher<?> inputStream, @NonNull DataBufferFactory bufferFactory,
+                @NonNull ResolvableType elementType, @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+            if (!(inputStream instanceof Mono<?> single)) {
+                return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+            }
+            return single.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+        }
+    }
+}
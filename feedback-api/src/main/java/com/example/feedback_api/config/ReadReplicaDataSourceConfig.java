@@ -0,0 +1,78 @@
+package com.example.feedback_api.config;
+
+import com.example.feedback_api.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-replica routing configuration
+ * Active only when feedback.datasource.replica-urls is set; otherwise Spring Boot's
+ * single primary DataSource is used unchanged. Each pool is a separate Hikari pool
+ * (primary, replica-0, replica-1, ...) reporting its own hikaricp.* metrics.
+ */
+@Configuration
+@ConditionalOnProperty(name = "feedback.datasource.replica-urls")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${feedback.datasource.replica-urls}") String[] replicaUrls,
+            @Value("${feedback.datasource.replica-pool-size:10}") int replicaPoolSize,
+            @Value("${feedback.datasource.replica-max-lag-ms:5000}") long maxLagMs,
+            @Value("${feedback.datasource.replica-health-check-interval-ms:5000}") long healthCheckIntervalMs) {
+
+        HikariDataSource primary = pool("primary", properties.determineUrl(), properties, environment, meterRegistry);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.length; i++) {
+            HikariDataSource replica = pool("replica-" + i, replicaUrls[i].trim(), properties, environment,
+                    meterRegistry);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, maxLagMs, healthCheckIntervalMs, meterRegistry);
+    }
+
+    /**
+     * The application DataSource
+     * Lazy proxy so the routing decision is made at the first statement,
+     * once the transaction's read-only flag is known
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private HikariDataSource pool(String name, String url, DataSourceProperties properties, Environment environment,
+            MeterRegistry meterRegistry) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        // Apply the usual spring.datasource.hikari.* tuning to every pool
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.feedback_api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background tasks
+ * Used for periodic housekeeping such as stream heartbeats
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,43 @@
+package com.example.feedback_api.config;
+
+import com.example.feedback_api.datasource.StatementMetrics;
+import com.example.feedback_api.datasource.TimedDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * JDBC statement timing and slow-query logging
+ * Wraps the application DataSource (the bean named "dataSource", whether it is
+ * Spring Boot's pool or the read-replica routing proxy) in a TimedDataSource.
+ * Replaces spring.jpa.show-sql, which wrote every statement synchronously.
+ */
+@Configuration
+@ConditionalOnProperty(name = "feedback.sql.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class StatementMetricsConfig {
+
+    // Static so the post-processor is registered before the DataSource is created
+    @Bean
+    public static BeanPostProcessor timedDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+            Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof TimedDataSource) {
+                    return bean;
+                }
+                StatementMetrics statementMetrics = new StatementMetrics(meterRegistry,
+                        environment.getProperty("feedback.sql.slow-query-threshold-ms", Long.class, 200L),
+                        environment.getProperty("feedback.sql.metrics.max-statements", Integer.class, 500));
+                return new TimedDataSource(dataSource, statementMetrics);
+            }
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.feedback_api.controllers;
+
+import com.example.feedback_api.analytics.DistinctMemberCounter;
+import com.example.feedback_api.analytics.HeavyHitterTracker;
+import com.example.feedback_api.analytics.TrendingProviderDetector;
+import com.example.feedback_api.dtos.DistinctMembersResponse;
+import com.example.feedback_api.dtos.HeavyHittersResponse;
+import com.example.feedback_api.dtos.TrendingProvidersResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for approximate, in-memory feedback analytics
+ * Answers come from streaming sketches and never query the database
+ */
+@RestController
+@RequestMapping("/api/v1/analytics")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AnalyticsController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final HeavyHitterTracker heavyHitterTracker;
+    private final DistinctMemberCounter distinctMemberCounter;
+    private final TrendingProviderDetector trendingProviderDetector;
+
+    public AnalyticsController(HeavyHitterTracker heavyHitterTracker, DistinctMemberCounter distinctMemberCounter,
+            TrendingProviderDetector trendingProviderDetector) {
+        this.heavyHitterTracker = heavyHitterTracker;
+        this.distinctMemberCounter = distinctMemberCounter;
+        this.trendingProviderDetector = trendingProviderDetector;
+    }
+
+    @Operation(summary = "Most-reviewed providers", description = "Approximate top providers by feedback count in the sliding window, with per-entry error bounds", tags = {
+            "Analytics" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Top providers", content = @Content(mediaType = "application/json", schema = @Schema(implementation = HeavyHittersResponse.class)))
+    })
+    @GetMapping("/top-providers")
+    public ResponseEntity<HeavyHittersResponse> topProviders(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(heavyHitterTracker.topProviders(clamp(limit)));
+    }
+
+    @Operation(summary = "Most active members", description = "Approximate members submitting most often in the sliding window, with per-entry error bounds", tags = {
+            "Analytics" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Top members", content = @Content(mediaType = "application/json", schema = @Schema(implementation = HeavyHittersResponse.class)))
+    })
+    @GetMapping("/top-members")
+    public ResponseEntity<HeavyHittersResponse> topMembers(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(heavyHitterTracker.topMembers(clamp(limit)));
+    }
+
+    @Operation(summary = "Member submission frequency", description = "Approximate number of submissions by one member in the sliding window (Count-Min estimate)", tags = {
+            "Analytics" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Member frequency", content = @Content(mediaType = "application/json", schema = @Schema(implementation = HeavyHittersResponse.class)))
+    })
+    @GetMapping("/members/{memberId}/frequency")
+    public ResponseEntity<HeavyHittersResponse> memberFrequency(@PathVariable String memberId) {
+        return ResponseEntity.ok(heavyHitterTracker.memberFrequency(memberId));
+    }
+
+    @Operation(summary = "Distinct members per provider", description = "Approximate number of distinct members who rated a provider (HyperLogLog, ~1.6% standard error), over all time or the most recent calendar months", tags = {
+            "Analytics" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Distinct member estimate", content = @Content(mediaType = "application/json", schema = @Schema(implementation = DistinctMembersResponse.class)))
+    })
+    @GetMapping("/distinct-members")
+    public ResponseEntity<DistinctMembersResponse> distinctMembers(@RequestParam String providerName,
+            @RequestParam(required = false) Integer months) {
+        return ResponseEntity.ok(distinctMemberCounter.distinctMembers(providerName,
+                months == null ? null : Math.max(1, months)));
+    }
+
+    @Operation(summary = "Trending providers", description = "Providers whose recent feedback rate or average rating moved most against their baseline window, ranked by trend score", tags = {
+            "Analytics" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Trending providers", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TrendingProvidersResponse.class)))
+    })
+    @GetMapping("/trending-providers")
+    public ResponseEntity<TrendingProvidersResponse> trendingProviders(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(trendingProviderDetector.trending(clamp(limit)));
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
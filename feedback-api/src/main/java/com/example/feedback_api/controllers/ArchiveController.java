@@ -0,0 +1,69 @@
+package com.example.feedback_api.controllers;
+
+import com.example.feedback_api.archive.FeedbackArchiveJob;
+import com.example.feedback_api.dtos.ArchiveStatusResponse;
+import com.example.feedback_api.dtos.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for the cold-storage archive job
+ * Lets operators move old feedback out of the feedback table and follow progress
+ */
+@RestController
+@RequestMapping("/api/v1/admin")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ArchiveController {
+
+    private final FeedbackArchiveJob archiveJob;
+
+    public ArchiveController(FeedbackArchiveJob archiveJob) {
+        this.archiveJob = archiveJob;
+    }
+
+    @Operation(summary = "Start feedback archiving", description = "Move feedback older than the retention period into compressed archive segments and delete it from the database", tags = {
+            "Admin" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Archiving started", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArchiveStatusResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Archiving is disabled or the job is already running", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/archive")
+    public ResponseEntity<Object> startArchive() {
+        try {
+            return ResponseEntity.accepted().body(archiveJob.start());
+        } catch (IllegalStateException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    List.of(new ErrorResponse.FieldError("archive", e.getMessage())));
+            return ResponseEntity.status(409).body(errorResponse);
+        }
+    }
+
+    @Operation(summary = "Get archive status", description = "State of the current or last archive run and totals of the archive on disk", tags = {
+            "Admin" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Archive status", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArchiveStatusResponse.class)))
+    })
+    @GetMapping("/archive")
+    public ResponseEntity<ArchiveStatusResponse> getArchiveStatus() {
+        return ResponseEntity.ok(archiveJob.getStatus());
+    }
+
+    @Operation(summary = "Cancel feedback archiving", description = "Stop the running archive job after the segment in progress", tags = {
+            "Admin" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Cancellation requested")
+    })
+    @DeleteMapping("/archive")
+    public ResponseEntity<ArchiveStatusResponse> cancelArchive() {
+        archiveJob.cancel();
+        return ResponseEntity.accepted().body(archiveJob.getStatus());
+    }
+}
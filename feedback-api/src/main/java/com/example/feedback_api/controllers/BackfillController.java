@@ -0,0 +1,69 @@
+package com.example.feedback_api.controllers;
+
+import com.example.feedback_api.backfill.FeedbackBackfillJob;
+import com.example.feedback_api.dtos.BackfillStatusResponse;
+import com.example.feedback_api.dtos.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for the feedback-submitted backfill job
+ * Lets operators replay existing feedback rows into Kafka and follow progress
+ */
+@RestController
+@RequestMapping("/api/v1/admin")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BackfillController {
+
+    private final FeedbackBackfillJob backfillJob;
+
+    public BackfillController(FeedbackBackfillJob backfillJob) {
+        this.backfillJob = backfillJob;
+    }
+
+    @Operation(summary = "Start feedback backfill", description = "Replay all feedback rows into the feedback-submitted topic. Resumes an interrupted run unless restart=true", tags = {
+            "Admin" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Backfill started", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BackfillStatusResponse.class))),
+            @ApiResponse(responseCode = "409", description = "A backfill is already running", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/backfill")
+    public ResponseEntity<Object> startBackfill(@RequestParam(defaultValue = "false") boolean restart) {
+        try {
+            return ResponseEntity.accepted().body(backfillJob.start(restart));
+        } catch (IllegalStateException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    List.of(new ErrorResponse.FieldError("backfill", e.getMessage())));
+            return ResponseEntity.status(409).body(errorResponse);
+        }
+    }
+
+    @Operation(summary = "Get backfill progress", description = "State, partitions completed and events sent for the current or last backfill", tags = {
+            "Admin" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Backfill status", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BackfillStatusResponse.class)))
+    })
+    @GetMapping("/backfill")
+    public ResponseEntity<BackfillStatusResponse> getBackfillStatus() {
+        return ResponseEntity.ok(backfillJob.getStatus());
+    }
+
+    @Operation(summary = "Cancel feedback backfill", description = "Stop the running backfill after in-flight pages; progress is kept for the next start", tags = {
+            "Admin" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Cancellation requested")
+    })
+    @DeleteMapping("/backfill")
+    public ResponseEntity<BackfillStatusResponse> cancelBackfill() {
+        backfillJob.cancel();
+        return ResponseEntity.accepted().body(backfillJob.getStatus());
+    }
+}
@@ -1,37 +1,96 @@
 package com.example.feedback_api.controllers;
 
+import com.example.feedback_api.concurrency.Bulkhead;
+import com.example.feedback_api.concurrency.BulkheadFullException;
+import com.example.feedback_api.concurrency.WriteOperation;
+import com.example.feedback_api.config.BinaryFormatsConfig;
+import com.example.feedback_api.deadline.Deadline;
+import com.example.feedback_api.deadline.DeadlineExceededException;
+import com.example.feedback_api.dtos.FeedbackBatchRequest;
+import com.example.feedback_api.dtos.FeedbackBatchResponse;
 import com.example.feedback_api.dtos.FeedbackRequest;
 import com.example.feedback_api.dtos.FeedbackResponse;
 import com.example.feedback_api.dtos.ErrorResponse;
+import com.example.feedback_api.dtos.MemberFeedbackBatchRequest;
+import com.example.feedback_api.dtos.MemberFeedbackBatchResponse;
+import com.example.feedback_api.messaging.EventPublishRejectedException;
+import com.example.feedback_api.services.FeedbackRequestValidator;
 import com.example.feedback_api.services.FeedbackService;
+import com.example.feedback_api.services.IdempotencyConflictException;
+import com.example.feedback_api.services.IdempotencyService;
+import com.example.feedback_api.services.ValidatedFeedback;
 import com.example.feedback_api.services.ValidationException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
-import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * REST Controller for feedback operations
- * Handles HTTP requests and delegates business logic to FeedbackService
+ * Handles HTTP requests and delegates business logic to FeedbackService.
+ * Reads, writes and health checks each run on their own bulkhead, so the
+ * Tomcat worker is released while the work runs; a full bulkhead answers 503.
+ * Every request gets a deadline, from the X-Request-Timeout-Ms header or the
+ * endpoint's default, that bounds its JDBC statements and waits; a request
+ * still unfinished at its deadline answers 504 and its remaining work is abandoned.
  */
 @RestController
 @RequestMapping("/api/v1")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class FeedbackController {
 
+    public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+
     private final FeedbackService feedbackService;
+    private final IdempotencyService idempotencyService;
+    private final FeedbackRequestValidator feedbackRequestValidator;
     private final RestTemplate restTemplate;
+    private final Bulkhead readBulkhead;
+    private final Bulkhead writeBulkhead;
+    private final Bulkhead healthBulkhead;
+    private final long retryAfterSeconds;
+    private final long readDeadlineMs;
+    private final long writeDeadlineMs;
+    private final long healthDeadlineMs;
+    private final long maxDeadlineMs;
 
-    public FeedbackController(FeedbackService feedbackService, RestTemplate restTemplate) {
+    public FeedbackController(FeedbackService feedbackService, IdempotencyService idempotencyService,
+            FeedbackRequestValidator feedbackRequestValidator, RestTemplate restTemplate,
+            @Qualifier("readBulkhead") Bulkhead readBulkhead,
+            @Qualifier("writeBulkhead") Bulkhead writeBulkhead,
+            @Qualifier("healthBulkhead") Bulkhead healthBulkhead,
+            @Value("${feedback.bulkhead.retry-after-seconds:1}") long retryAfterSeconds,
+            @Value("${feedback.deadline.read-ms:5000}") long readDeadlineMs,
+            @Value("${feedback.deadline.write-ms:5000}") long writeDeadlineMs,
+            @Value("${feedback.deadline.health-ms:3000}") long healthDeadlineMs,
+            @Value("${feedback.deadline.max-ms:30000}") long maxDeadlineMs) {
         this.feedbackService = feedbackService;
+        this.idempotencyService = idempotencyService;
+        this.feedbackRequestValidator = feedbackRequestValidator;
         this.restTemplate = restTemplate;
+        this.readBulkhead = readBulkhead;
+        this.writeBulkhead = writeBulkhead;
+        this.healthBulkhead = healthBulkhead;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.readDeadlineMs = readDeadlineMs;
+        this.writeDeadlineMs = writeDeadlineMs;
+        this.healthDeadlineMs = healthDeadlineMs;
+        this.maxDeadlineMs = maxDeadlineMs;
     }
 
     @Operation(summary = "Health check endpoint", description = "Health status of the feedback API service", tags = {
@@ -41,7 +100,12 @@ public class FeedbackController {
             @ApiResponse(responseCode = "503", description = "API is unavailable")
     })
     @GetMapping("/health")
-    public ResponseEntity<Object> health() {
+    public CompletableFuture<ResponseEntity<Object>> health(
+            @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) Long timeoutMs) {
+        return healthBulkhead.submit(deadline(timeoutMs, healthDeadlineMs), this::checkHealth);
+    }
+
+    private ResponseEntity<Object> checkHealth() {
         try {
             // Call the local actuator health endpoint
             ResponseEntity<Object> response = restTemplate.getForEntity(
@@ -64,7 +128,12 @@ public class FeedbackController {
             @ApiResponse(responseCode = "503", description = "Analytics service is unavailable")
     })
     @GetMapping("/health/analytics")
-    public ResponseEntity<Object> analyticsHealth() {
+    public CompletableFuture<ResponseEntity<Object>> analyticsHealth(
+            @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) Long timeoutMs) {
+        return healthBulkhead.submit(deadline(timeoutMs, healthDeadlineMs), this::checkAnalyticsHealth);
+    }
+
+    private ResponseEntity<Object> checkAnalyticsHealth() {
         try {
             // Call the analytics consumer health endpoint
             // Use container name for inter-container communication
@@ -81,51 +150,175 @@ public class FeedbackController {
         }
     }
 
-    @Operation(summary = "Submit new provider feedback", description = "Create a new feedback entry for a healthcare provider", tags = {
+    @Operation(summary = "Submit new provider feedback", description = "Create a new feedback entry for a healthcare provider. "
+            + "Send an Idempotency-Key header to make retries safe: a repeated key replays the original response.", tags = {
             "Feedback Operations" })
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Feedback created successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FeedbackResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data or business rule violation", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/feedback")
-    public ResponseEntity<Object> createFeedback(
-            @RequestBody @Valid FeedbackRequest request) {
+    @WriteOperation
+    public CompletableFuture<ResponseEntity<Object>> createFeedback(
+            @RequestBody FeedbackRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) Long timeoutMs) {
 
+        ValidatedFeedback feedback;
         try {
-            // Call service to validate and save feedback
-            FeedbackResponse response = feedbackService.validateAndSave(request);
-            return ResponseEntity.status(201).body(response);
-
+            // Validate and normalize every field in one pass (no I/O, stays on the request thread)
+            feedback = feedbackRequestValidator.validate(request);
         } catch (ValidationException e) {
-            // Business validation failed - return 400 with error details
-            ErrorResponse errorResponse = new ErrorResponse(
-                    List.of(new ErrorResponse.FieldError("business", e.getMessage())));
-            return ResponseEntity.badRequest().body(errorResponse);
+            return CompletableFuture.completedFuture(badRequest(e));
         }
+
+        return writeBulkhead.submit(deadline(timeoutMs, writeDeadlineMs), () -> {
+            try {
+                // Call service to save feedback (at most once per idempotency key)
+                IdempotencyService.Result result = idempotencyService.execute(
+                        idempotencyKey, request, () -> feedbackService.save(feedback));
+                return ResponseEntity.status(201)
+                        .header("Idempotent-Replayed", String.valueOf(result.replayed()))
+                        .body(result.response());
+
+            } catch (ValidationException e) {
+                return badRequest(e);
+            }
+        });
     }
 
-    @Operation(summary = "Get feedback entries", description = "Retrieve all feedback entries, optionally filtered by member ID", tags = {
+    @Operation(summary = "Get feedback entries", description = "Retrieve all feedback entries, optionally filtered by member ID. "
+            + "Send Accept: application/cbor or application/x-jackson-smile for a compact binary encoding.", tags = {
             "Feedback Operations" })
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Feedback entries retrieved successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FeedbackResponse.class)))
     })
-    @GetMapping("/feedback")
-    public ResponseEntity<List<FeedbackResponse>> getFeedback(
-            @RequestParam(required = false) String memberId) {
+    @GetMapping(value = "/feedback", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            BinaryFormatsConfig.APPLICATION_SMILE_VALUE })
+    public CompletableFuture<ResponseEntity<List<FeedbackResponse>>> getFeedback(
+            @RequestParam(required = false) String memberId,
+            @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) Long timeoutMs) {
 
-        List<FeedbackResponse> feedback = feedbackService.getFeedback(memberId);
-        return ResponseEntity.ok(feedback);
+        return readBulkhead.submit(deadline(timeoutMs, readDeadlineMs),
+                () -> ResponseEntity.ok(feedbackService.getFeedback(memberId)));
     }
 
-    @Operation(summary = "Get individual feedback by ID", description = "Retrieve a singular feedback entry by it's UUID", tags = {
+    @Operation(summary = "Get individual feedback by ID", description = "Retrieve a singular feedback entry by it's UUID. "
+            + "Also available as CBOR or Smile via the Accept header.", tags = {
             "Feedback Operations" })
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Feedback retrieved successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FeedbackResponse.class))),
             @ApiResponse(responseCode = "404", description = "Feedback not found")
     })
-    @GetMapping("/feedback/{id}")
-    public ResponseEntity<FeedbackResponse> getFeedbackById(@PathVariable String id) {
-        FeedbackResponse feedback = feedbackService.getFeedbackById(id);
-        return ResponseEntity.ok(feedback);
+    @GetMapping(value = "/feedback/{id}", produces = { MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE })
+    public CompletableFuture<ResponseEntity<FeedbackResponse>> getFeedbackById(@PathVariable String id,
+            @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) Long timeoutMs) {
+        return readBulkhead.submit(deadline(timeoutMs, readDeadlineMs),
+                () -> ResponseEntity.ok(feedbackService.getFeedbackById(id)));
+    }
+
+    @Operation(summary = "Get feedback for several IDs", description = "Look up to "
+            + FeedbackService.MAX_BATCH_KEYS + " feedback entries by UUID with a single query. "
+            + "IDs with no feedback are listed in notFound rather than failing the request.", tags = {
+            "Feedback Operations" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch looked up", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FeedbackBatchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "No IDs, too many IDs or a malformed ID", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping(value = "/feedback/batch", produces = { MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE })
+    public CompletableFuture<ResponseEntity<Object>> getFeedbackByIds(@RequestBody FeedbackBatchRequest request,
+            @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) Long timeoutMs) {
+        return readBulkhead.submit(deadline(timeoutMs, readDeadlineMs), () -> {
+            try {
+                return ResponseEntity.ok(feedbackService.getFeedbackByIds(request.getIds()));
+            } catch (ValidationException e) {
+                return badRequest(e);
+            }
+        });
+    }
+
+    @Operation(summary = "Get feedback of several members", description = "Look up the feedback of up to "
+            + FeedbackService.MAX_BATCH_KEYS + " members with a single query, grouped per member, newest first.", tags = {
+            "Feedback Operations" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch looked up", content = @Content(mediaType = "application/json", schema = @Schema(implementation = MemberFeedbackBatchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "No member IDs, too many or a blank one", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping(value = "/feedback/members/batch", produces = { MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE })
+    public CompletableFuture<ResponseEntity<Object>> getFeedbackByMemberIds(
+            @RequestBody MemberFeedbackBatchRequest request,
+            @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) Long timeoutMs) {
+        return readBulkhead.submit(deadline(timeoutMs, readDeadlineMs), () -> {
+            try {
+                return ResponseEntity.ok(feedbackService.getFeedbackByMemberIds(request.getMemberIds()));
+            } catch (ValidationException e) {
+                return badRequest(e);
+            }
+        });
+    }
+
+    /**
+     * A bulkhead had no free worker or queue slot; nothing was started
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> bulkheadFull(BulkheadFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(new ErrorResponse(List.of(new ErrorResponse.FieldError("bulkhead", e.getMessage()))));
+    }
+
+    /**
+     * The Idempotency-Key is in use by a running request (409, retry later)
+     * or was used for a different payload (422)
+     */
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<ErrorResponse> idempotencyConflict(IdempotencyConflictException e) {
+        ErrorResponse body = new ErrorResponse(List.of(new ErrorResponse.FieldError("idempotencyKey", e.getMessage())));
+        if (e.isInProgress()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                    .body(body);
+        }
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(body);
+    }
+
+    /**
+     * The Kafka hand-off queue is full under the REJECT policy; the submission was rolled back
+     */
+    @ExceptionHandler(EventPublishRejectedException.class)
+    public ResponseEntity<ErrorResponse> eventPublishRejected(EventPublishRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(new ErrorResponse(List.of(new ErrorResponse.FieldError("events", e.getMessage()))));
+    }
+
+    /**
+     * The request's deadline passed before its work finished
+     * A statement cancelled by its query timeout surfaces as QueryTimeoutException
+     */
+    @ExceptionHandler({ DeadlineExceededException.class, QueryTimeoutException.class })
+    public ResponseEntity<ErrorResponse> deadlineExceeded(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(new ErrorResponse(List.of(new ErrorResponse.FieldError("deadline", e.getMessage()))));
+    }
+
+    /**
+     * Deadline for a request: the client's X-Request-Timeout-Ms, capped at
+     * feedback.deadline.max-ms, or the endpoint's default
+     */
+    private Deadline deadline(Long requestedMs, long defaultMs) {
+        long budgetMs = requestedMs == null || requestedMs <= 0 ? defaultMs : Math.min(requestedMs, maxDeadlineMs);
+        return Deadline.after(budgetMs);
+    }
+
+    private static ResponseEntity<Object> badRequest(ValidationException e) {
+        // Field or business validation failed - return 400 with error details
+        ErrorResponse errorResponse = new ErrorResponse(e.getFieldErrors().isEmpty()
+                ? List.of(new ErrorResponse.FieldError("business", e.getMessage()))
+                : e.getFieldErrors());
+        return ResponseEntity.badRequest().body(errorResponse);
     }
 }
@@ -0,0 +1,65 @@
+package com.example.feedback_api.controllers;
+
+import com.example.feedback_api.dtos.ErrorResponse;
+import com.example.feedback_api.dtos.FeedbackImportResponse;
+import com.example.feedback_api.imports.CsvFormatException;
+import com.example.feedback_api.imports.FeedbackImportService;
+import com.example.feedback_api.imports.ImportAlreadyRunningException;
+import com.example.feedback_api.services.ValidationException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * REST Controller for bulk feedback imports from partner CSV files
+ */
+@RestController
+@RequestMapping("/api/v1/feedback")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class FeedbackImportController {
+
+    private final FeedbackImportService importService;
+
+    public FeedbackImportController(FeedbackImportService importService) {
+        this.importService = importService;
+    }
+
+    @Operation(summary = "Import feedback from CSV", description = "Bulk-insert feedback from a CSV file with a header row: "
+            + "memberId, providerName, rating and optionally comment and submittedAt (ISO-8601). Rows are validated like "
+            + "single submissions; valid rows are imported in one transaction and invalid or duplicate rows are listed "
+            + "in the response.", tags = { "Feedback Operations" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "File processed; see rejectedRows for rows that were not imported", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FeedbackImportResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Missing file, empty file, missing required column or malformed CSV", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Another import is running", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Object> importFeedback(@RequestParam("file") MultipartFile file)
+            throws IOException, SQLException {
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(importService.importCsv(input));
+        } catch (ValidationException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getFieldErrors()));
+        } catch (CsvFormatException e) {
+            // Malformed file - the message names the line the broken record starts on
+            return ResponseEntity.badRequest()
+                    .body(new ErrorResponse(List.of(new ErrorResponse.FieldError("file", e.getMessage()))));
+        } catch (ImportAlreadyRunningException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    List.of(new ErrorResponse.FieldError("import", e.getMessage())));
+            return ResponseEntity.status(409).body(errorResponse);
+        }
+    }
+}
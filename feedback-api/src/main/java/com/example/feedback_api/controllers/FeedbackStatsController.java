@@ -0,0 +1,107 @@
+package com.example.feedback_api.controllers;
+
+import com.example.feedback_api.dtos.ErrorResponse;
+import com.example.feedback_api.dtos.FeedbackCountResponse;
+import com.example.feedback_api.dtos.ProviderRatingsResponse;
+import com.example.feedback_api.dtos.RatingHistogramResponse;
+import com.example.feedback_api.services.FeedbackStatsService;
+import com.example.feedback_api.services.ValidationException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+
+/**
+ * REST Controller for exact feedback statistics
+ * Answers come from cached SQL aggregates; no feedback rows are loaded.
+ * Time windows are [from, to) as ISO-8601 instants, either bound optional.
+ */
+@RestController
+@RequestMapping("/api/v1/feedback/stats")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class FeedbackStatsController {
+
+    private static final int MAX_PROVIDERS = 1000;
+
+    private final FeedbackStatsService feedbackStatsService;
+
+    public FeedbackStatsController(FeedbackStatsService feedbackStatsService) {
+        this.feedbackStatsService = feedbackStatsService;
+    }
+
+    @Operation(summary = "Total feedback count", description = "Number of feedback entries, optionally within a time window", tags = {
+            "Feedback Statistics" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Feedback count", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FeedbackCountResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid time window", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/count")
+    public ResponseEntity<Object> count(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        try {
+            return ResponseEntity.ok(feedbackStatsService.countFeedback(null, from, to));
+        } catch (ValidationException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getFieldErrors()));
+        }
+    }
+
+    @Operation(summary = "Feedback count of a member", description = "Number of feedback entries submitted by one member, optionally within a time window", tags = {
+            "Feedback Statistics" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Feedback count", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FeedbackCountResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid time window", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/members/{memberId}/count")
+    public ResponseEntity<Object> memberCount(@PathVariable String memberId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        try {
+            return ResponseEntity.ok(feedbackStatsService.countFeedback(memberId, from, to));
+        } catch (ValidationException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getFieldErrors()));
+        }
+    }
+
+    @Operation(summary = "Rating histogram", description = "Feedback count per rating with total and average, for all providers or one provider, optionally within a time window", tags = {
+            "Feedback Statistics" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rating histogram", content = @Content(mediaType = "application/json", schema = @Schema(implementation = RatingHistogramResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid time window", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/ratings")
+    public ResponseEntity<Object> ratings(@RequestParam(required = false) String providerName,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        try {
+            return ResponseEntity.ok(feedbackStatsService.ratingHistogram(providerName, from, to));
+        } catch (ValidationException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getFieldErrors()));
+        }
+    }
+
+    @Operation(summary = "Average rating per provider", description = "Feedback count and average rating of the most reviewed providers, optionally within a time window", tags = {
+            "Feedback Statistics" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Per-provider summaries", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProviderRatingsResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid time window", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/providers")
+    public ResponseEntity<Object> providers(@RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        try {
+            return ResponseEntity.ok(feedbackStatsService.providerRatings(
+                    Math.max(1, Math.min(limit, MAX_PROVIDERS)), from, to));
+        } catch (ValidationException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getFieldErrors()));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.feedback_api.controllers;
+
+import com.example.feedback_api.streaming.FeedbackStreamBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for the live feedback stream
+ * Pushes newly submitted feedback to clients over Server-Sent Events
+ */
+@RestController
+@RequestMapping("/api/v1")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class FeedbackStreamController {
+
+    private final FeedbackStreamBroadcaster broadcaster;
+
+    public FeedbackStreamController(FeedbackStreamBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    @Operation(summary = "Stream new feedback", description = "Server-Sent Events stream of feedback as it is submitted, optionally filtered by member ID and/or provider name", tags = {
+            "Feedback Operations" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened; events are named 'feedback' and carry a FeedbackResponse")
+    })
+    @GetMapping(value = "/feedback/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamFeedback(
+            @RequestParam(required = false) String memberId,
+            @RequestParam(required = false) String providerName) {
+
+        return broadcaster.subscribe(memberId, providerName);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.feedback_api.controllers;
+
+import com.example.feedback_api.config.BinaryFormatsConfig;
+import com.example.feedback_api.dtos.ErrorResponse;
+import com.example.feedback_api.dtos.FeedbackRequest;
+import com.example.feedback_api.dtos.FeedbackResponse;
+import com.example.feedback_api.services.FeedbackNotFoundException;
+import com.example.feedback_api.services.FeedbackRequestValidator;
+import com.example.feedback_api.services.IdempotencyConflictException;
+import com.example.feedback_api.services.IdempotencyService;
+import com.example.feedback_api.services.ReactiveFeedbackService;
+import com.example.feedback_api.services.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * WebFlux controller for feedback operations (profile "reactive")
+ * Same paths, payloads and status codes as FeedbackController; delegates to
+ * ReactiveFeedbackService so no request thread waits on the database
+ */
+@RestController
+@RequestMapping("/api/v1")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveFeedbackController {
+
+    private final ReactiveFeedbackService feedbackService;
+    private final IdempotencyService idempotencyService;
+    private final FeedbackRequestValidator feedbackRequestValidator;
+    private final long retryAfterSeconds;
+
+    public ReactiveFeedbackController(ReactiveFeedbackService feedbackService, IdempotencyService idempotencyService,
+            FeedbackRequestValidator feedbackRequestValidator,
+            @Value("${feedback.bulkhead.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.feedbackService = feedbackService;
+        this.idempotencyService = idempotencyService;
+        this.feedbackRequestValidator = feedbackRequestValidator;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @PostMapping("/feedback")
+    public Mono<ResponseEntity<Object>> createFeedback(
+            @RequestBody FeedbackRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+
+        // Validation is CPU-only; it runs on the calling thread inside the pipeline
+        return Mono.fromCallable(() -> feedbackRequestValidator.validate(request))
+                .flatMap(feedback -> idempotencyService.executeAsync(
+                        idempotencyKey, request, () -> feedbackService.save(feedback)))
+                .map(result -> ResponseEntity.status(201)
+                        .header("Idempotent-Replayed", String.valueOf(result.replayed()))
+                        .<Object>body(result.response()))
+                .onErrorResume(IdempotencyConflictException.class, e -> {
+                    // 409 while the original request runs, 422 for a key reused with another payload
+                    ErrorResponse errorResponse = new ErrorResponse(
+                            List.of(new ErrorResponse.FieldError("idempotencyKey", e.getMessage())));
+                    return Mono.just(e.isInProgress()
+                            ? ResponseEntity.status(HttpStatus.CONFLICT)
+                                    .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                                    .<Object>body(errorResponse)
+                            : ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).<Object>body(errorResponse));
+                })
+                .onErrorResume(ValidationException.class, e -> {
+                    // Field or business validation failed - return 400 with error details
+                    ErrorResponse errorResponse = new ErrorResponse(e.getFieldErrors().isEmpty()
+                            ? List.of(new ErrorResponse.FieldError("business", e.getMessage()))
+                            : e.getFieldErrors());
+                    return Mono.just(ResponseEntity.badRequest().body(errorResponse));
+                });
+    }
+
+    @GetMapping(value = "/feedback", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            BinaryFormatsConfig.APPLICATION_SMILE_VALUE })
+    public Mono<List<FeedbackResponse>> getFeedback(@RequestParam(required = false) String memberId) {
+        // Collected like the servlet build: the CBOR encoder cannot write a Flux as one array
+        return feedbackService.getFeedback(memberId).collectList();
+    }
+
+    @GetMapping(value = "/feedback/{id}", produces = { MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE })
+    public Mono<ResponseEntity<FeedbackResponse>> getFeedbackById(@PathVariable String id) {
+        return feedbackService.getFeedbackById(id)
+                .map(ResponseEntity::ok)
+                .onErrorResume(FeedbackNotFoundException.class, e -> Mono.just(ResponseEntity.notFound().build()));
+    }
+}
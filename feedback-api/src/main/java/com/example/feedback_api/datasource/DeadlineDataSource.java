@@ -0,0 +1,86 @@
+package com.example.feedback_api.datasource;
+
+import com.example.feedback_api.deadline.Deadline;
+import com.example.feedback_api.deadline.DeadlineContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * DataSource proxy that applies the current request's deadline to JDBC
+ * A connection is refused once the deadline has passed, and every statement
+ * created for a request gets a query timeout of the remaining budget (rounded
+ * up to whole seconds, the JDBC granularity), so Postgres cancels a query the
+ * client has stopped waiting for. Work without a deadline is unaffected.
+ */
+public class DeadlineDataSource extends DelegatingDataSource {
+
+    private final Counter refusedCounter;
+
+    public DeadlineDataSource(DataSource targetDataSource, MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.refusedCounter = meterRegistry.counter("feedback.deadline.exceeded", "stage", "connection");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Optional<Deadline> deadline = DeadlineContext.current();
+        if (deadline.isEmpty()) {
+            return obtainTargetDataSource().getConnection();
+        }
+        checkNotExpired(deadline.get());
+        return wrap(obtainTargetDataSource().getConnection(), deadline.get());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Optional<Deadline> deadline = DeadlineContext.current();
+        if (deadline.isEmpty()) {
+            return obtainTargetDataSource().getConnection(username, password);
+        }
+        checkNotExpired(deadline.get());
+        return wrap(obtainTargetDataSource().getConnection(username, password), deadline.get());
+    }
+
+    private void checkNotExpired(Deadline deadline) throws SQLTimeoutException {
+        if (deadline.isExpired()) {
+            refusedCounter.increment();
+            throw new SQLTimeoutException("Request deadline of " + deadline.getBudgetMillis()
+                    + " ms exceeded before the statement was sent");
+        }
+    }
+
+    private Connection wrap(Connection connection, Deadline deadline) {
+        return (Connection) Proxy.newProxyInstance(DeadlineDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("equals") && args != null && args.length == 1) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode") && args == null) {
+                        return System.identityHashCode(proxy);
+                    }
+
+                    Object result;
+                    try {
+                        result = method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (result instanceof Statement statement) {
+                        checkNotExpired(deadline);
+                        // Whole seconds, at least 1: 0 would mean no timeout
+                        statement.setQueryTimeout((int) Math.max(1, (deadline.remainingMillis() + 999) / 1000));
+                    }
+                    return result;
+                });
+    }
+}
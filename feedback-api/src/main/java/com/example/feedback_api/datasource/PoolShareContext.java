@@ -0,0 +1,42 @@
+package com.example.feedback_api.datasource;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Per-thread connection-pool share
+ * Work run inside a share draws its connections from that share's reservation
+ * in PoolShareDataSource; work outside any share (background jobs, other
+ * endpoints) draws from the rest of the pool.
+ */
+public final class PoolShareContext {
+
+    private static final ThreadLocal<String> SHARE = new ThreadLocal<>();
+
+    private PoolShareContext() {
+    }
+
+    /**
+     * Run work inside a pool share
+     *
+     * @param share share name (read, write, health)
+     * @param work  work to run
+     * @return the work's result
+     */
+    public static <T> T call(String share, Callable<T> work) throws Exception {
+        String previous = SHARE.get();
+        SHARE.set(share);
+        try {
+            return work.call();
+        } finally {
+            if (previous == null) {
+                SHARE.remove();
+            } else {
+                SHARE.set(previous);
+            }
+        }
+    }
+
+    static String current() {
+        return SHARE.get();
+    }
+}
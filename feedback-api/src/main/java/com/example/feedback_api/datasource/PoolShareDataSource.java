@@ -0,0 +1,175 @@
+package com.example.feedback_api.datasource;
+
+import com.example.feedback_api.deadline.DeadlineContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource proxy that splits one connection pool into per-share reservations
+ * A thread running inside a PoolShareContext share may hold at most that
+ * share's number of connections; further requests wait up to the timeout and
+ * then fail instead of taking connections reserved for other shares. Work
+ * outside any share (stats, analytics, SSE, imports, background jobs) draws
+ * from the default share, so with the shares summing to the pool size a burst
+ * of any kind leaves the others their connections. One connection opened while
+ * the same thread already holds one from its share (REQUIRES_NEW) is not
+ * counted, so a nested transaction cannot deadlock against its own share; any
+ * further connection on that thread waits for the share like the first.
+ */
+public class PoolShareDataSource extends DelegatingDataSource {
+
+    private final Map<String, Share> shares = new LinkedHashMap<>();
+    private final String defaultShare;
+    private final long timeoutMs;
+    // [0] connections counted against a share, [1] uncounted nested connections
+    private final ThreadLocal<int[]> heldOnThread = ThreadLocal.withInitial(() -> new int[2]);
+
+    /**
+     * @param targetDataSource the pool being shared
+     * @param connections      connections reserved per share name
+     * @param defaultShare     share for work outside any PoolShareContext share,
+     *                         or null to leave that work unlimited
+     * @param timeoutMs        how long a request waits for a connection from its share
+     * @param meterRegistry    registry for the per-share meters
+     */
+    public PoolShareDataSource(DataSource targetDataSource, Map<String, Integer> connections, String defaultShare,
+            long timeoutMs, MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.defaultShare = defaultShare;
+        this.timeoutMs = timeoutMs;
+        connections.forEach((name, size) -> shares.put(name, new Share(name, size, meterRegistry)));
+    }
+
+    /**
+     * @return connections reserved per share name
+     */
+    public Map<String, Integer> getShareSizes() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        shares.forEach((name, share) -> sizes.put(name, share.size));
+        return sizes;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(() -> obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection getConnection(ConnectionSource source) throws SQLException {
+        String shareName = PoolShareContext.current();
+        if (shareName == null) {
+            shareName = defaultShare;
+        }
+        Share share = shareName == null ? null : shares.get(shareName);
+        if (share == null) {
+            return source.open();
+        }
+        int[] held = heldOnThread.get();
+        if (held[0] > 0 && held[1] == 0) {
+            Connection connection = source.open();
+            held[1]++;
+            return wrap(connection, () -> held[1]--);
+        }
+
+        share.acquire(timeoutMs);
+        try {
+            Connection connection = source.open();
+            held[0]++;
+            return wrap(connection, () -> {
+                held[0]--;
+                share.permits.release();
+            });
+        } catch (SQLException | RuntimeException e) {
+            share.permits.release();
+            throw e;
+        }
+    }
+
+    private Connection wrap(Connection connection, Runnable onClose) {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("equals") && args != null && args.length == 1) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode") && args == null) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                        try {
+                            connection.close();
+                        } finally {
+                            onClose.run();
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection open() throws SQLException;
+    }
+
+    private static final class Share {
+        private final String name;
+        private final int size;
+        private final Semaphore permits;
+        private final Timer waitTimer;
+        private final Counter timeoutCounter;
+
+        private Share(String name, int size, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.size = size;
+            this.permits = new Semaphore(size, true);
+            this.waitTimer = meterRegistry.timer("feedback.bulkhead.connections.wait", "bulkhead", name);
+            this.timeoutCounter = meterRegistry.counter("feedback.bulkhead.connections.timeouts", "bulkhead", name);
+            Gauge.builder("feedback.bulkhead.connections.in_use", permits, semaphore -> size - semaphore.availablePermits())
+                    .tag("bulkhead", name)
+                    .register(meterRegistry);
+        }
+
+        private void acquire(long timeoutMs) throws SQLException {
+            // Never wait past the request's deadline
+            long waitMs = DeadlineContext.bound(timeoutMs);
+            long start = System.nanoTime();
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(waitMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("Interrupted waiting for a " + name + " connection");
+            }
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                timeoutCounter.increment();
+                throw new SQLTransientConnectionException("All " + size + " " + name
+                        + " connections in use; none returned within " + waitMs + " ms");
+            }
+        }
+    }
+}
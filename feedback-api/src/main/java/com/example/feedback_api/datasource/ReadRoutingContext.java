@@ -0,0 +1,43 @@
+package com.example.feedback_api.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread routing hint for read-only transactions
+ * Lets the service layer pin an individual read to the primary (e.g. for
+ * read-your-writes) even though its transaction is marked read-only.
+ * Only effective before the transaction's first statement, since that is when
+ * the lazily obtained connection is routed.
+ */
+public final class ReadRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = ThreadLocal.withInitial(() -> false);
+
+    private ReadRoutingContext() {
+    }
+
+    /**
+     * Run work, forcing it onto the primary when required
+     *
+     * @param primaryRequired true to bypass the replicas
+     * @param work            database work to run
+     * @return the work's result
+     */
+    public static <T> T onPrimaryIf(boolean primaryRequired, Supplier<T> work) {
+        if (!primaryRequired) {
+            return work.get();
+        }
+
+        boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(true);
+        try {
+            return work.get();
+        } finally {
+            PRIMARY_REQUIRED.set(previous);
+        }
+    }
+
+    static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get();
+    }
+}
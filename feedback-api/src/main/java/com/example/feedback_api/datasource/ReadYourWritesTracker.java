@@ -0,0 +1,63 @@
+package com.example.feedback_api.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Remembers members and feedback ids written within the replica staleness window
+ * Reads that concern them are sent to the primary so a member always sees their
+ * own submission, even if the replicas have not replayed it yet.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentMembers;
+    private final Cache<UUID, Boolean> recentFeedbackIds;
+
+    public ReadYourWritesTracker(
+            @Value("${feedback.datasource.read-your-writes-ms:5000}") long windowMs,
+            @Value("${feedback.datasource.read-your-writes-max-entries:100000}") long maxEntries) {
+        this.recentMembers = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(windowMs))
+                .maximumSize(maxEntries)
+                .build();
+        this.recentFeedbackIds = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(windowMs))
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * Record a successful write
+     *
+     * @param memberId   member who submitted
+     * @param feedbackId id of the new feedback
+     */
+    public void recordWrite(String memberId, UUID feedbackId) {
+        recentMembers.put(memberId, Boolean.TRUE);
+        if (feedbackId != null) {
+            recentFeedbackIds.put(feedbackId, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * @param memberId member identifier (may be null)
+     * @return true if the member wrote within the staleness window
+     */
+    public boolean memberWroteRecently(String memberId) {
+        return memberId != null && recentMembers.getIfPresent(memberId) != null;
+    }
+
+    /**
+     * @param feedbackId feedback id (may be null)
+     * @return true if the feedback was written within the staleness window
+     */
+    public boolean feedbackWrittenRecently(UUID feedbackId) {
+        return feedbackId != null && recentFeedbackIds.getIfPresent(feedbackId) != null;
+    }
+}
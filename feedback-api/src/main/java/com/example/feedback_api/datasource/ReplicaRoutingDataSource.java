@@ -0,0 +1,144 @@
+package com.example.feedback_api.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource that sends read-only transactions to replica pools
+ * Must sit behind a LazyConnectionDataSourceProxy so that the connection is
+ * obtained at the first statement, after Spring has marked the transaction
+ * read-only. Replicas are chosen round-robin among healthy ones; a background
+ * check ejects replicas that fail to connect or lag beyond the limit, and brings
+ * them back once they recover. With no healthy replica, reads go to the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    // 0 when the replica has replayed everything it received (or is not a standby at all)
+    private static final String LAG_QUERY = "SELECT COALESCE(CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() "
+            + "THEN 0 ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END, 0)";
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMs;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicaPools,
+            long maxLagMs, long healthCheckIntervalMs, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.maxLagMs = maxLagMs;
+
+        this.primaryCounter = meterRegistry.counter("feedback.datasource.routed", "target", "primary");
+        this.replicaCounter = meterRegistry.counter("feedback.datasource.routed", "target", "replica");
+        meterRegistry.gauge("feedback.datasource.replicas.healthy", replicas,
+                list -> list.stream().filter(replica -> replica.healthy).count());
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.healthChecker.scheduleWithFixedDelay(this::checkReplicas,
+                healthCheckIntervalMs, healthCheckIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReadRoutingContext.isPrimaryRequired()) {
+            Connection replicaConnection = replicaConnection();
+            if (replicaConnection != null) {
+                replicaCounter.increment();
+                return replicaConnection;
+            }
+        }
+        primaryCounter.increment();
+        return primary.getConnection();
+    }
+
+    // Explicit credentials are not routed; the primary pool decides whether it accepts them
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        primaryCounter.increment();
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        replicas.forEach(replica -> replica.pool.close());
+        primary.close();
+    }
+
+    private Connection replicaConnection() {
+        int count = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), count);
+        for (int i = 0; i < count; i++) {
+            Replica replica = replicas.get((start + i) % count);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.pool.getConnection();
+            } catch (SQLException e) {
+                eject(replica, e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection();
+                    Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                double lagMs = resultSet.getDouble(1);
+                if (lagMs > maxLagMs) {
+                    eject(replica, "replication lag " + Math.round(lagMs) + " ms");
+                } else if (!replica.healthy) {
+                    replica.healthy = true;
+                    logger.info("Replica pool {} is healthy again; resuming reads", replica.pool.getPoolName());
+                }
+            } catch (SQLException | RuntimeException e) {
+                eject(replica, e.getMessage());
+            }
+        }
+    }
+
+    private void eject(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            logger.warn("Ejecting replica pool {} from read rotation: {}", replica.pool.getPoolName(), reason);
+        }
+    }
+
+    private static final class Replica {
+        private final HikariDataSource pool;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+    }
+}
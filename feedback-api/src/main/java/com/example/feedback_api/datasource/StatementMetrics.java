@@ -0,0 +1,123 @@
+package com.example.feedback_api.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Per-statement latency histograms and slow-query logging
+ * Each distinct SQL string gets a timer tagged with a short statement id
+ * (operation, table and a hash of the SQL), capped at a fixed number of
+ * statements so ad-hoc SQL cannot explode metric cardinality. Statements at
+ * or above the threshold are logged with their bind-parameter types and row
+ * count; parameter values are never logged.
+ */
+public class StatementMetrics {
+
+    private static final Logger slowQueryLogger = LoggerFactory.getLogger("com.example.feedback_api.sql.SlowQuery");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TABLE = Pattern.compile("(?i)\\b(?:from|into|update)\\s+([\\w.]+)");
+    private static final int MAX_LOGGED_SQL_LENGTH = 1000;
+    private static final String OTHER = "other";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final long slowThresholdNanos;
+    private final int maxStatements;
+    private final Map<String, Timer> timersBySql = new ConcurrentHashMap<>();
+    private volatile Timer otherTimer;
+
+    public StatementMetrics(ObjectProvider<MeterRegistry> meterRegistry, long slowThresholdMs, int maxStatements) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.maxStatements = maxStatements;
+    }
+
+    /**
+     * Record one statement execution
+     *
+     * @param sql          SQL as prepared
+     * @param elapsedNanos execution time
+     */
+    void record(String sql, long elapsedNanos) {
+        timer(sql).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param elapsedNanos execution time
+     * @return true if the execution should be logged as slow
+     */
+    boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= slowThresholdNanos;
+    }
+
+    /**
+     * Log a slow statement
+     *
+     * @param sql          SQL as prepared
+     * @param parameters   bind-parameter types, e.g. [1:String, 2:Integer]
+     * @param elapsedNanos execution time
+     * @param rows         rows returned or affected, or -1 if unknown
+     */
+    void logSlow(String sql, String parameters, long elapsedNanos, long rows) {
+        String collapsed = WHITESPACE.matcher(sql).replaceAll(" ").trim();
+        if (collapsed.length() > MAX_LOGGED_SQL_LENGTH) {
+            collapsed = collapsed.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+        }
+        slowQueryLogger.warn("Slow statement [{}] took {} ms, rows={}, params={}: {}",
+                statementId(sql),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                rows < 0 ? "?" : rows,
+                parameters,
+                collapsed);
+    }
+
+    private Timer timer(String sql) {
+        Timer timer = timersBySql.get(sql);
+        if (timer != null) {
+            return timer;
+        }
+        if (timersBySql.size() >= maxStatements) {
+            return other();
+        }
+        return timersBySql.computeIfAbsent(sql, key -> newTimer(statementId(key)));
+    }
+
+    private Timer other() {
+        Timer timer = otherTimer;
+        if (timer == null) {
+            timer = newTimer(OTHER);
+            otherTimer = timer;
+        }
+        return timer;
+    }
+
+    private Timer newTimer(String statementId) {
+        return Timer.builder("feedback.jdbc.statement")
+                .description("JDBC statement execution time")
+                .tag("statement", statementId)
+                .publishPercentileHistogram()
+                .register(meterRegistry.getObject());
+    }
+
+    /**
+     * Short, stable identifier for a SQL string, e.g. "select feedback 1a2b3c4d"
+     */
+    static String statementId(String sql) {
+        String collapsed = WHITESPACE.matcher(sql).replaceAll(" ").trim();
+        int firstSpace = collapsed.indexOf(' ');
+        String operation = (firstSpace < 0 ? collapsed : collapsed.substring(0, firstSpace)).toLowerCase(Locale.ROOT);
+        Matcher table = TABLE.matcher(collapsed);
+        String tableName = table.find() ? " " + table.group(1).toLowerCase(Locale.ROOT) : "";
+        return operation + tableName + " " + String.format("%08x", collapsed.hashCode());
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.feedback_api.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * DataSource proxy that times every JDBC statement
+ * Connections, statements and result sets are wrapped in JDK dynamic proxies;
+ * execute* calls are timed into StatementMetrics. For queries, the slow-query
+ * log entry is written when the result set (or statement) is closed, so it
+ * can include the number of rows actually read.
+ */
+public class TimedDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final StatementMetrics statementMetrics;
+
+    public TimedDataSource(DataSource targetDataSource, StatementMetrics statementMetrics) {
+        super(targetDataSource);
+        this.statementMetrics = statementMetrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                String sql = STATEMENT_FACTORIES.contains(method.getName()) ? (String) args[0] : null;
+                return wrapStatement(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private Statement wrapStatement(Statement statement, String preparedSql) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                        : Statement.class;
+        return proxy(type, new StatementHandler(statement, preparedSql));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        // Proxies are compared by identity, like the driver objects they stand in for
+        InvocationHandler identityAware = (proxy, method, args) -> {
+            if (method.getName().equals("equals") && args != null && args.length == 1) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode") && args == null) {
+                return System.identityHashCode(proxy);
+            }
+            return handler.invoke(proxy, method, args);
+        };
+        return (T) Proxy.newProxyInstance(TimedDataSource.class.getClassLoader(), new Class<?>[] { type },
+                identityAware);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Times executions and tracks bind-parameter types for one statement
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final Map<Integer, String> parameterTypes = new TreeMap<>();
+        private int batchSize;
+        private PendingQuery pendingQuery;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameterTypes.put(index, parameterType(name, args[1]));
+            } else if (name.equals("addBatch") && preparedSql != null) {
+                batchSize++;
+            } else if (name.equals("clearParameters")) {
+                parameterTypes.clear();
+            } else if (name.equals("close")) {
+                finishPendingQuery();
+            }
+
+            if (!EXECUTE_METHODS.contains(name)) {
+                return TimedDataSource.invoke(target, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            long start = System.nanoTime();
+            Object result = TimedDataSource.invoke(target, method, args);
+            long elapsed = System.nanoTime() - start;
+            if (sql == null) {
+                return result;
+            }
+            statementMetrics.record(sql, elapsed);
+
+            if (result instanceof ResultSet resultSet) {
+                finishPendingQuery();
+                pendingQuery = new PendingQuery(sql, describeParameters(), elapsed);
+                return wrapResultSet(resultSet, pendingQuery);
+            }
+            if (statementMetrics.isSlow(elapsed)) {
+                statementMetrics.logSlow(sql, describeParameters(), elapsed, rowCount(result));
+            }
+            if (name.endsWith("Batch")) {
+                batchSize = 0;
+            }
+            return result;
+        }
+
+        private ResultSet wrapResultSet(ResultSet resultSet, PendingQuery query) {
+            return proxy(ResultSet.class, (proxy, method, args) -> {
+                Object result = TimedDataSource.invoke(resultSet, method, args);
+                if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                    query.rows++;
+                } else if (method.getName().equals("close")) {
+                    query.finish();
+                }
+                return result;
+            });
+        }
+
+        private void finishPendingQuery() {
+            if (pendingQuery != null) {
+                pendingQuery.finish();
+                pendingQuery = null;
+            }
+        }
+
+        private String describeParameters() {
+            String parameters = parameterTypes.isEmpty() ? "[]" : parameterTypes.entrySet().stream()
+                    .map(entry -> entry.getKey() + ":" + entry.getValue())
+                    .toList()
+                    .toString();
+            return batchSize > 0 ? parameters + " x" + batchSize : parameters;
+        }
+
+        private long rowCount(Object result) throws SQLException {
+            if (result instanceof Integer count) {
+                return count;
+            }
+            if (result instanceof Long count) {
+                return count;
+            }
+            if (result instanceof int[] counts) {
+                long total = 0;
+                for (int count : counts) {
+                    total += Math.max(count, 0);
+                }
+                return total;
+            }
+            if (result instanceof long[] counts) {
+                long total = 0;
+                for (long count : counts) {
+                    total += Math.max(count, 0);
+                }
+                return total;
+            }
+            // execute(): false means an update count is available
+            return Boolean.FALSE.equals(result) ? target.getUpdateCount() : -1;
+        }
+
+        private static String parameterType(String setter, Object value) {
+            if (setter.equals("setNull") || value == null) {
+                return "null";
+            }
+            if (setter.equals("setObject")) {
+                return value.getClass().getSimpleName();
+            }
+            return setter.substring(3);
+        }
+    }
+
+    /**
+     * A query whose slow-log entry waits until its rows have been read
+     */
+    private final class PendingQuery {
+
+        private final String sql;
+        private final String parameters;
+        private final long elapsedNanos;
+        private long rows;
+        private boolean finished;
+
+        private PendingQuery(String sql, String parameters, long elapsedNanos) {
+            this.sql = sql;
+            this.parameters = parameters;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        private void finish() {
+            if (!finished) {
+                finished = true;
+                if (statementMetrics.isSlow(elapsedNanos)) {
+                    statementMetrics.logSlow(sql, parameters, elapsedNanos, rows);
+                }
+            }
+        }
+    }
+}
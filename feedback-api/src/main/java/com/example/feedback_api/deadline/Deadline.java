@@ -0,0 +1,66 @@
+package com.example.feedback_api.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point in time by which a request must be finished
+ * Measured on the monotonic clock. Created once per request and carried
+ * through the call chain by DeadlineContext.
+ */
+public final class Deadline {
+
+    private final long expiresAtNanos;
+    private final long budgetMs;
+
+    private Deadline(long expiresAtNanos, long budgetMs) {
+        this.expiresAtNanos = expiresAtNanos;
+        this.budgetMs = budgetMs;
+    }
+
+    /**
+     * @param millis budget from now
+     * @return deadline that expires after the budget
+     */
+    public static Deadline after(long millis) {
+        return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis), millis);
+    }
+
+    /**
+     * @return milliseconds left, 0 once expired
+     */
+    public long remainingMillis() {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - System.nanoTime()));
+    }
+
+    /**
+     * @return true once the deadline has passed
+     */
+    public boolean isExpired() {
+        return System.nanoTime() - expiresAtNanos >= 0;
+    }
+
+    /**
+     * Abort if the deadline has passed
+     *
+     * @param stage what was about to start, for the error message
+     * @throws DeadlineExceededException if expired
+     */
+    public void check(String stage) {
+        if (isExpired()) {
+            throw new DeadlineExceededException(
+                    "Request deadline of " + budgetMs + " ms exceeded before " + stage);
+        }
+    }
+
+    /**
+     * @return the budget the deadline was created with
+     */
+    public long getBudgetMillis() {
+        return budgetMs;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{budgetMs=" + budgetMs + ", remainingMs=" + remainingMillis() + "}";
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.feedback_api.deadline;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * Per-thread request deadline
+ * Set by Bulkhead around a request's work; read wherever the request may
+ * wait (JDBC statements, pool shares, coalesced reads, idempotent replays)
+ * so that the wait is bounded by what is left of the budget. Work outside a
+ * request (background jobs) has no deadline.
+ */
+public final class DeadlineContext {
+
+    private static final ThreadLocal<Deadline> DEADLINE = new ThreadLocal<>();
+
+    private DeadlineContext() {
+    }
+
+    /**
+     * Run work under a deadline
+     *
+     * @param deadline deadline to apply, or null for none
+     * @param work     work to run
+     * @return the work's result
+     */
+    public static <T> T call(Deadline deadline, Callable<T> work) throws Exception {
+        Deadline previous = DEADLINE.get();
+        DEADLINE.set(deadline);
+        try {
+            return work.call();
+        } finally {
+            if (previous == null) {
+                DEADLINE.remove();
+            } else {
+                DEADLINE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return the current thread's deadline, if it is serving a request
+     */
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(DEADLINE.get());
+    }
+
+    /**
+     * Abort if the current request's deadline has passed
+     *
+     * @param stage what was about to start, for the error message
+     * @throws DeadlineExceededException if expired
+     */
+    public static void check(String stage) {
+        Deadline deadline = DEADLINE.get();
+        if (deadline != null) {
+            deadline.check(stage);
+        }
+    }
+
+    /**
+     * Shorten a wait to what is left of the current deadline
+     *
+     * @param millis configured wait
+     * @return the smaller of the wait and the remaining budget
+     */
+    public static long bound(long millis) {
+        Deadline deadline = DEADLINE.get();
+        return deadline == null ? millis : Math.min(millis, deadline.remainingMillis());
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.feedback_api.deadline;
+
+/**
+ * Exception thrown when a request's deadline passes before its work is done
+ * Results in HTTP 504 Gateway Timeout; the remaining work is abandoned
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
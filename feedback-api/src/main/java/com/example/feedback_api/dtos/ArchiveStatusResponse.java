@@ -0,0 +1,120 @@
+package com.example.feedback_api.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+
+/**
+ * Response DTO describing the cold-storage archive and its job
+ * Returned by the admin archive endpoints
+ */
+@Schema(description = "State of the feedback archive job and the archive on disk")
+public class ArchiveStatusResponse {
+
+    @Schema(description = "Job state", example = "RUNNING", allowableValues = { "IDLE", "RUNNING", "COMPLETED",
+            "CANCELLED", "FAILED" })
+    private String state;
+
+    @Schema(description = "Feedback submitted before this instant is moved by the current or last run", example = "2024-11-10T00:00:00Z")
+    private Instant cutoff;
+
+    @Schema(description = "Rows moved to the archive by the current or last run", example = "150000")
+    private long rowsArchived;
+
+    @Schema(description = "Segment files in the archive", example = "12")
+    private int segments;
+
+    @Schema(description = "Rows stored across all segment files", example = "600000")
+    private long archivedRows;
+
+    @Schema(description = "When the current or last run started", example = "2025-11-10T20:23:00Z")
+    private Instant startedAt;
+
+    @Schema(description = "Failure reason when state is FAILED")
+    private String error;
+
+    // Default constructor for Jackson
+    public ArchiveStatusResponse() {
+    }
+
+    // Constructor for building responses
+    public ArchiveStatusResponse(String state, Instant cutoff, long rowsArchived, int segments, long archivedRows,
+            Instant startedAt, String error) {
+        this.state = state;
+        this.cutoff = cutoff;
+        this.rowsArchived = rowsArchived;
+        this.segments = segments;
+        this.archivedRows = archivedRows;
+        this.startedAt = startedAt;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public Instant getCutoff() {
+        return cutoff;
+    }
+
+    public void setCutoff(Instant cutoff) {
+        this.cutoff = cutoff;
+    }
+
+    public long getRowsArchived() {
+        return rowsArchived;
+    }
+
+    public void setRowsArchived(long rowsArchived) {
+        this.rowsArchived = rowsArchived;
+    }
+
+    public int getSegments() {
+        return segments;
+    }
+
+    public void setSegments(int segments) {
+        this.segments = segments;
+    }
+
+    public long getArchivedRows() {
+        return archivedRows;
+    }
+
+    public void setArchivedRows(long archivedRows) {
+        this.archivedRows = archivedRows;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    @Override
+    public String toString() {
+        return "ArchiveStatusResponse{" +
+                "state='" + state + '\'' +
+                ", cutoff=" + cutoff +
+                ", rowsArchived=" + rowsArchived +
+                ", segments=" + segments +
+                ", archivedRows=" + archivedRows +
+                ", startedAt=" + startedAt +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
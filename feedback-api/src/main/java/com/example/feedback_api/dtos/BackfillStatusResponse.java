@@ -0,0 +1,107 @@
+package com.example.feedback_api.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+
+/**
+ * Response DTO describing the backfill job's progress
+ * Returned by the admin backfill endpoints
+ */
+@Schema(description = "Progress of the feedback-submitted backfill job")
+public class BackfillStatusResponse {
+
+    @Schema(description = "Job state", example = "RUNNING", allowableValues = { "IDLE", "RUNNING", "COMPLETED",
+            "CANCELLED", "FAILED" })
+    private String state;
+
+    @Schema(description = "Number of key-range partitions", example = "16")
+    private int partitions;
+
+    @Schema(description = "Partitions fully replayed", example = "5")
+    private int partitionsCompleted;
+
+    @Schema(description = "Events acknowledged by Kafka so far, including earlier interrupted runs", example = "1250000")
+    private long eventsSent;
+
+    @Schema(description = "When the current or last run started", example = "2025-11-10T20:23:00Z")
+    private Instant startedAt;
+
+    @Schema(description = "Failure reason when state is FAILED")
+    private String error;
+
+    // Default constructor for Jackson
+    public BackfillStatusResponse() {
+    }
+
+    // Constructor for building responses
+    public BackfillStatusResponse(String state, int partitions, int partitionsCompleted, long eventsSent,
+            Instant startedAt, String error) {
+        this.state = state;
+        this.partitions = partitions;
+        this.partitionsCompleted = partitionsCompleted;
+        this.eventsSent = eventsSent;
+        this.startedAt = startedAt;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    public void setPartitions(int partitions) {
+        this.partitions = partitions;
+    }
+
+    public int getPartitionsCompleted() {
+        return partitionsCompleted;
+    }
+
+    public void setPartitionsCompleted(int partitionsCompleted) {
+        this.partitionsCompleted = partitionsCompleted;
+    }
+
+    public long getEventsSent() {
+        return eventsSent;
+    }
+
+    public void setEventsSent(long eventsSent) {
+        this.eventsSent = eventsSent;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    @Override
+    public String toString() {
+        return "BackfillStatusResponse{" +
+                "state='" + state + '\'' +
+                ", partitions=" + partitions +
+                ", partitionsCompleted=" + partitionsCompleted +
+                ", eventsSent=" + eventsSent +
+                ", startedAt=" + startedAt +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
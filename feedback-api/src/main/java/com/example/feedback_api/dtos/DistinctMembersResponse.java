@@ -0,0 +1,80 @@
+package com.example.feedback_api.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+/**
+ * Response DTO for the approximate distinct-member count of a provider
+ */
+@Schema(description = "Approximate number of distinct members who rated a provider")
+public class DistinctMembersResponse {
+
+    @Schema(description = "Provider name as requested", example = "Dr. Sarah Johnson")
+    private String providerName;
+
+    @Schema(description = "Estimated number of distinct members", example = "1842")
+    private long distinctMembers;
+
+    @Schema(description = "Relative standard error of the estimate", example = "0.01625")
+    private double standardError;
+
+    @Schema(description = "First day of the earliest month included, or null for all time", example = "2025-01-01")
+    private LocalDate since;
+
+    // Default constructor for Jackson
+    public DistinctMembersResponse() {
+    }
+
+    // Constructor for building responses
+    public DistinctMembersResponse(String providerName, long distinctMembers, double standardError,
+            LocalDate since) {
+        this.providerName = providerName;
+        this.distinctMembers = distinctMembers;
+        this.standardError = standardError;
+        this.since = since;
+    }
+
+    // Getters and Setters
+    public String getProviderName() {
+        return providerName;
+    }
+
+    public void setProviderName(String providerName) {
+        this.providerName = providerName;
+    }
+
+    public long getDistinctMembers() {
+        return distinctMembers;
+    }
+
+    public void setDistinctMembers(long distinctMembers) {
+        this.distinctMembers = distinctMembers;
+    }
+
+    public double getStandardError() {
+        return standardError;
+    }
+
+    public void setStandardError(double standardError) {
+        this.standardError = standardError;
+    }
+
+    public LocalDate getSince() {
+        return since;
+    }
+
+    public void setSince(LocalDate since) {
+        this.since = since;
+    }
+
+    @Override
+    public String toString() {
+        return "DistinctMembersResponse{" +
+                "providerName='" + providerName + '\'' +
+                ", distinctMembers=" + distinctMembers +
+                ", standardError=" + standardError +
+                ", since=" + since +
+                '}';
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.feedback_api.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Request DTO for looking up several feedback entries by ID
+ * Maps to POST /api/v1/feedback/batch request body
+ */
+@Schema(description = "Feedback IDs to look up in one request")
+public class FeedbackBatchRequest {
+
+    @Schema(description = "Feedback IDs; repeated IDs are looked up once", example = "[\"550e8400-e29b-41d4-a716-446655440000\"]", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<String> ids;
+
+    // Default constructor for Jackson
+    public FeedbackBatchRequest() {
+    }
+
+    // Constructor for testing
+    public FeedbackBatchRequest(List<String> ids) {
+        this.ids = ids;
+    }
+
+    // Getters and Setters
+    public List<String> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<String> ids) {
+        this.ids = ids;
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackBatchRequest{" +
+                "ids=" + ids +
+                '}';
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.feedback_api.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response DTO for a batch lookup of feedback by ID
+ * Found entries are keyed by ID in request order; IDs that matched nothing
+ * are listed separately instead of failing the whole request
+ */
+@Schema(description = "Feedback entries found for a batch of IDs")
+public class FeedbackBatchResponse {
+
+    @Schema(description = "Found feedback keyed by ID, in request order")
+    private Map<String, FeedbackResponse> feedback;
+
+    @Schema(description = "Requested IDs with no feedback", example = "[]")
+    private List<String> notFound;
+
+    // Default constructor for Jackson
+    public FeedbackBatchResponse() {
+    }
+
+    // Constructor for building responses
+    public FeedbackBatchResponse(Map<String, FeedbackResponse> feedback, List<String> notFound) {
+        this.feedback = feedback;
+        this.notFound = notFound;
+    }
+
+    // Getters and Setters
+    public Map<String, FeedbackResponse> getFeedback() {
+        return feedback;
+    }
+
+    public void setFeedback(Map<String, FeedbackResponse> feedback) {
+        this.feedback = feedback;
+    }
+
+    public List<String> getNotFound() {
+        return notFound;
+    }
+
+    public void setNotFound(List<String> notFound) {
+        this.notFound = notFound;
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackBatchResponse{" +
+                "found=" + (feedback == null ? 0 : feedback.size()) +
+                ", notFound=" + notFound +
+                '}';
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.feedback_api.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * Response DTO for feedback counts, overall or for one member
+ */
+@Schema(description = "Number of feedback entries, optionally restricted to a member and a time window")
+public class FeedbackCountResponse {
+
+    @Schema(description = "Member the count is restricted to, or null for all members", example = "m-123456")
+    private String memberId;
+
+    @Schema(description = "Number of feedback entries", example = "5120")
+    private long count;
+
+    @Schema(description = "Inclusive start of the time window, or null for unbounded", example = "2025-11-01T00:00:00Z")
+    private Instant from;
+
+    @Schema(description = "Exclusive end of the time window, or null for unbounded", example = "2025-12-01T00:00:00Z")
+    private Instant to;
+
+    // Default constructor for Jackson
+    public FeedbackCountResponse() {
+    }
+
+    // Constructor for building responses
+    public FeedbackCountResponse(String memberId, long count, Instant from, Instant to) {
+        this.memberId = memberId;
+        this.count = count;
+        this.from = from;
+        this.to = to;
+    }
+
+    // Getters and Setters
+    public String getMemberId() {
+        return memberId;
+    }
+
+    public void setMemberId(String memberId) {
+        this.memberId = memberId;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public Instant getFrom() {
+        return from;
+    }
+
+    public void setFrom(Instant from) {
+        this.from = from;
+    }
+
+    public Instant getTo() {
+        return to;
+    }
+
+    public void setTo(Instant to) {
+        this.to = to;
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackCountResponse{" +
+                "memberId='" + memberId + '\'' +
+                ", count=" + count +
+                ", from=" + from +
+                ", to=" + to +
+                '}';
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.feedback_api.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * Response DTO for a CSV feedback import
+ * Counts every data row of the file and lists the rejected ones with the
+ * same per-field errors a single submission would get
+ */
+@Schema(description = "Outcome of a CSV feedback import")
+public class FeedbackImportResponse {
+
+    @Schema(description = "Data rows read from the file (header excluded)", example = "250000")
+    private long rowsRead;
+
+    @Schema(description = "Rows inserted as new feedback", example = "248731")
+    private long rowsImported;
+
+    @Schema(description = "Rows rejected by validation or as duplicates", example = "1269")
+    private long rowsRejected;
+
+    @Schema(description = "feedback-submitted events acknowledged by Kafka for the imported rows", example = "248731")
+    private long eventsPublished;
+
+    @Schema(description = "Rejected rows in file order, up to the report limit")
+    private List<RejectedRow> rejectedRows;
+
+    @Schema(description = "Whether more rows were rejected than are listed", example = "false")
+    private boolean rejectedRowsTruncated;
+
+    // Default constructor for Jackson
+    public FeedbackImportResponse() {
+    }
+
+    // Constructor for building responses
+    public FeedbackImportResponse(long rowsRead, long rowsImported, long rowsRejected, long eventsPublished,
+            List<RejectedRow> rejectedRows, boolean rejectedRowsTruncated) {
+        this.rowsRead = rowsRead;
+        this.rowsImported = rowsImported;
+        this.rowsRejected = rowsRejected;
+        this.eventsPublished = eventsPublished;
+        this.rejectedRows = rejectedRows;
+        this.rejectedRowsTruncated = rejectedRowsTruncated;
+    }
+
+    // Getters and Setters
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public void setRowsRead(long rowsRead) {
+        this.rowsRead = rowsRead;
+    }
+
+    public long getRowsImported() {
+        return rowsImported;
+    }
+
+    public void setRowsImported(long rowsImported) {
+        this.rowsImported = rowsImported;
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected;
+    }
+
+    public void setRowsRejected(long rowsRejected) {
+        this.rowsRejected = rowsRejected;
+    }
+
+    public long getEventsPublished() {
+        return eventsPublished;
+    }
+
+    public void setEventsPublished(long eventsPublished) {
+        this.eventsPublished = eventsPublished;
+    }
+
+    public List<RejectedRow> getRejectedRows() {
+        return rejectedRows;
+    }
+
+    public void setRejectedRows(List<RejectedRow> rejectedRows) {
+        this.rejectedRows = rejectedRows;
+    }
+
+    public boolean isRejectedRowsTruncated() {
+        return rejectedRowsTruncated;
+    }
+
+    public void setRejectedRowsTruncated(boolean rejectedRowsTruncated) {
+        this.rejectedRowsTruncated = rejectedRowsTruncated;
+    }
+
+    /**
+     * A row that was not imported
+     */
+    @Schema(description = "A rejected CSV row and why it was rejected")
+    public static class RejectedRow {
+
+        @Schema(description = "Line of the file the row starts on (the header is line 1)", example = "1042")
+        private long line;
+
+        @Schema(description = "Reasons, per field where applicable")
+        private List<ErrorResponse.FieldError> errors;
+
+        // Default constructor
+        public RejectedRow() {
+        }
+
+        // Constructor
+        public RejectedRow(long line, List<ErrorResponse.FieldError> errors) {
+            this.line = line;
+            this.errors = errors;
+        }
+
+        // Getters and Setters
+        public long getLine() {
+            return line;
+        }
+
+        public void setLine(long line) {
+            this.line = line;
+        }
+
+        public List<ErrorResponse.FieldError> getErrors() {
+            return errors;
+        }
+
+        public void setErrors(List<ErrorResponse.FieldError> errors) {
+            this.errors = errors;
+        }
+
+        @Override
+        public String toString() {
+            return "RejectedRow{" +
+                    "line=" + line +
+                    ", errors=" + errors +
+                    '}';
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackImportResponse{" +
+                "rowsRead=" + rowsRead +
+                ", rowsImported=" + rowsImported +
+                ", rowsRejected=" + rowsRejected +
+                ", eventsPublished=" + eventsPublished +
+                ", rejectedRowsTruncated=" + rejectedRowsTruncated +
+                '}';
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.feedback_api.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * Response DTO for approximate top-k / frequency queries
+ * Counts come from in-memory streaming sketches, not from the database
+ */
+@Schema(description = "Approximate most frequent keys within a sliding time window")
+public class HeavyHittersResponse {
+
+    @Schema(description = "Length of the sliding window in seconds", example = "3600")
+    private long windowSeconds;
+
+    @Schema(description = "Total feedback submissions observed in the window", example = "5120")
+    private long totalCount;
+
+    @Schema(description = "Keys ordered by descending estimated count")
+    private List<Entry> entries;
+
+    // Default constructor for Jackson
+    public HeavyHittersResponse() {
+    }
+
+    // Constructor for building responses
+    public HeavyHittersResponse(long windowSeconds, long totalCount, List<Entry> entries) {
+        this.windowSeconds = windowSeconds;
+        this.totalCount = totalCount;
+        this.entries = entries;
+    }
+
+    // Getters and Setters
+    public long getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    public void setWindowSeconds(long windowSeconds) {
+        this.windowSeconds = windowSeconds;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(long totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * A single approximate count
+     * The true count lies in [estimatedCount - maxError, estimatedCount]
+     */
+    @Schema(description = "Approximate count for one provider or member")
+    public static class Entry {
+
+        @Schema(description = "Provider name or member ID", example = "Dr. Sarah Johnson")
+        private String key;
+
+        @Schema(description = "Estimated count (never below the true count)", example = "312")
+        private long estimatedCount;
+
+        @Schema(description = "Maximum amount by which the estimate may exceed the true count", example = "4")
+        private long maxError;
+
+        // Default constructor
+        public Entry() {
+        }
+
+        // Constructor
+        public Entry(String key, long estimatedCount, long maxError) {
+            this.key = key;
+            this.estimatedCount = estimatedCount;
+            this.maxError = maxError;
+        }
+
+        // Getters and Setters
+        public String getKey() {
+            return key;
+        }
+
+        public void setKey(String key) {
+            this.key = key;
+        }
+
+        public long getEstimatedCount() {
+            return estimatedCount;
+        }
+
+        public void setEstimatedCount(long estimatedCount) {
+            this.estimatedCount = estimatedCount;
+        }
+
+        public long getMaxError() {
+            return maxError;
+        }
+
+        public void setMaxError(long maxError) {
+            this.maxError = maxError;
+        }
+
+        @Override
+        public String toString() {
+            return "Entry{" +
+                    "key='" + key + '\'' +
+                    ", estimatedCount=" + estimatedCount +
+                    ", maxError=" + maxError +
+                    '}';
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HeavyHittersResponse{" +
+                "windowSeconds=" + windowSeconds +
+                ", totalCount=" + totalCount +
+                ", entries=" + entries +
+                '}';
+    }
+}
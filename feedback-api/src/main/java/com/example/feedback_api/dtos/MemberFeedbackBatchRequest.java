@@ -0,0 +1,41 @@
+package com.example.feedback_api.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Request DTO for looking up the feedback of several members
+ * Maps to POST /api/v1/feedback/members/batch request body
+ */
+@Schema(description = "Member IDs whose feedback to look up in one request")
+public class MemberFeedbackBatchRequest {
+
+    @Schema(description = "Member IDs; repeated IDs are looked up once", example = "[\"m-123456\", \"m-654321\"]", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<String> memberIds;
+
+    // Default constructor for Jackson
+    public MemberFeedbackBatchRequest() {
+    }
+
+    // Constructor for testing
+    public MemberFeedbackBatchRequest(List<String> memberIds) {
+        this.memberIds = memberIds;
+    }
+
+    // Getters and Setters
+    public List<String> getMemberIds() {
+        return memberIds;
+    }
+
+    public void setMemberIds(List<String> memberIds) {
+        this.memberIds = memberIds;
+    }
+
+    @Override
+    public String toString() {
+        return "MemberFeedbackBatchRequest{" +
+                "memberIds=" + memberIds +
+                '}';
+    }
+}
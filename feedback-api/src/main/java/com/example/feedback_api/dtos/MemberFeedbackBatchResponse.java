@@ -0,0 +1,42 @@
+package com.example.feedback_api.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response DTO for a batch lookup of feedback by member
+ * Every requested member has an entry, empty if they have no feedback
+ */
+@Schema(description = "Feedback of a batch of members, grouped per member")
+public class MemberFeedbackBatchResponse {
+
+    @Schema(description = "Each member's feedback, newest first, keyed by member ID in request order")
+    private Map<String, List<FeedbackResponse>> feedbackByMember;
+
+    // Default constructor for Jackson
+    public MemberFeedbackBatchResponse() {
+    }
+
+    // Constructor for building responses
+    public MemberFeedbackBatchResponse(Map<String, List<FeedbackResponse>> feedbackByMember) {
+        this.feedbackByMember = feedbackByMember;
+    }
+
+    // Getters and Setters
+    public Map<String, List<FeedbackResponse>> getFeedbackByMember() {
+        return feedbackByMember;
+    }
+
+    public void setFeedbackByMember(Map<String, List<FeedbackResponse>> feedbackByMember) {
+        this.feedbackByMember = feedbackByMember;
+    }
+
+    @Override
+    public String toString() {
+        return "MemberFeedbackBatchResponse{" +
+                "members=" + (feedbackByMember == null ? 0 : feedbackByMember.size()) +
+                '}';
+    }
+}
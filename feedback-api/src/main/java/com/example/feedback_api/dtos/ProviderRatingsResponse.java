@@ -0,0 +1,129 @@
+package com.example.feedback_api.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Response DTO for per-provider feedback counts and average ratings
+ * Computed by SQL aggregates, exact as of the time they were cached
+ */
+@Schema(description = "Feedback count and average rating per provider, most reviewed first")
+public class ProviderRatingsResponse {
+
+    @Schema(description = "Inclusive start of the time window, or null for unbounded", example = "2025-11-01T00:00:00Z")
+    private Instant from;
+
+    @Schema(description = "Exclusive end of the time window, or null for unbounded", example = "2025-12-01T00:00:00Z")
+    private Instant to;
+
+    @Schema(description = "Providers ordered by descending feedback count")
+    private List<Entry> providers;
+
+    // Default constructor for Jackson
+    public ProviderRatingsResponse() {
+    }
+
+    // Constructor for building responses
+    public ProviderRatingsResponse(Instant from, Instant to, List<Entry> providers) {
+        this.from = from;
+        this.to = to;
+        this.providers = providers;
+    }
+
+    // Getters and Setters
+    public Instant getFrom() {
+        return from;
+    }
+
+    public void setFrom(Instant from) {
+        this.from = from;
+    }
+
+    public Instant getTo() {
+        return to;
+    }
+
+    public void setTo(Instant to) {
+        this.to = to;
+    }
+
+    public List<Entry> getProviders() {
+        return providers;
+    }
+
+    public void setProviders(List<Entry> providers) {
+        this.providers = providers;
+    }
+
+    /**
+     * Summary of one provider's feedback
+     */
+    @Schema(description = "Feedback count and average rating of one provider")
+    public static class Entry {
+
+        @Schema(description = "Provider name", example = "Dr. Sarah Johnson")
+        private String providerName;
+
+        @Schema(description = "Number of feedback entries", example = "312")
+        private long feedbackCount;
+
+        @Schema(description = "Mean rating", example = "4.21")
+        private double averageRating;
+
+        // Default constructor
+        public Entry() {
+        }
+
+        // Constructor
+        public Entry(String providerName, long feedbackCount, double averageRating) {
+            this.providerName = providerName;
+            this.feedbackCount = feedbackCount;
+            this.averageRating = averageRating;
+        }
+
+        // Getters and Setters
+        public String getProviderName() {
+            return providerName;
+        }
+
+        public void setProviderName(String providerName) {
+            this.providerName = providerName;
+        }
+
+        public long getFeedbackCount() {
+            return feedbackCount;
+        }
+
+        public void setFeedbackCount(long feedbackCount) {
+            this.feedbackCount = feedbackCount;
+        }
+
+        public double getAverageRating() {
+            return averageRating;
+        }
+
+        public void setAverageRating(double averageRating) {
+            this.averageRating = averageRating;
+        }
+
+        @Override
+        public String toString() {
+            return "Entry{" +
+                    "providerName='" + providerName + '\'' +
+                    ", feedbackCount=" + feedbackCount +
+                    ", averageRating=" + averageRating +
+                    '}';
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ProviderRatingsResponse{" +
+                "from=" + from +
+                ", to=" + to +
+                ", providers=" + providers +
+                '}';
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.feedback_api.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Response DTO for the rating distribution, overall or for one provider
+ */
+@Schema(description = "Feedback count per rating value, with total and average")
+public class RatingHistogramResponse {
+
+    @Schema(description = "Provider the histogram is restricted to, or null for all providers", example = "Dr. Sarah Johnson")
+    private String providerName;
+
+    @Schema(description = "Number of feedback entries across all ratings", example = "312")
+    private long totalCount;
+
+    @Schema(description = "Mean rating, or null when there is no feedback", example = "4.21")
+    private Double averageRating;
+
+    @Schema(description = "Feedback count for each rating from 1 to 5", example = "{\"1\":4,\"2\":9,\"3\":30,\"4\":101,\"5\":168}")
+    private Map<Integer, Long> ratings;
+
+    @Schema(description = "Inclusive start of the time window, or null for unbounded", example = "2025-11-01T00:00:00Z")
+    private Instant from;
+
+    @Schema(description = "Exclusive end of the time window, or null for unbounded", example = "2025-12-01T00:00:00Z")
+    private Instant to;
+
+    // Default constructor for Jackson
+    public RatingHistogramResponse() {
+    }
+
+    // Constructor for building responses
+    public RatingHistogramResponse(String providerName, long totalCount, Double averageRating,
+            Map<Integer, Long> ratings, Instant from, Instant to) {
+        this.providerName = providerName;
+        this.totalCount = totalCount;
+        this.averageRating = averageRating;
+        this.ratings = ratings;
+        this.from = from;
+        this.to = to;
+    }
+
+    // Getters and Setters
+    public String getProviderName() {
+        return providerName;
+    }
+
+    public void setProviderName(String providerName) {
+        this.providerName = providerName;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(long totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public Double getAverageRating() {
+        return averageRating;
+    }
+
+    public void setAverageRating(Double averageRating) {
+        this.averageRating = averageRating;
+    }
+
+    public Map<Integer, Long> getRatings() {
+        return ratings;
+    }
+
+    public void setRatings(Map<Integer, Long> ratings) {
+        this.ratings = ratings;
+    }
+
+    public Instant getFrom() {
+        return from;
+    }
+
+    public void setFrom(Instant from) {
+        this.from = from;
+    }
+
+    public Instant getTo() {
+        return to;
+    }
+
+    public void setTo(Instant to) {
+        this.to = to;
+    }
+
+    @Override
+    public String toString() {
+        return "RatingHistogramResponse{" +
+                "providerName='" + providerName + '\'' +
+                ", totalCount=" + totalCount +
+                ", averageRating=" + averageRating +
+                ", ratings=" + ratings +
+                ", from=" + from +
+                ", to=" + to +
+                '}';
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.feedback_api.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * Response DTO for the trending providers ranking
+ * Compares each provider's most recent minutes against a longer baseline
+ * window, from in-memory per-minute buckets rather than the database
+ */
+@Schema(description = "Providers whose feedback volume or average rating shifted most against their baseline")
+public class TrendingProvidersResponse {
+
+    @Schema(description = "Length of the recent window in seconds", example = "300")
+    private long recentWindowSeconds;
+
+    @Schema(description = "Length of the baseline window preceding the recent window, in seconds", example = "3600")
+    private long baselineWindowSeconds;
+
+    @Schema(description = "Providers ordered by descending trend score")
+    private List<Entry> providers;
+
+    // Default constructor for Jackson
+    public TrendingProvidersResponse() {
+    }
+
+    // Constructor for building responses
+    public TrendingProvidersResponse(long recentWindowSeconds, long baselineWindowSeconds, List<Entry> providers) {
+        this.recentWindowSeconds = recentWindowSeconds;
+        this.baselineWindowSeconds = baselineWindowSeconds;
+        this.providers = providers;
+    }
+
+    // Getters and Setters
+    public long getRecentWindowSeconds() {
+        return recentWindowSeconds;
+    }
+
+    public void setRecentWindowSeconds(long recentWindowSeconds) {
+        this.recentWindowSeconds = recentWindowSeconds;
+    }
+
+    public long getBaselineWindowSeconds() {
+        return baselineWindowSeconds;
+    }
+
+    public void setBaselineWindowSeconds(long baselineWindowSeconds) {
+        this.baselineWindowSeconds = baselineWindowSeconds;
+    }
+
+    public List<Entry> getProviders() {
+        return providers;
+    }
+
+    public void setProviders(List<Entry> providers) {
+        this.providers = providers;
+    }
+
+    /**
+     * Trend of a single provider
+     * A score of 1 or more means a volume or rating threshold is crossed
+     */
+    @Schema(description = "Recent activity of one provider compared with its baseline")
+    public static class Entry {
+
+        @Schema(description = "Provider name", example = "Dr. Sarah Johnson")
+        private String providerName;
+
+        @Schema(description = "Submissions in the recent window", example = "42")
+        private long recentCount;
+
+        @Schema(description = "Submissions in the baseline window", example = "60")
+        private long baselineCount;
+
+        @Schema(description = "Recent submissions per minute divided by baseline submissions per minute", example = "8.4")
+        private double rateRatio;
+
+        @Schema(description = "Average rating in the recent window", example = "1.3")
+        private double recentAverageRating;
+
+        @Schema(description = "Average rating in the baseline window (0 when the baseline is empty)", example = "4.6")
+        private double baselineAverageRating;
+
+        @Schema(description = "Recent average minus baseline average (0 when the baseline is empty)", example = "-3.3")
+        private double ratingDelta;
+
+        @Schema(description = "Largest of the rate ratio and rating delta, each relative to its threshold", example = "3.3")
+        private double score;
+
+        @Schema(description = "Whether a threshold is crossed", example = "true")
+        private boolean trending;
+
+        // Default constructor
+        public Entry() {
+        }
+
+        // Constructor
+        public Entry(String providerName, long recentCount, long baselineCount, double rateRatio,
+                double recentAverageRating, double baselineAverageRating, double ratingDelta, double score,
+                boolean trending) {
+            this.providerName = providerName;
+            this.recentCount = recentCount;
+            this.baselineCount = baselineCount;
+            this.rateRatio = rateRatio;
+            this.recentAverageRating = recentAverageRating;
+            this.baselineAverageRating = baselineAverageRating;
+            this.ratingDelta = ratingDelta;
+            this.score = score;
+            this.trending = trending;
+        }
+
+        // Getters and Setters
+        public String getProviderName() {
+            return providerName;
+        }
+
+        public void setProviderName(String providerName) {
+            this.providerName = providerName;
+        }
+
+        public long getRecentCount() {
+            return recentCount;
+        }
+
+        public void setRecentCount(long recentCount) {
+            this.recentCount = recentCount;
+        }
+
+        public long getBaselineCount() {
+            return baselineCount;
+        }
+
+        public void setBaselineCount(long baselineCount) {
+            this.baselineCount = baselineCount;
+        }
+
+        public double getRateRatio() {
+            return rateRatio;
+        }
+
+        public void setRateRatio(double rateRatio) {
+            this.rateRatio = rateRatio;
+        }
+
+        public double getRecentAverageRating() {
+            return recentAverageRating;
+        }
+
+        public void setRecentAverageRating(double recentAverageRating) {
+            this.recentAverageRating = recentAverageRating;
+        }
+
+        public double getBaselineAverageRating() {
+            return baselineAverageRating;
+        }
+
+        public void setBaselineAverageRating(double baselineAverageRating) {
+            this.baselineAverageRating = baselineAverageRating;
+        }
+
+        public double getRatingDelta() {
+            return ratingDelta;
+        }
+
+        public void setRatingDelta(double ratingDelta) {
+            this.ratingDelta = ratingDelta;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+
+        public boolean isTrending() {
+            return trending;
+        }
+
+        public void setTrending(boolean trending) {
+            this.trending = trending;
+        }
+
+        @Override
+        public String toString() {
+            return "Entry{" +
+                    "providerName='" + providerName + '\'' +
+                    ", recentCount=" + recentCount +
+                    ", baselineCount=" + baselineCount +
+                    ", rateRatio=" + rateRatio +
+                    ", recentAverageRating=" + recentAverageRating +
+                    ", baselineAverageRating=" + baselineAverageRating +
+                    ", ratingDelta=" + ratingDelta +
+                    ", score=" + score +
+                    ", trending=" + trending +
+                    '}';
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TrendingProvidersResponse{" +
+                "recentWindowSeconds=" + recentWindowSeconds +
+                ", baselineWindowSeconds=" + baselineWindowSeconds +
+                ", providers=" + providers +
+                '}';
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.feedback_api.imports;
+
+import java.io.IOException;
+
+/**
+ * Exception thrown when an uploaded CSV file is malformed
+ * (unterminated quoted field or oversized record)
+ */
+public class CsvFormatException extends IOException {
+
+    private final long line;
+
+    CsvFormatException(String message, long line) {
+        super(message);
+        this.line = line;
+    }
+
+    /**
+     * @return line number on which the malformed record starts (1-based)
+     */
+    public long getLine() {
+        return line;
+    }
+}
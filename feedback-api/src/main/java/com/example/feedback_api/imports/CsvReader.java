@@ -0,0 +1,123 @@
+package com.example.feedback_api.imports;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 CSV reader
+ * Reads one record at a time from the underlying reader, so memory use is
+ * bounded by the longest record rather than the file. Supports quoted fields
+ * with embedded commas, line breaks and doubled quotes, CRLF or LF line ends,
+ * and a leading byte-order mark. Blank lines are skipped.
+ */
+final class CsvReader {
+
+    private static final int MAX_RECORD_CHARS = 64 * 1024;
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int pushedBack = -2;
+    private long line = 1;
+    private long recordLine;
+    private boolean first = true;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * @return fields of the next record, or null at the end of input
+     * @throws CsvFormatException if a quoted field is not closed or a record
+     *                            exceeds 64K characters
+     * @throws IOException        if reading fails
+     */
+    List<String> next() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        int recordChars = 0;
+        field.setLength(0);
+        boolean quoted = false;
+        while (true) {
+            if (++recordChars > MAX_RECORD_CHARS) {
+                throw new CsvFormatException("Record starting on line " + recordLine + " is longer than "
+                        + MAX_RECORD_CHARS + " characters", recordLine);
+            }
+            if (quoted) {
+                if (c == -1) {
+                    throw new CsvFormatException("Unterminated quoted field starting on line " + recordLine,
+                            recordLine);
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * @return line number on which the last returned record started (1-based)
+     */
+    long getRecordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushedBack != -2) {
+            c = pushedBack;
+            pushedBack = -2;
+        } else {
+            c = reader.read();
+            if (first) {
+                first = false;
+                if (c == '\uFEFF') {
+                    c = reader.read();
+                }
+            }
+            if (c == '\n') {
+                line++;
+            }
+        }
+        return c;
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+}
@@ -0,0 +1,463 @@
+package com.example.feedback_api.imports;
+
+import com.example.feedback_api.archive.FeedbackArchive;
+import com.example.feedback_api.datasource.ReadRoutingContext;
+import com.example.feedback_api.dtos.ErrorResponse;
+import com.example.feedback_api.dtos.FeedbackImportResponse;
+import com.example.feedback_api.dtos.FeedbackRequest;
+import com.example.feedback_api.messaging.FeedbackEventPublisher;
+import com.example.feedback_api.model.FeedbackEntity;
+import com.example.feedback_api.repositories.FeedbackRepository;
+import com.example.feedback_api.services.FeedbackRequestValidator;
+import com.example.feedback_api.services.ProviderDictionary;
+import com.example.feedback_api.services.ValidatedFeedback;
+import com.example.feedback_api.services.ValidationException;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk import of feedback from CSV files
+ * The upload is parsed as a stream, one record at a time. Each row gets the
+ * same field validation as a single submission, plus the duplicate check
+ * against archived feedback, and valid rows are streamed straight into a
+ * temporary staging table through COPY. One set-based statement then merges
+ * the staging table into feedback: the first row per member and provider,
+ * unless the member already rated that provider. Rows that lost to an
+ * existing or earlier row are reported as duplicates. After commit the
+ * imported rows are published to the feedback-submitted topic in acknowledged
+ * pages, like the backfill. In-process listeners (live stream, analytics) only
+ * see individual submissions.
+ */
+@Service
+public class FeedbackImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackImportService.class);
+
+    static final String MEMBER_ID = "memberid";
+    static final String PROVIDER_NAME = "providername";
+    static final String RATING = "rating";
+    static final String COMMENT = "comment";
+    static final String SUBMITTED_AT = "submittedat";
+
+    private static final String CREATE_STAGING_TABLE = """
+            CREATE TEMPORARY TABLE feedback_import (
+                line_no BIGINT NOT NULL,
+                id UUID NOT NULL,
+                member_id VARCHAR(36) NOT NULL,
+                provider_id INT NOT NULL,
+                rating INT NOT NULL,
+                comment VARCHAR(200),
+                submitted_at TIMESTAMPTZ NOT NULL
+            ) ON COMMIT DROP""";
+
+    private static final String COPY_STAGING_TABLE = "COPY feedback_import FROM STDIN";
+
+    // Temporary tables are never auto-analyzed; without statistics the planner assumes a handful of rows
+    private static final String ANALYZE_STAGING_TABLE = "ANALYZE feedback_import";
+
+    private static final String MERGE = """
+            INSERT INTO feedback (id, member_id, provider_id, rating, comment, submitted_at)
+            SELECT s.id, s.member_id, s.provider_id, s.rating, s.comment, s.submitted_at
+            FROM (SELECT DISTINCT ON (member_id, provider_id) *
+                  FROM feedback_import
+                  ORDER BY member_id, provider_id, line_no) s
+            WHERE NOT EXISTS (SELECT 1 FROM feedback f
+                              WHERE f.member_id = s.member_id AND f.provider_id = s.provider_id)
+            ON CONFLICT (member_id, provider_id) DO NOTHING
+            RETURNING id""";
+
+    private static final String NOT_MERGED = """
+            SELECT s.line_no, s.provider_id
+            FROM feedback_import s
+            WHERE NOT EXISTS (SELECT 1 FROM feedback f WHERE f.id = s.id)""";
+
+    private final DataSource dataSource;
+    private final FeedbackRequestValidator requestValidator;
+    private final ProviderDictionary providerDictionary;
+    private final FeedbackArchive feedbackArchive;
+    private final FeedbackRepository feedbackRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final int maxReportedRejections;
+    private final int eventBatchSize;
+    private final long sendTimeoutMs;
+    private final Duration archiveRetention;
+    private final Semaphore running;
+
+    public FeedbackImportService(DataSource dataSource,
+            FeedbackRequestValidator requestValidator,
+            ProviderDictionary providerDictionary,
+            FeedbackArchive feedbackArchive,
+            FeedbackRepository feedbackRepository,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            @Value("${feedback.import.max-concurrent:1}") int maxConcurrent,
+            @Value("${feedback.import.max-reported-rejections:1000}") int maxReportedRejections,
+            @Value("${feedback.import.event-batch-size:1000}") int eventBatchSize,
+            @Value("${feedback.import.send-timeout-ms:60000}") long sendTimeoutMs,
+            @Value("${feedback.archive.retention-days:365}") long archiveRetentionDays) {
+        this.dataSource = dataSource;
+        this.requestValidator = requestValidator;
+        this.providerDictionary = providerDictionary;
+        this.feedbackArchive = feedbackArchive;
+        this.feedbackRepository = feedbackRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.running = new Semaphore(maxConcurrent);
+        this.maxReportedRejections = maxReportedRejections;
+        this.eventBatchSize = eventBatchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.archiveRetention = Duration.ofDays(archiveRetentionDays);
+    }
+
+    /**
+     * Import a CSV file
+     * The header row names the columns (case-insensitive, any order):
+     * memberId, providerName and rating are required, comment and
+     * submittedAt (ISO-8601, defaults to now) are optional, others are ignored.
+     * While archiving is enabled, submittedAt may not be older than the archive
+     * retention, so archived segments stay in submission order.
+     * All valid rows are imported in one transaction.
+     *
+     * @param input CSV content, UTF-8
+     * @return counts and the rejected rows
+     * @throws ValidationException           if the header is missing or lacks a required column
+     * @throws CsvFormatException            if the file is not well-formed CSV
+     * @throws ImportAlreadyRunningException if the maximum number of imports is already running
+     */
+    public FeedbackImportResponse importCsv(InputStream input) throws IOException, SQLException {
+        if (!running.tryAcquire()) {
+            throw new ImportAlreadyRunningException();
+        }
+        try {
+            return runImport(input);
+        } finally {
+            running.release();
+        }
+    }
+
+    private FeedbackImportResponse runImport(InputStream input) throws IOException, SQLException {
+        long start = System.nanoTime();
+        Rejections rejections = new Rejections(maxReportedRejections);
+        CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 1 << 16));
+        long rowsRead;
+        List<UUID> imported;
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(CREATE_STAGING_TABLE);
+                }
+                rowsRead = copyToStaging(connection, csv, rejections);
+                imported = merge(connection, rejections);
+                connection.commit();
+            } catch (IOException | SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+
+        long published = publishEvents(imported);
+        logger.info("Imported {} of {} feedback rows in {} ms ({} rejected, {} events published)",
+                imported.size(), rowsRead, (System.nanoTime() - start) / 1_000_000, rejections.count(), published);
+        return new FeedbackImportResponse(rowsRead, imported.size(), rejections.count(), published,
+                rejections.reported(), rejections.count() > maxReportedRejections);
+    }
+
+    private long copyToStaging(Connection connection, CsvReader csv, Rejections rejections)
+            throws IOException, SQLException {
+        PGCopyOutputStream copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY_STAGING_TABLE,
+                1 << 16);
+        try {
+            Writer out = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8), 1 << 16);
+            long rows = stage(csv, out, rejections);
+            out.flush();
+            copy.endCopy();
+            return rows;
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Validate every data row, writing the valid ones in COPY text format
+     *
+     * @param csv        reader positioned before the header
+     * @param out        COPY input for the staging table
+     * @param rejections collector for rejected rows
+     * @return number of data rows read
+     */
+    long stage(CsvReader csv, Appendable out, Rejections rejections) throws IOException {
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new ValidationException(List.of(new ErrorResponse.FieldError("file", "File is empty")));
+        }
+        Map<String, Integer> columns = columns(header);
+        Instant now = Instant.now();
+        Instant oldest = feedbackArchive.isEnabled() ? now.minus(archiveRetention) : Instant.MIN;
+        FeedbackArchive.Snapshot archived = feedbackArchive.snapshot();
+
+        long rows = 0;
+        for (List<String> record = csv.next(); record != null; record = csv.next()) {
+            rows++;
+            long line = csv.getRecordLine();
+            try {
+                ValidatedFeedback feedback = validate(record, columns);
+                Instant submittedAt = submittedAt(field(record, columns, SUBMITTED_AT), now, oldest);
+                int providerId = checkDuplicateAndResolve(feedback, archived);
+                appendRow(out, line, feedback, providerId, submittedAt);
+            } catch (ValidationException e) {
+                rejections.add(line, e);
+            }
+        }
+        return rows;
+    }
+
+    private static Map<String, Integer> columns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = List.of(MEMBER_ID, PROVIDER_NAME, RATING).stream()
+                .filter(column -> !columns.containsKey(column))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new ValidationException(List.of(new ErrorResponse.FieldError("file",
+                    "Header is missing required column(s) " + missing
+                            + "; expected memberId, providerName, rating[, comment][, submittedAt]")));
+        }
+        return columns;
+    }
+
+    private ValidatedFeedback validate(List<String> record, Map<String, Integer> columns) {
+        String rawRating = field(record, columns, RATING);
+        Integer rating = null;
+        List<ErrorResponse.FieldError> errors = new ArrayList<>();
+        if (rawRating != null && !rawRating.isBlank()) {
+            try {
+                rating = Integer.valueOf(rawRating.trim());
+            } catch (NumberFormatException e) {
+                errors.add(new ErrorResponse.FieldError("rating", "Rating must be between 1 and 5"));
+            }
+        }
+
+        FeedbackRequest request = new FeedbackRequest(field(record, columns, MEMBER_ID),
+                field(record, columns, PROVIDER_NAME), rating, field(record, columns, COMMENT));
+        try {
+            ValidatedFeedback feedback = requestValidator.validate(request);
+            if (errors.isEmpty()) {
+                return feedback;
+            }
+        } catch (ValidationException e) {
+            boolean ratingReported = !errors.isEmpty();
+            e.getFieldErrors().stream()
+                    .filter(error -> !(ratingReported && RATING.equals(error.getField())))
+                    .forEach(errors::add);
+        }
+        throw new ValidationException(errors);
+    }
+
+    private static Instant submittedAt(String raw, Instant now, Instant oldest) {
+        if (raw == null || raw.isBlank()) {
+            return now;
+        }
+        Instant submittedAt;
+        try {
+            submittedAt = Instant.parse(raw.trim());
+        } catch (DateTimeParseException e) {
+            throw new ValidationException(List.of(new ErrorResponse.FieldError("submittedAt",
+                    "Submitted at must be an ISO-8601 instant, e.g. 2025-03-01T14:30:00Z")));
+        }
+        if (submittedAt.isAfter(now)) {
+            throw new ValidationException(List.of(new ErrorResponse.FieldError("submittedAt",
+                    "Submitted at must not be in the future")));
+        }
+        if (submittedAt.isBefore(oldest)) {
+            throw new ValidationException(List.of(new ErrorResponse.FieldError("submittedAt",
+                    "Submitted at must not be before " + oldest + ", the archive retention cutoff")));
+        }
+        return submittedAt;
+    }
+
+    /**
+     * Apply the duplicate rule for archived feedback and resolve the provider
+     * Duplicates of rows still in the feedback table are found by the merge
+     */
+    private int checkDuplicateAndResolve(ValidatedFeedback feedback, FeedbackArchive.Snapshot archived) {
+        providerDictionary.findId(feedback.providerName())
+                .filter(providerId -> archived.existsByMemberIdAndProviderId(feedback.memberId(), providerId))
+                .ifPresent(providerId -> {
+                    throw new ValidationException(
+                            "You have already submitted feedback for " + feedback.providerName());
+                });
+        return providerDictionary.resolveId(feedback.providerName());
+    }
+
+    private static void appendRow(Appendable out, long line, ValidatedFeedback feedback, int providerId,
+            Instant submittedAt) throws IOException {
+        out.append(Long.toString(line)).append('\t')
+                .append(UUID.randomUUID().toString()).append('\t');
+        appendText(out, feedback.memberId());
+        out.append('\t').append(Integer.toString(providerId))
+                .append('\t').append(Integer.toString(feedback.rating()))
+                .append('\t');
+        if (feedback.comment() == null) {
+            out.append("\\N");
+        } else {
+            appendText(out, feedback.comment());
+        }
+        out.append('\t').append(submittedAt.toString()).append('\n');
+    }
+
+    /**
+     * Escape a value for COPY text format
+     */
+    private static void appendText(Appendable out, String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '\t' -> out.append("\\t");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= record.size() ? null : record.get(index);
+    }
+
+    /**
+     * Merge the staging table into feedback and report the rows left out
+     *
+     * @return ids of the inserted rows
+     */
+    private List<UUID> merge(Connection connection, Rejections rejections) throws SQLException {
+        List<UUID> imported = new ArrayList<>();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(ANALYZE_STAGING_TABLE);
+            try (ResultSet resultSet = statement.executeQuery(MERGE)) {
+                while (resultSet.next()) {
+                    imported.add(resultSet.getObject(1, UUID.class));
+                }
+            }
+            try (ResultSet resultSet = statement.executeQuery(NOT_MERGED)) {
+                while (resultSet.next()) {
+                    rejections.add(resultSet.getLong(1), new ValidationException("You have already submitted feedback for "
+                            + providerDictionary.getName(resultSet.getInt(2))));
+                }
+            }
+        }
+        return imported;
+    }
+
+    /**
+     * Publish feedback-submitted events for the imported rows
+     * Stops at the first page Kafka does not acknowledge; the rows are
+     * committed regardless and the backfill can replay them
+     *
+     * @return number of acknowledged events
+     */
+    @SuppressWarnings("null") // Kafka template requires this for framework integration
+    private long publishEvents(List<UUID> imported) {
+        long published = 0;
+        for (int from = 0; from < imported.size(); from += eventBatchSize) {
+            List<UUID> ids = imported.subList(from, Math.min(from + eventBatchSize, imported.size()));
+            // Just committed, so a replica may not have the rows yet
+            List<FeedbackEntity> page = ReadRoutingContext.onPrimaryIf(true, () -> feedbackRepository.findAllById(ids));
+            try {
+                CompletableFuture<?>[] sends = new CompletableFuture<?>[page.size()];
+                for (int i = 0; i < page.size(); i++) {
+                    FeedbackEntity feedback = page.get(i);
+                    sends[i] = kafkaTemplate.send(FeedbackEventPublisher.FEEDBACK_TOPIC,
+                            feedback.getId().toString(), FeedbackEventPublisher.toMessage(feedback));
+                }
+                CompletableFuture.allOf(sends).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+                published += page.size();
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                logger.warn("Stopped publishing import events after {} of {}; run the backfill to replay them: {}",
+                        published, imported.size(), e.getMessage());
+                break;
+            }
+        }
+        return published;
+    }
+
+    /**
+     * Rejected rows: the total count plus the earliest lines in file order
+     */
+    static final class Rejections {
+
+        private final int limit;
+        private final PriorityQueue<FeedbackImportResponse.RejectedRow> earliest = new PriorityQueue<>(
+                Comparator.comparingLong(FeedbackImportResponse.RejectedRow::getLine).reversed());
+        private long count;
+
+        Rejections(int limit) {
+            this.limit = limit;
+        }
+
+        void add(long line, ValidationException e) {
+            count++;
+            if (limit <= 0) {
+                return;
+            }
+            List<ErrorResponse.FieldError> errors = e.getFieldErrors().isEmpty()
+                    ? List.of(new ErrorResponse.FieldError("business", e.getMessage()))
+                    : e.getFieldErrors();
+            earliest.add(new FeedbackImportResponse.RejectedRow(line, errors));
+            if (earliest.size() > limit) {
+                earliest.poll();
+            }
+        }
+
+        long count() {
+            return count;
+        }
+
+        List<FeedbackImportResponse.RejectedRow> reported() {
+            return earliest.stream()
+                    .sorted(Comparator.comparingLong(FeedbackImportResponse.RejectedRow::getLine))
+                    .toList();
+        }
+    }
+}
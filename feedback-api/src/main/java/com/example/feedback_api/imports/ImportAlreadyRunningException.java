@@ -0,0 +1,11 @@
+package com.example.feedback_api.imports;
+
+/**
+ * Exception thrown when the maximum number of CSV imports is already running
+ */
+public class ImportAlreadyRunningException extends RuntimeException {
+
+    ImportAlreadyRunningException() {
+        super("An import is already running");
+    }
+}
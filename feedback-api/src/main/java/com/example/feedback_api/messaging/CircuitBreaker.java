@@ -0,0 +1,83 @@
+package com.example.feedback_api.messaging;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Minimal consecutive-failure circuit breaker
+ * Opens after a number of failures in a row, stays open for a fixed period and
+ * then lets a single probe through; the probe's outcome closes or re-opens it.
+ */
+class CircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final long CLOSED = -1L;
+
+    private final int failureThreshold;
+    private final long openDurationMs;
+    private final LongSupplier clock;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean(false);
+    private volatile long openedAt = CLOSED;
+
+    CircuitBreaker(int failureThreshold, long openDurationMs, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+        this.clock = clock;
+    }
+
+    /**
+     * @return true if a call may be attempted now
+     */
+    boolean allowRequest() {
+        State state = getState();
+        if (state == State.CLOSED) {
+            return true;
+        }
+        return state == State.HALF_OPEN && probeInFlight.compareAndSet(false, true);
+    }
+
+    void recordSuccess() {
+        consecutiveFailures.set(0);
+        openedAt = CLOSED;
+        probeInFlight.set(false);
+    }
+
+    void recordFailure() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt = clock.getAsLong();
+        }
+        probeInFlight.set(false);
+    }
+
+    /**
+     * Give back a half-open probe slot that was claimed but not used
+     */
+    void releaseProbe() {
+        probeInFlight.set(false);
+    }
+
+    /**
+     * @return milliseconds until the breaker will accept a probe (0 if it already does)
+     */
+    long remainingOpenMs() {
+        long opened = openedAt;
+        if (opened == CLOSED) {
+            return 0;
+        }
+        return Math.max(0, opened + openDurationMs - clock.getAsLong());
+    }
+
+    State getState() {
+        long opened = openedAt;
+        if (opened == CLOSED) {
+            return State.CLOSED;
+        }
+        return clock.getAsLong() - opened >= openDurationMs ? State.HALF_OPEN : State.OPEN;
+    }
+}
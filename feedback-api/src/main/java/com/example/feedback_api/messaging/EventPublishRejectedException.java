@@ -0,0 +1,16 @@
+package com.example.feedback_api.messaging;
+
+/**
+ * Exception thrown when the publisher's hand-off queue is full
+ * and the configured policy is to reject rather than drop or spill
+ */
+public class EventPublishRejectedException extends RuntimeException {
+
+    public EventPublishRejectedException(String message) {
+        super(message);
+    }
+
+    public EventPublishRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
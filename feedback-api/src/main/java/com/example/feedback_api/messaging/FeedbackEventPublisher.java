@@ -1,50 +1,254 @@
 package com.example.feedback_api.messaging;
 
 import com.example.feedback_api.model.FeedbackEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Publishes feedback-submitted events to Kafka without blocking the caller
+ * Events are handed to a bounded queue drained by a dedicated sender thread.
+ * Delivery outcomes are tracked through the send futures, failed sends are
+ * retried a bounded number of times, and a circuit breaker pauses the sender
+ * while Kafka is unavailable. When the queue is full the configured
+ * QueueFullPolicy decides whether to drop, spill to disk or reject.
+ */
 @Service
 public class FeedbackEventPublisher {
 
     private static final Logger logger = LoggerFactory.getLogger(FeedbackEventPublisher.class);
-    private static final String FEEDBACK_TOPIC = "feedback-submitted";
+    public static final String FEEDBACK_TOPIC = "feedback-submitted";
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<PendingEvent> queue;
+    private final QueueFullPolicy queueFullPolicy;
+    private final Path spillFile;
+    private final int maxAttempts;
+    private final CircuitBreaker circuitBreaker;
 
-    public FeedbackEventPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
+    private final Counter ackedCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+    private final Counter droppedCounter;
+    private final Counter spilledCounter;
+    private final Counter rejectedCounter;
+
+    private volatile boolean running;
+    private Thread sender;
+
+    public FeedbackEventPublisher(KafkaTemplate<String, Object> kafkaTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${feedback.kafka.queue-capacity:10000}") int queueCapacity,
+            @Value("${feedback.kafka.queue-full-policy:DROP}") QueueFullPolicy queueFullPolicy,
+            @Value("${feedback.kafka.spill-file:feedback-events-spill.jsonl}") String spillFile,
+            @Value("${feedback.kafka.max-attempts:3}") int maxAttempts,
+            @Value("${feedback.kafka.breaker.failure-threshold:5}") int breakerFailureThreshold,
+            @Value("${feedback.kafka.breaker.open-duration-ms:30000}") long breakerOpenDurationMs) {
         this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.queueFullPolicy = queueFullPolicy;
+        this.spillFile = Path.of(spillFile);
+        this.maxAttempts = maxAttempts;
+        this.circuitBreaker = new CircuitBreaker(breakerFailureThreshold, breakerOpenDurationMs,
+                System::currentTimeMillis);
+
+        this.ackedCounter = meterRegistry.counter("feedback.kafka.events", "outcome", "acked");
+        this.failedCounter = meterRegistry.counter("feedback.kafka.events", "outcome", "failed");
+        this.retriedCounter = meterRegistry.counter("feedback.kafka.events", "outcome", "retried");
+        this.droppedCounter = meterRegistry.counter("feedback.kafka.events", "outcome", "dropped");
+        this.spilledCounter = meterRegistry.counter("feedback.kafka.events", "outcome", "spilled");
+        this.rejectedCounter = meterRegistry.counter("feedback.kafka.events", "outcome", "rejected");
+        meterRegistry.gauge("feedback.kafka.queue.size", queue, BlockingQueue::size);
+        meterRegistry.gauge("feedback.kafka.breaker.open", circuitBreaker,
+                breaker -> breaker.getState() == CircuitBreaker.State.CLOSED ? 0 : 1);
     }
 
-    @SuppressWarnings("null") // Kafka template requires this for framework integration
+    /**
+     * Queue a feedback-submitted event for delivery
+     * Never blocks on Kafka; returns as soon as the event is handed off
+     *
+     * @param feedback persisted feedback entity
+     * @throws EventPublishRejectedException if the queue is full and the policy is REJECT
+     */
     public void publishFeedbackSubmitted(FeedbackEntity feedback) {
         if (feedback == null || feedback.getId() == null) {
             logger.warn("Cannot publish feedback event: feedback or ID is null");
             return;
         }
 
-        try {
-            // Create message payload matching consumer's expected format
-            Map<String, Object> message = new HashMap<>();
-            message.put("id", feedback.getId().toString());
-            message.put("memberId", feedback.getMemberId());
-            message.put("providerName", feedback.getProviderName());
-            message.put("rating", feedback.getRating());
-            message.put("comment", feedback.getComment());
-            message.put("submittedAt", feedback.getSubmittedAt().toString());
-
-            // Send message asynchronously - fire and forget
-            String feedbackId = feedback.getId().toString(); // ID is guaranteed non-null here
-            kafkaTemplate.send(FEEDBACK_TOPIC, feedbackId, message);
+        PendingEvent event = new PendingEvent(feedback.getId().toString(), toMessage(feedback), 1);
+        if (!queue.offer(event)) {
+            handleOverflow(event);
+        }
+    }
+
+    /**
+     * Create message payload matching consumer's expected format
+     *
+     * @param feedback persisted feedback entity
+     * @return message value for the feedback-submitted topic
+     */
+    public static Map<String, Object> toMessage(FeedbackEntity feedback) {
+        Map<String, Object> message = new HashMap<>();
+        message.put("id", feedback.getId().toString());
+        message.put("memberId", feedback.getMemberId());
+        message.put("providerName", feedback.getProviderName());
+        message.put("rating", feedback.getRating());
+        message.put("comment", feedback.getComment());
+        message.put("submittedAt", feedback.getSubmittedAt().toString());
+        return message;
+    }
 
+    /**
+     * @return number of events waiting for the sender
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        sender = Thread.ofPlatform()
+                .name("feedback-kafka-sender")
+                .daemon(true)
+                .start(this::runSender);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (sender != null) {
+            sender.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        List<PendingEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            logger.warn("Shutting down with {} undelivered feedback events", remaining.size());
+            remaining.forEach(this::handleUndeliverable);
+        }
+    }
+
+    private void runSender() {
+        while (running || (!queue.isEmpty() && circuitBreaker.getState() == CircuitBreaker.State.CLOSED)) {
+            try {
+                if (!circuitBreaker.allowRequest()) {
+                    // Kafka is down - leave events queued instead of piling up failing sends
+                    Thread.sleep(Math.max(50, Math.min(circuitBreaker.remainingOpenMs(), 500)));
+                    continue;
+                }
+
+                PendingEvent event = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    // Probe slot (if any) was claimed but nothing to send; give it back
+                    circuitBreaker.releaseProbe();
+                    continue;
+                }
+                send(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("null") // Kafka template requires this for framework integration
+    private void send(PendingEvent event) {
+        try {
+            kafkaTemplate.send(FEEDBACK_TOPIC, event.key(), event.message())
+                    .whenComplete((result, ex) -> onComplete(event, ex));
         } catch (Exception e) {
-            logger.error("Failed to publish feedback event for ID {}: {}",
-                    feedback.getId(), e.getMessage());
+            onComplete(event, e);
+        }
+    }
+
+    private void onComplete(PendingEvent event, Throwable ex) {
+        if (ex == null) {
+            circuitBreaker.recordSuccess();
+            ackedCounter.increment();
+            return;
+        }
+
+        circuitBreaker.recordFailure();
+        if (event.attempt() < maxAttempts && queue.offer(event.nextAttempt())) {
+            retriedCounter.increment();
+            return;
+        }
+
+        failedCounter.increment();
+        logger.error("Failed to publish feedback event for ID {} after {} attempts: {}",
+                event.key(), event.attempt(), ex.getMessage());
+        handleUndeliverable(event);
+    }
+
+    private void handleOverflow(PendingEvent event) {
+        switch (queueFullPolicy) {
+            case SPILL -> spill(event);
+            case REJECT -> {
+                rejectedCounter.increment();
+                throw new EventPublishRejectedException(
+                        "Feedback event queue is full; rejecting event for ID " + event.key());
+            }
+            default -> {
+                droppedCounter.increment();
+                logger.warn("Feedback event queue is full; dropping event for ID {}", event.key());
+            }
+        }
+    }
+
+    private void handleUndeliverable(PendingEvent event) {
+        if (queueFullPolicy == QueueFullPolicy.SPILL) {
+            spill(event);
+        } else {
+            droppedCounter.increment();
+        }
+    }
+
+    private synchronized void spill(PendingEvent event) {
+        try {
+            String line = objectMapper.writeValueAsString(event.message()) + System.lineSeparator();
+            Files.writeString(spillFile, line, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            spilledCounter.increment();
+        } catch (JsonProcessingException e) {
+            droppedCounter.increment();
+            logger.error("Failed to serialize feedback event for ID {}: {}", event.key(), e.getMessage());
+        } catch (IOException e) {
+            droppedCounter.increment();
+            logger.error("Failed to spill feedback event for ID {} to {}: {}",
+                    event.key(), spillFile, e.getMessage());
+        }
+    }
+
+    private record PendingEvent(String key, Map<String, Object> message, int attempt) {
+
+        PendingEvent nextAttempt() {
+            return new PendingEvent(key, message, attempt + 1);
         }
     }
-}
\ No newline at end of file
+}
@@ -19,6 +19,15 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    // Upper bound on how long send() may block waiting for metadata or buffer space
+    @Value("${feedback.kafka.max-block-ms:5000}")
+    private long maxBlockMs;
+
+    // Upper bound on how long a send may stay unacknowledged, retries included
+    // (at least the 30 s request timeout); the future then fails and the sender retries or spills
+    @Value("${feedback.kafka.delivery-timeout-ms:35000}")
+    private long deliveryTimeoutMs;
+
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> config = new HashMap<>();
@@ -36,6 +45,8 @@ public class KafkaProducerConfig {
         config.put(ProducerConfig.RETRIES_CONFIG, 3);
         config.put(ProducerConfig.RETRY_BACKOFF_MS_CONFIG, 1000);
         config.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, 30000);
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
+        config.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, (int) deliveryTimeoutMs);
 
         return new DefaultKafkaProducerFactory<>(config);
     }
@@ -0,0 +1,17 @@
+package com.example.feedback_api.messaging;
+
+/**
+ * What the publisher does with an event it cannot hand off to the sender
+ * (queue full, or retries exhausted while Kafka is unavailable)
+ */
+public enum QueueFullPolicy {
+
+    /** Discard the event and count it in the dropped metric */
+    DROP,
+
+    /** Append the event as a JSON line to the local spill file for later replay */
+    SPILL,
+
+    /** Fail the caller with EventPublishRejectedException */
+    REJECT
+}
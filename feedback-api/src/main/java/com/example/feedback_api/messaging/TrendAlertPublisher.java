@@ -0,0 +1,116 @@
+package com.example.feedback_api.messaging;
+
+import com.example.feedback_api.analytics.ProviderTrendAlertEvent;
+import com.example.feedback_api.dtos.TrendingProvidersResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Forwards provider trend alerts to a Kafka topic
+ * Only created when feedback.trending.alerts.topic is set. Alerts are handed
+ * to a small bounded queue drained by one sender thread, so a slow or
+ * unavailable broker never delays the submission that raised the alert;
+ * alerts that do not fit are dropped and counted.
+ */
+@Service
+@ConditionalOnProperty(name = "feedback.trending.alerts.topic")
+public class TrendAlertPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrendAlertPublisher.class);
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String topic;
+    private final ThreadPoolExecutor sender;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+
+    public TrendAlertPublisher(KafkaTemplate<String, Object> kafkaTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${feedback.trending.alerts.topic}") String topic,
+            @Value("${feedback.trending.alerts.queue-capacity:100}") int queueCapacity) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+        this.sender = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> Thread.ofPlatform().name("trend-alert-sender").daemon(true).unstarted(runnable));
+        this.sentCounter = meterRegistry.counter("feedback.trending.alerts.kafka", "outcome", "sent");
+        this.failedCounter = meterRegistry.counter("feedback.trending.alerts.kafka", "outcome", "failed");
+        this.droppedCounter = meterRegistry.counter("feedback.trending.alerts.kafka", "outcome", "dropped");
+    }
+
+    /**
+     * Queue an alert for delivery, keyed by provider name
+     *
+     * @param event alert raised by TrendingProviderDetector
+     */
+    @EventListener
+    public void onTrendAlert(ProviderTrendAlertEvent event) {
+        try {
+            sender.execute(() -> send(event));
+        } catch (RejectedExecutionException e) {
+            droppedCounter.increment();
+            logger.warn("Trend alert queue full, dropping alert for {}", event.getTrend().getProviderName());
+        }
+    }
+
+    private void send(ProviderTrendAlertEvent event) {
+        try {
+            kafkaTemplate.send(topic, event.getTrend().getProviderName(), toMessage(event))
+                    .whenComplete((result, ex) -> {
+                        if (ex == null) {
+                            sentCounter.increment();
+                        } else {
+                            failedCounter.increment();
+                            logger.warn("Failed to publish trend alert for {}: {}",
+                                    event.getTrend().getProviderName(), ex.getMessage());
+                        }
+                    });
+        } catch (RuntimeException e) {
+            // send() itself throws when metadata cannot be fetched within max.block.ms
+            failedCounter.increment();
+            logger.warn("Failed to publish trend alert for {}: {}", event.getTrend().getProviderName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Create the alert message payload
+     *
+     * @param event alert raised by TrendingProviderDetector
+     * @return message value for the alerts topic
+     */
+    static Map<String, Object> toMessage(ProviderTrendAlertEvent event) {
+        TrendingProvidersResponse.Entry trend = event.getTrend();
+        Map<String, Object> message = new HashMap<>();
+        message.put("providerName", trend.getProviderName());
+        message.put("reason", event.getReason().name());
+        message.put("recentCount", trend.getRecentCount());
+        message.put("baselineCount", trend.getBaselineCount());
+        message.put("rateRatio", trend.getRateRatio());
+        message.put("recentAverageRating", trend.getRecentAverageRating());
+        message.put("baselineAverageRating", trend.getBaselineAverageRating());
+        message.put("ratingDelta", trend.getRatingDelta());
+        message.put("detectedAt", event.getDetectedAt().toString());
+        return message;
+    }
+
+    @PreDestroy
+    public void stop() {
+        sender.shutdown();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.feedback_api.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA Entity representing the backfill_checkpoint table
+ * Records how far the backfill job has got in each key-range partition
+ * so an interrupted run can resume where it stopped
+ */
+@Entity
+@Table(name = "backfill_checkpoint")
+public class BackfillCheckpointEntity {
+
+    @Id
+    @Column(name = "partition_no", nullable = false)
+    private Integer partitionNo;
+
+    @Column(name = "partition_count", nullable = false)
+    private Integer partitionCount;
+
+    @Column(name = "last_id")
+    private UUID lastId;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Column(name = "events_sent", nullable = false)
+    private long eventsSent;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    // Default constructor (required by JPA)
+    public BackfillCheckpointEntity() {
+    }
+
+    // Constructor for a fresh partition
+    public BackfillCheckpointEntity(Integer partitionNo, Integer partitionCount) {
+        this.partitionNo = partitionNo;
+        this.partitionCount = partitionCount;
+        this.updatedAt = Instant.now();
+    }
+
+    // Getters and Setters
+    public Integer getPartitionNo() {
+        return partitionNo;
+    }
+
+    public void setPartitionNo(Integer partitionNo) {
+        this.partitionNo = partitionNo;
+    }
+
+    public Integer getPartitionCount() {
+        return partitionCount;
+    }
+
+    public void setPartitionCount(Integer partitionCount) {
+        this.partitionCount = partitionCount;
+    }
+
+    public UUID getLastId() {
+        return lastId;
+    }
+
+    public void setLastId(UUID lastId) {
+        this.lastId = lastId;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+
+    public long getEventsSent() {
+        return eventsSent;
+    }
+
+    public void setEventsSent(long eventsSent) {
+        this.eventsSent = eventsSent;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "BackfillCheckpointEntity{" +
+                "partitionNo=" + partitionNo +
+                ", partitionCount=" + partitionCount +
+                ", lastId=" + lastId +
+                ", completed=" + completed +
+                ", eventsSent=" + eventsSent +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
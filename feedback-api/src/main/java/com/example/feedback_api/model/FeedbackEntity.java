@@ -1,5 +1,6 @@
 package com.example.feedback_api.model;
 
+import com.example.feedback_api.services.ProviderNameEntityListener;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,6 +16,7 @@ import java.util.UUID;
 @Schema(description = "Provider feedback entity representing a patient's feedback about their healthcare provider")
 @Entity
 @Table(name = "feedback")
+@EntityListeners(ProviderNameEntityListener.class)
 public class FeedbackEntity {
 
     @Schema(description = "Unique identifier for the feedback entry", example = "550e8400-e29b-41d4-a716-446655440000", accessMode = Schema.AccessMode.READ_ONLY)
@@ -27,8 +29,13 @@ public class FeedbackEntity {
     @Column(name = "member_id", nullable = false, length = 36)
     private String memberId;
 
+    @Schema(description = "Id of the reviewed provider in the providers dictionary", example = "42", accessMode = Schema.AccessMode.READ_ONLY)
+    @Column(name = "provider_id", nullable = false)
+    private Integer providerId;
+
+    // Not stored on the row; resolved from the provider dictionary on load
     @Schema(description = "Name of the healthcare provider being reviewed", example = "Dr. Sarah Johnson", maxLength = 80, requiredMode = Schema.RequiredMode.REQUIRED)
-    @Column(name = "provider_name", nullable = false, length = 80)
+    @Transient
     private String providerName;
 
     @Schema(description = "Rating score for the provider experience", example = "4", minimum = "1", maximum = "5", requiredMode = Schema.RequiredMode.REQUIRED)
@@ -84,6 +91,14 @@ public class FeedbackEntity {
         this.memberId = memberId;
     }
 
+    public Integer getProviderId() {
+        return providerId;
+    }
+
+    public void setProviderId(Integer providerId) {
+        this.providerId = providerId;
+    }
+
     public String getProviderName() {
         return providerName;
     }
@@ -137,6 +152,7 @@ public class FeedbackEntity {
         return "FeedbackEntity{" +
                 "id=" + id +
                 ", memberId='" + memberId + '\'' +
+                ", providerId=" + providerId +
                 ", providerName='" + providerName + '\'' +
                 ", rating=" + rating +
                 ", comment='" + comment + '\'' +
@@ -0,0 +1,41 @@
+package com.example.feedback_api.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * R2DBC mapping of the feedback table, used by the reactive variant
+ * Same columns as FeedbackEntity; the provider name is not stored on the row
+ * and is resolved from the provider dictionary
+ *
+ * @param id          feedback id (assigned by the application)
+ * @param memberId    member identifier
+ * @param providerId  the provider's dictionary id
+ * @param rating      rating 1-5
+ * @param comment     optional comment
+ * @param submittedAt submission time
+ */
+@Table("feedback")
+public record FeedbackRow(
+        @Id UUID id,
+        String memberId,
+        Integer providerId,
+        Integer rating,
+        String comment,
+        Instant submittedAt) {
+
+    /**
+     * Detached FeedbackEntity with the same values, for code shared with the servlet build
+     *
+     * @param providerName provider display name
+     * @return entity that is not attached to any JPA session
+     */
+    public FeedbackEntity toEntity(String providerName) {
+        FeedbackEntity entity = new FeedbackEntity(id, memberId, providerName, rating, comment, submittedAt);
+        entity.setProviderId(providerId);
+        return entity;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.feedback_api.model;
+
+import jakarta.persistence.*;
+
+import java.util.Objects;
+
+/**
+ * JPA Entity representing the providers dictionary table
+ * Each distinct (normalized) provider name gets a compact integer id
+ * that feedback rows reference instead of the name itself
+ */
+@Entity
+@Table(name = "providers")
+public class ProviderEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Integer id;
+
+    @Column(name = "name", nullable = false, length = 80)
+    private String name;
+
+    @Column(name = "normalized_name", nullable = false, unique = true, length = 80)
+    private String normalizedName;
+
+    // Default constructor (required by JPA)
+    public ProviderEntity() {
+    }
+
+    // Full constructor
+    public ProviderEntity(Integer id, String name, String normalizedName) {
+        this.id = id;
+        this.name = name;
+        this.normalizedName = normalizedName;
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
+    public void setNormalizedName(String normalizedName) {
+        this.normalizedName = normalizedName;
+    }
+
+    // equals and hashCode based on id
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        ProviderEntity that = (ProviderEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "ProviderEntity{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", normalizedName='" + normalizedName + '\'' +
+                '}';
+    }
+}
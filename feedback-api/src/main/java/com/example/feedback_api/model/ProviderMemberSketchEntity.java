@@ -0,0 +1,114 @@
+package com.example.feedback_api.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * JPA Entity representing the provider_member_sketch table
+ * Holds the HyperLogLog registers of distinct members who rated one provider
+ * during one calendar month
+ */
+@Entity
+@Table(name = "provider_member_sketch")
+@IdClass(ProviderMemberSketchEntity.Key.class)
+public class ProviderMemberSketchEntity {
+
+    @Id
+    @Column(name = "provider_id", nullable = false)
+    private Integer providerId;
+
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    @Column(name = "registers", nullable = false)
+    private byte[] registers;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    // Default constructor (required by JPA)
+    public ProviderMemberSketchEntity() {
+    }
+
+    // Getters and Setters
+    public Integer getProviderId() {
+        return providerId;
+    }
+
+    public void setProviderId(Integer providerId) {
+        this.providerId = providerId;
+    }
+
+    public LocalDate getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDate bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public byte[] getRegisters() {
+        return registers;
+    }
+
+    public void setRegisters(byte[] registers) {
+        this.registers = registers;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ProviderMemberSketchEntity{" +
+                "providerId=" + providerId +
+                ", bucketStart=" + bucketStart +
+                ", registers=" + (registers == null ? 0 : registers.length) + " bytes" +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+
+    /**
+     * Composite primary key (provider, month)
+     */
+    public static class Key implements Serializable {
+
+        private Integer providerId;
+        private LocalDate bucketStart;
+
+        // Default constructor (required by JPA)
+        public Key() {
+        }
+
+        public Key(Integer providerId, LocalDate bucketStart) {
+            this.providerId = providerId;
+            this.bucketStart = bucketStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return Objects.equals(providerId, key.providerId) && Objects.equals(bucketStart, key.bucketStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(providerId, bucketStart);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.feedback_api.repositories;
+
+import com.example.feedback_api.model.BackfillCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA Repository for BackfillCheckpointEntity
+ * One row per key-range partition of the backfill job
+ */
+@Repository
+public interface BackfillCheckpointRepository extends JpaRepository<BackfillCheckpointEntity, Integer> {
+
+    /**
+     * Load all partition checkpoints in partition order
+     *
+     * @return checkpoints ordered by partition number
+     */
+    List<BackfillCheckpointEntity> findAllByOrderByPartitionNoAsc();
+}
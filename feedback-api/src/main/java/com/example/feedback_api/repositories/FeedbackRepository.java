@@ -1,9 +1,14 @@
 package com.example.feedback_api.repositories;
 
 import com.example.feedback_api.model.FeedbackEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,13 +37,138 @@ public interface FeedbackRepository extends JpaRepository<FeedbackEntity, UUID>
      */
     List<FeedbackEntity> findByMemberIdOrderBySubmittedAtDesc(String memberId);
 
+    /**
+     * Find the feedback entries of several members in one query, newest first
+     * Used by the batch member lookup, which groups the rows per member
+     *
+     * @param memberIds member identifiers
+     * @return feedback entries of all the members ordered by submittedAt descending
+     */
+    List<FeedbackEntity> findByMemberIdInOrderBySubmittedAtDesc(Collection<String> memberIds);
+
+    /**
+     * Find several feedback entries by ID in one query
+     * Used by the batch ID lookup; IDs with no row are simply absent
+     *
+     * @param ids feedback IDs
+     * @return matching feedback entries in no particular order
+     */
+    List<FeedbackEntity> findByIdIn(Collection<UUID> ids);
+
     /**
      * Check if a member has already provided feedback for a specific provider
      * Useful for preventing duplicate feedback from the same member
      * 
-     * @param memberId     the member identifier
-     * @param providerName the provider name
+     * @param memberId   the member identifier
+     * @param providerId the provider's dictionary id
      * @return true if feedback exists, false otherwise
      */
-    boolean existsByMemberIdAndProviderName(String memberId, String providerName);
-}
\ No newline at end of file
+    boolean existsByMemberIdAndProviderId(String memberId, Integer providerId);
+
+    /**
+     * Keyset-paginated scan of an id range, ordered by id
+     * Used by the backfill job to walk one partition page by page via the primary key index
+     *
+     * @param afterId  exclusive lower bound (last id of the previous page)
+     * @param beforeId exclusive upper bound of the partition
+     * @param limit    page size
+     * @return next page of feedback entries ordered by id ascending
+     */
+    List<FeedbackEntity> findByIdGreaterThanAndIdLessThanOrderByIdAsc(UUID afterId, UUID beforeId, Limit limit);
+
+    /**
+     * Oldest feedback submitted before a cutoff
+     * Used by the archive job to fill one segment at a time via idx_feedback_submitted_at
+     *
+     * @param cutoff exclusive upper bound on submittedAt
+     * @param limit  segment size
+     * @return oldest entries first
+     */
+    List<FeedbackEntity> findBySubmittedAtBeforeOrderBySubmittedAtAscIdAsc(Instant cutoff, Limit limit);
+
+    /**
+     * Number of feedback entries submitted in [from, to)
+     * Index-only scan of idx_feedback_submitted_at
+     *
+     * @param from inclusive lower bound
+     * @param to   exclusive upper bound
+     * @return feedback count
+     */
+    @Query("SELECT COUNT(*) FROM FeedbackEntity f WHERE f.submittedAt >= :from AND f.submittedAt < :to")
+    long countSubmittedBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * Number of feedback entries a member submitted in [from, to)
+     * Index-only scan of idx_feedback_member_submitted_at
+     *
+     * @param memberId the member identifier
+     * @param from     inclusive lower bound
+     * @param to       exclusive upper bound
+     * @return feedback count
+     */
+    @Query("SELECT COUNT(*) FROM FeedbackEntity f "
+            + "WHERE f.memberId = :memberId AND f.submittedAt >= :from AND f.submittedAt < :to")
+    long countByMemberIdSubmittedBetween(@Param("memberId") String memberId, @Param("from") Instant from,
+            @Param("to") Instant to);
+
+    /**
+     * Feedback count per rating value in [from, to)
+     * Ratings with no feedback are absent from the result
+     *
+     * @param from inclusive lower bound
+     * @param to   exclusive upper bound
+     * @return one row per rating present
+     */
+    @Query("SELECT f.rating AS rating, COUNT(*) AS feedbackCount FROM FeedbackEntity f "
+            + "WHERE f.submittedAt >= :from AND f.submittedAt < :to GROUP BY f.rating")
+    List<RatingCount> countByRatingSubmittedBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * Feedback count per rating value for one provider in [from, to)
+     * Index-only scan of idx_feedback_provider_submitted_at
+     *
+     * @param providerId the provider's dictionary id
+     * @param from       inclusive lower bound
+     * @param to         exclusive upper bound
+     * @return one row per rating present
+     */
+    @Query("SELECT f.rating AS rating, COUNT(*) AS feedbackCount FROM FeedbackEntity f "
+            + "WHERE f.providerId = :providerId AND f.submittedAt >= :from AND f.submittedAt < :to "
+            + "GROUP BY f.rating")
+    List<RatingCount> countByRatingForProviderSubmittedBetween(@Param("providerId") Integer providerId,
+            @Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * Feedback count and average rating per provider in [from, to), most reviewed first
+     *
+     * @param from  inclusive lower bound
+     * @param to    exclusive upper bound
+     * @param limit maximum number of providers
+     * @return one row per provider with feedback in the window
+     */
+    @Query("SELECT f.providerId AS providerId, COUNT(*) AS feedbackCount, AVG(f.rating) AS averageRating "
+            + "FROM FeedbackEntity f WHERE f.submittedAt >= :from AND f.submittedAt < :to "
+            + "GROUP BY f.providerId ORDER BY COUNT(*) DESC, f.providerId")
+    List<ProviderRating> summarizeByProviderSubmittedBetween(@Param("from") Instant from, @Param("to") Instant to,
+            Limit limit);
+
+    /**
+     * Projection row of a rating histogram
+     */
+    interface RatingCount {
+        Integer getRating();
+
+        long getFeedbackCount();
+    }
+
+    /**
+     * Projection row of a per-provider rating summary
+     */
+    interface ProviderRating {
+        Integer getProviderId();
+
+        long getFeedbackCount();
+
+        Double getAverageRating();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.feedback_api.repositories;
+
+import com.example.feedback_api.model.ProviderMemberSketchEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA Repository for ProviderMemberSketchEntity
+ * Persistent side of DistinctMemberCounter
+ */
+@Repository
+public interface ProviderMemberSketchRepository
+        extends JpaRepository<ProviderMemberSketchEntity, ProviderMemberSketchEntity.Key> {
+
+    /**
+     * Load a provider's monthly sketches from a given month onwards
+     *
+     * @param providerId  provider id
+     * @param bucketStart first month to include
+     * @return matching sketches
+     */
+    List<ProviderMemberSketchEntity> findByProviderIdAndBucketStartGreaterThanEqual(Integer providerId,
+            LocalDate bucketStart);
+
+    /**
+     * Lock a sketch row for a read-merge-write update
+     *
+     * @param providerId  provider id
+     * @param bucketStart month
+     * @return the locked row, if it exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProviderMemberSketchEntity s WHERE s.providerId = :providerId AND s.bucketStart = :bucketStart")
+    Optional<ProviderMemberSketchEntity> findForUpdate(@Param("providerId") Integer providerId,
+            @Param("bucketStart") LocalDate bucketStart);
+
+    /**
+     * Insert a sketch row unless one already exists for the provider and month
+     *
+     * @param providerId  provider id
+     * @param bucketStart month
+     * @param registers   serialized registers
+     * @return number of rows inserted (0 if the row already existed)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO provider_member_sketch (provider_id, bucket_start, registers) "
+            + "VALUES (:providerId, :bucketStart, :registers) "
+            + "ON CONFLICT (provider_id, bucket_start) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("providerId") Integer providerId, @Param("bucketStart") LocalDate bucketStart,
+            @Param("registers") byte[] registers);
+}
@@ -0,0 +1,39 @@
+package com.example.feedback_api.repositories;
+
+import com.example.feedback_api.model.ProviderEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Spring Data JPA Repository for ProviderEntity
+ * Backs the in-memory ProviderDictionary
+ */
+@Repository
+public interface ProviderRepository extends JpaRepository<ProviderEntity, Integer> {
+
+    /**
+     * Find a provider by its normalized name
+     *
+     * @param normalizedName output of ProviderDictionary.normalize
+     * @return the provider, if it exists
+     */
+    Optional<ProviderEntity> findByNormalizedName(String normalizedName);
+
+    /**
+     * Insert a provider unless one with the same normalized name already exists
+     * Safe to call concurrently from several threads or instances
+     *
+     * @param name           display name
+     * @param normalizedName output of ProviderDictionary.normalize
+     * @return number of rows inserted (0 if the provider already existed)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO providers (name, normalized_name) VALUES (:name, :normalizedName) "
+            + "ON CONFLICT (normalized_name) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("normalizedName") String normalizedName);
+}
@@ -0,0 +1,39 @@
+package com.example.feedback_api.repositories;
+
+import com.example.feedback_api.model.FeedbackRow;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * R2DBC counterpart of FeedbackRepository for the reactive variant
+ * Only instantiated when R2DBC is enabled (profile "reactive")
+ */
+public interface ReactiveFeedbackRepository extends R2dbcRepository<FeedbackRow, UUID> {
+
+    /**
+     * Find all feedback ordered by submission time (newest first)
+     *
+     * @return rows emitted as they are read
+     */
+    Flux<FeedbackRow> findAllByOrderBySubmittedAtDesc();
+
+    /**
+     * Find feedback for a specific member, ordered by submission time (newest first)
+     *
+     * @param memberId the member identifier to search for
+     * @return rows emitted as they are read
+     */
+    Flux<FeedbackRow> findByMemberIdOrderBySubmittedAtDesc(String memberId);
+
+    /**
+     * Check if a member has already provided feedback for a specific provider
+     *
+     * @param memberId   the member identifier
+     * @param providerId the provider's dictionary id
+     * @return true if feedback exists, false otherwise
+     */
+    Mono<Boolean> existsByMemberIdAndProviderId(String memberId, Integer providerId);
+}
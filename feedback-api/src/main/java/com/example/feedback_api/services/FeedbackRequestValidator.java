@@ -0,0 +1,80 @@
+package com.example.feedback_api.services;
+
+import com.example.feedback_api.dtos.ErrorResponse;
+import com.example.feedback_api.dtos.FeedbackRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass validation for feedback submissions
+ * Trims each field once, checks every rule with plain comparisons (no
+ * reflection) and reports all violations together. The rules mirror the
+ * constraint annotations on FeedbackRequest, which document the API contract;
+ * lengths are checked after trimming, since trimmed values are what is stored.
+ */
+@Component
+public class FeedbackRequestValidator {
+
+    static final int MEMBER_ID_MAX_LENGTH = 36;
+    static final int PROVIDER_NAME_MAX_LENGTH = 80;
+    static final int COMMENT_MAX_LENGTH = 200;
+    static final int MIN_RATING = 1;
+    static final int MAX_RATING = 5;
+
+    /**
+     * Validate and normalize a feedback request
+     *
+     * @param request request body as received
+     * @return normalized submission
+     * @throws ValidationException listing every field that failed
+     */
+    public ValidatedFeedback validate(FeedbackRequest request) {
+        List<ErrorResponse.FieldError> errors = null;
+
+        String memberId = trim(request.getMemberId());
+        if (memberId == null || memberId.isEmpty()) {
+            errors = add(errors, "memberId", "Member ID is required");
+        } else if (memberId.length() > MEMBER_ID_MAX_LENGTH) {
+            errors = add(errors, "memberId", "Member ID must be 36 characters or less");
+        }
+
+        String providerName = trim(request.getProviderName());
+        if (providerName == null || providerName.isEmpty()) {
+            errors = add(errors, "providerName", "Provider name is required");
+        } else if (providerName.length() > PROVIDER_NAME_MAX_LENGTH) {
+            errors = add(errors, "providerName", "Provider name must be 80 characters or less");
+        }
+
+        Integer rating = request.getRating();
+        if (rating == null) {
+            errors = add(errors, "rating", "Rating is required");
+        } else if (rating < MIN_RATING || rating > MAX_RATING) {
+            errors = add(errors, "rating", "Rating must be between 1 and 5");
+        }
+
+        String comment = trim(request.getComment());
+        if (comment != null && comment.length() > COMMENT_MAX_LENGTH) {
+            errors = add(errors, "comment", "Comment must be 200 characters or less");
+        }
+
+        if (errors != null) {
+            throw new ValidationException(errors);
+        }
+        return new ValidatedFeedback(memberId, providerName, rating, comment);
+    }
+
+    // String.trim returns the same instance when there is nothing to trim
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    // The list is only allocated once a request actually fails
+    private static List<ErrorResponse.FieldError> add(List<ErrorResponse.FieldError> errors, String field,
+            String message) {
+        List<ErrorResponse.FieldError> result = errors == null ? new ArrayList<>(4) : errors;
+        result.add(new ErrorResponse.FieldError(field, message));
+        return result;
+    }
+}
@@ -1,16 +1,39 @@
 package com.example.feedback_api.services;
 
+import com.example.feedback_api.archive.FeedbackArchive;
+import com.example.feedback_api.datasource.ReadRoutingContext;
+import com.example.feedback_api.datasource.ReadYourWritesTracker;
+import com.example.feedback_api.deadline.DeadlineContext;
+import com.example.feedback_api.dtos.ErrorResponse;
+import com.example.feedback_api.dtos.FeedbackBatchResponse;
 import com.example.feedback_api.dtos.FeedbackRequest;
 import com.example.feedback_api.dtos.FeedbackResponse;
+import com.example.feedback_api.dtos.MemberFeedbackBatchResponse;
 import com.example.feedback_api.messaging.FeedbackEventPublisher;
 import com.example.feedback_api.model.FeedbackEntity;
 import com.example.feedback_api.repositories.FeedbackRepository;
+import com.example.feedback_api.streaming.FeedbackSubmittedEvent;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 /**
  * Service layer for feedback operations
@@ -20,124 +43,304 @@ import java.util.UUID;
 @Transactional
 public class FeedbackService {
 
+    /**
+     * Most keys accepted by one batch lookup
+     */
+    public static final int MAX_BATCH_KEYS = 500;
+
+    // V6: one feedback row per member and provider
+    private static final String MEMBER_PROVIDER_CONSTRAINT = "uq_feedback_member_provider";
+
     private final FeedbackRepository feedbackRepository;
     private final FeedbackEventPublisher eventPublisher;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ProviderDictionary providerDictionary;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final QueryCoalescer queryCoalescer;
+    private final FeedbackRequestValidator requestValidator;
+    private final FeedbackArchive feedbackArchive;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
 
-    public FeedbackService(FeedbackRepository feedbackRepository, FeedbackEventPublisher eventPublisher) {
+    public FeedbackService(FeedbackRepository feedbackRepository, FeedbackEventPublisher eventPublisher,
+            ApplicationEventPublisher applicationEventPublisher, ProviderDictionary providerDictionary,
+            ReadYourWritesTracker readYourWritesTracker, QueryCoalescer queryCoalescer,
+            FeedbackRequestValidator requestValidator, FeedbackArchive feedbackArchive,
+            PlatformTransactionManager transactionManager) {
         this.feedbackRepository = feedbackRepository;
         this.eventPublisher = eventPublisher;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.providerDictionary = providerDictionary;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.queryCoalescer = queryCoalescer;
+        this.requestValidator = requestValidator;
+        this.feedbackArchive = feedbackArchive;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
     }
 
     /**
      * Validate feedback request and save to database
-     * Applies additional service-layer validation beyond DTO validation
+     * Convenience for callers that have not run FeedbackRequestValidator themselves
      *
-     * @param request validated feedback request DTO from controller
+     * @param request feedback request DTO
      * @return feedback response DTO with generated ID and timestamp
-     * @throws ValidationException if business validation fails
+     * @throws ValidationException if validation or business rules fail
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public FeedbackResponse validateAndSave(FeedbackRequest request) {
-        // Additional service-layer validation
-        validateBusinessRules(request);
+        return save(requestValidator.validate(request));
+    }
+
+    /**
+     * Save an already validated submission
+     * Applies the business rules that need the database (duplicates).
+     * The provider is resolved (and created on first use) before the write
+     * transaction opens, so a save holds one connection at a time: with the
+     * write pool share fully in use, a nested provider transaction would
+     * otherwise wait for a connection its own caller is holding.
+     *
+     * The existence check is only a fast path: a provider created by this very
+     * submission skips it, and concurrent submissions race past it, so the
+     * unique index on (member_id, provider_id) has the final say.
+     *
+     * @param feedback output of FeedbackRequestValidator
+     * @return feedback response DTO with generated ID and timestamp
+     * @throws ValidationException if business validation fails
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FeedbackResponse save(ValidatedFeedback feedback) {
+        DeadlineContext.check("saving feedback");
+
+        // A provider that isn't in the dictionary yet cannot have feedback
+        Optional<Integer> knownProviderId = providerDictionary.findId(feedback.providerName());
+        int providerId = providerDictionary.resolveId(feedback.providerName());
+        String providerName = providerDictionary.getName(providerId);
+
+        try {
+            return insert(feedback, knownProviderId, providerId, providerName);
+        } catch (DataIntegrityViolationException e) {
+            if (isMemberProviderViolation(e)) {
+                throw new ValidationException("You have already submitted feedback for " + feedback.providerName());
+            }
+            throw e;
+        }
+    }
+
+    private FeedbackResponse insert(ValidatedFeedback feedback, Optional<Integer> knownProviderId, int providerId,
+            String providerName) {
+        return writeTransaction.execute(status -> {
+            // Business rules that need the database
+            validateBusinessRules(feedback, knownProviderId);
 
-        // Map DTO → Entity
-        FeedbackEntity entity = mapRequestToEntity(request);
+            // Map validated submission → Entity
+            FeedbackEntity entity = mapToEntity(feedback, providerId, providerName);
 
-        // Set timestamp manually to ensure it's not null
-        // @CreationTimestamp should handle this, but we ensure it's set
-        entity.setSubmittedAt(Instant.now());
+            // Set timestamp manually to ensure it's not null
+            // @CreationTimestamp should handle this, but we ensure it's set
+            entity.setSubmittedAt(Instant.now());
 
-        // Save to database
-        FeedbackEntity savedEntity = feedbackRepository.save(entity);
+            // Save to database; flushed so a duplicate fails here, before the event is queued
+            FeedbackEntity savedEntity = feedbackRepository.saveAndFlush(entity);
 
-        // Publish event to Kafka after successful save
-        eventPublisher.publishFeedbackSubmitted(savedEntity);
+            // Client has given up: roll back rather than commit and publish a submission nobody saw succeed
+            DeadlineContext.check("committing feedback");
 
-        // Map Entity → Response DTO
-        return mapEntityToResponse(savedEntity);
+            // Publish event to Kafka after successful save
+            eventPublisher.publishFeedbackSubmitted(savedEntity);
+
+            // Member's next reads go to the primary until replicas have caught up
+            readYourWritesTracker.recordWrite(savedEntity.getMemberId(), savedEntity.getId());
+
+            // Map Entity → Response DTO
+            FeedbackResponse response = mapEntityToResponse(savedEntity);
+
+            // Notify in-process listeners (live stream); delivered after commit
+            applicationEventPublisher.publishEvent(new FeedbackSubmittedEvent(response));
+
+            return response;
+        });
+    }
+
+    private static boolean isMemberProviderViolation(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && MEMBER_PROVIDER_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName());
     }
 
     /**
      * Retrieve feedback entries with optional filtering by member ID
      * Returns all feedback if memberId is null, or filtered feedback if memberId is
-     * provided
+     * provided. Served by a read replica unless the member has just submitted.
+     * A member's archived feedback is included; the unfiltered list covers the
+     * feedback table only.
+     * Concurrent identical reads share one query execution; the transaction is
+     * opened only by the caller that runs it, so waiting callers hold no connection.
      *
      * @param memberId optional member ID to filter by
-     * @return list of feedback response DTOs (may be empty)
+     * @return list of feedback response DTOs (may be empty; shared, do not modify)
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<FeedbackResponse> getFeedback(String memberId) {
-        List<FeedbackEntity> entities;
-
+        DeadlineContext.check("reading feedback");
         if (memberId == null || memberId.trim().isEmpty()) {
             // Return all feedback, ordered by submission time (newest first)
-            entities = feedbackRepository.findAllByOrderBySubmittedAtDesc();
-        } else {
-            // Return feedback for specific member, ordered by submission time (newest
-            // first)
-            entities = feedbackRepository.findByMemberIdOrderBySubmittedAtDesc(memberId.trim());
+            return queryCoalescer.execute("feedback:all",
+                    () -> readFeedback(feedbackRepository::findAllByOrderBySubmittedAtDesc));
         }
 
-        // Map entities to response DTOs
-        return entities.stream()
-                .map(this::mapEntityToResponse)
-                .toList();
+        // Return feedback for specific member, ordered by submission time (newest
+        // first)
+        String trimmedMemberId = memberId.trim();
+        if (readYourWritesTracker.memberWroteRecently(trimmedMemberId)) {
+            // Not coalesced: a read already in flight may have started before this member's write
+            return ReadRoutingContext.onPrimaryIf(true,
+                    () -> readFeedback(() -> findMemberFeedback(trimmedMemberId)));
+        }
+        return queryCoalescer.execute("feedback:member:" + trimmedMemberId,
+                () -> readFeedback(() -> findMemberFeedback(trimmedMemberId)));
     }
 
     /**
-     * Apply business validation rules
-     * Additional validation beyond DTO annotations
+     * A member's feedback from the table followed by their archived feedback
+     * Archived rows are all older than any row still in the table, so appending
+     * keeps newest-first order
      *
-     * @param request feedback request to validate
-     * @throws ValidationException if validation fails
+     * @param memberId trimmed member ID
+     * @return entities ordered by submittedAt descending
      */
-    private void validateBusinessRules(FeedbackRequest request) {
-        // Validate required fields (additional check beyond DTO)
-        if (request.getMemberId() == null || request.getMemberId().trim().isEmpty()) {
-            throw new ValidationException("Member ID is required");
-        }
+    private List<FeedbackEntity> findMemberFeedback(String memberId) {
+        return withArchived(memberId, feedbackRepository.findByMemberIdOrderBySubmittedAtDesc(memberId));
+    }
 
-        if (request.getProviderName() == null || request.getProviderName().trim().isEmpty()) {
-            throw new ValidationException("Provider name is required");
+    /**
+     * Append a member's archived feedback to their feedback from the table
+     *
+     * @param memberId trimmed member ID
+     * @param current  the member's rows from the table, newest first
+     * @return entities ordered by submittedAt descending
+     */
+    private List<FeedbackEntity> withArchived(String memberId, List<FeedbackEntity> current) {
+        List<FeedbackEntity> archived = feedbackArchive.findByMemberId(memberId);
+        if (archived.isEmpty()) {
+            return current;
         }
 
-        if (request.getRating() == null) {
-            throw new ValidationException("Rating is required");
+        // While the archive job runs, a row can briefly be in both places
+        Set<UUID> currentIds = current.stream().map(FeedbackEntity::getId).collect(Collectors.toSet());
+        List<FeedbackEntity> all = new ArrayList<>(current.size() + archived.size());
+        all.addAll(current);
+        archived.stream().filter(entity -> !currentIds.contains(entity.getId())).forEach(all::add);
+        return all;
+    }
+
+    /**
+     * Retrieve the feedback of several members with one query
+     * Rows are grouped per member, newest first, with each member's archived
+     * feedback appended as in getFeedback. Served by a read replica unless one
+     * of the members has just submitted.
+     *
+     * @param memberIds member IDs (trimmed; repeated IDs are looked up once)
+     * @return feedback per member in request order, empty for members with none
+     * @throws ValidationException if the list is empty, too long or has a blank ID
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MemberFeedbackBatchResponse getFeedbackByMemberIds(List<String> memberIds) {
+        DeadlineContext.check("reading feedback");
+        Set<String> members = new LinkedHashSet<>();
+        for (String memberId : checkBatch("memberIds", memberIds)) {
+            if (memberId == null || memberId.isBlank()) {
+                throw new ValidationException(List.of(
+                        new ErrorResponse.FieldError("memberIds", "Member IDs must not be blank")));
+            }
+            members.add(memberId.trim());
         }
 
-        // Validate rating range (1-5)
-        if (request.getRating() < 1 || request.getRating() > 5) {
-            throw new ValidationException("Rating must be between 1 and 5");
+        boolean primaryRequired = members.stream().anyMatch(readYourWritesTracker::memberWroteRecently);
+        List<FeedbackEntity> current = ReadRoutingContext.onPrimaryIf(primaryRequired, () -> readOnlyTransaction
+                .execute(status -> feedbackRepository.findByMemberIdInOrderBySubmittedAtDesc(members)));
+
+        Map<String, List<FeedbackEntity>> currentByMember = new HashMap<>();
+        for (FeedbackEntity entity : current) {
+            currentByMember.computeIfAbsent(entity.getMemberId(), key -> new ArrayList<>()).add(entity);
+        }
+        Map<String, List<FeedbackResponse>> feedbackByMember = new LinkedHashMap<>();
+        for (String memberId : members) {
+            feedbackByMember.put(memberId, withArchived(memberId, currentByMember.getOrDefault(memberId, List.of()))
+                    .stream()
+                    .map(this::mapEntityToResponse)
+                    .toList());
         }
+        return new MemberFeedbackBatchResponse(feedbackByMember);
+    }
 
-        // Validate comment length if provided
-        if (request.getComment() != null && request.getComment().length() > 200) {
-            throw new ValidationException("Comment must be 200 characters or less");
+    /**
+     * Reject an empty or oversized batch
+     *
+     * @param field name of the request field, for the error
+     * @param keys  requested keys
+     * @return the keys
+     * @throws ValidationException if there are no keys or more than MAX_BATCH_KEYS
+     */
+    private static List<String> checkBatch(String field, List<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            throw new ValidationException(List.of(
+                    new ErrorResponse.FieldError(field, "At least one ID is required")));
         }
+        if (keys.size() > MAX_BATCH_KEYS) {
+            throw new ValidationException(List.of(
+                    new ErrorResponse.FieldError(field, "At most " + MAX_BATCH_KEYS + " IDs per request")));
+        }
+        return keys;
+    }
+
+    /**
+     * Run a feedback query in a read-only transaction and map the result
+     *
+     * @param query repository query
+     * @return response DTOs
+     */
+    private List<FeedbackResponse> readFeedback(Supplier<List<FeedbackEntity>> query) {
+        return readOnlyTransaction.execute(status -> query.get().stream()
+                .map(this::mapEntityToResponse)
+                .toList());
+    }
 
+    /**
+     * Apply business validation rules
+     * Field rules have already been checked by FeedbackRequestValidator
+     *
+     * @param feedback   validated submission
+     * @param providerId provider id if the provider existed before this submission
+     * @throws ValidationException if validation fails
+     */
+    private void validateBusinessRules(ValidatedFeedback feedback, Optional<Integer> providerId) {
         // Business rule: Check for duplicate feedback
-        boolean duplicateExists = feedbackRepository.existsByMemberIdAndProviderName(
-                request.getMemberId().trim(),
-                request.getProviderName().trim());
+        boolean duplicateExists = providerId.isPresent()
+                && (feedbackRepository.existsByMemberIdAndProviderId(feedback.memberId(), providerId.get())
+                        || feedbackArchive.existsByMemberIdAndProviderId(feedback.memberId(), providerId.get()));
 
         if (duplicateExists) {
             throw new ValidationException(
-                    "You have already submitted feedback for " + request.getProviderName());
+                    "You have already submitted feedback for " + feedback.providerName());
         }
     }
 
     /**
-     * Map FeedbackRequest DTO to FeedbackEntity
+     * Map a validated submission to FeedbackEntity
      *
-     * @param request validated DTO from controller
+     * @param feedback     validated submission (fields already trimmed)
+     * @param providerId   resolved provider id
+     * @param providerName provider's display name
      * @return entity ready for persistence
      */
-    private FeedbackEntity mapRequestToEntity(FeedbackRequest request) {
+    private FeedbackEntity mapToEntity(ValidatedFeedback feedback, int providerId, String providerName) {
         FeedbackEntity entity = new FeedbackEntity();
-        entity.setMemberId(request.getMemberId().trim());
-        entity.setProviderName(request.getProviderName().trim());
-        entity.setRating(request.getRating());
-        entity.setComment(request.getComment() != null ? request.getComment().trim() : null);
+        entity.setMemberId(feedback.memberId());
+        entity.setProviderId(providerId);
+        entity.setProviderName(providerName);
+        entity.setRating(feedback.rating());
+        entity.setComment(feedback.comment());
         return entity;
     }
 
@@ -148,6 +351,7 @@ public class FeedbackService {
      * @return response DTO for controller
      */
     private FeedbackResponse mapEntityToResponse(FeedbackEntity entity) {
+        providerDictionary.fillName(entity);
         return new FeedbackResponse(
                 entity.getId(),
                 entity.getMemberId(),
@@ -159,13 +363,63 @@ public class FeedbackService {
 
     /**
      * Get feedback by ID
+     * Served by a read replica unless the feedback was only just written;
+     * falls back to the archive for feedback that has been archived
      * 
      * @param id feedback ID
      * @return feedback response DTO
      */
+    @Transactional(readOnly = true)
     public FeedbackResponse getFeedbackById(String id) {
-        FeedbackEntity entity = feedbackRepository.findById(UUID.fromString(id))
+        DeadlineContext.check("reading feedback");
+        UUID feedbackId = UUID.fromString(id);
+        FeedbackEntity entity = ReadRoutingContext.onPrimaryIf(readYourWritesTracker.feedbackWrittenRecently(feedbackId),
+                () -> feedbackRepository.findById(feedbackId))
+                .or(() -> feedbackArchive.findById(feedbackId))
                 .orElseThrow(() -> new FeedbackNotFoundException("Feedback not found with id:" + id));
         return mapEntityToResponse(entity);
     }
-}
\ No newline at end of file
+
+    /**
+     * Get several feedback entries by ID with one query
+     * IDs missing from the table are looked up in the archive. Served by a
+     * read replica unless one of the entries was only just written.
+     *
+     * @param ids feedback IDs (repeated IDs are looked up once)
+     * @return found feedback keyed by ID in request order, and the IDs with none
+     * @throws ValidationException if the list is empty, too long or has a malformed ID
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FeedbackBatchResponse getFeedbackByIds(List<String> ids) {
+        DeadlineContext.check("reading feedback");
+        Set<UUID> feedbackIds = new LinkedHashSet<>();
+        for (String id : checkBatch("ids", ids)) {
+            try {
+                feedbackIds.add(UUID.fromString(id == null ? "" : id.trim()));
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException(List.of(
+                        new ErrorResponse.FieldError("ids", "Invalid feedback ID: " + id)));
+            }
+        }
+
+        boolean primaryRequired = feedbackIds.stream().anyMatch(readYourWritesTracker::feedbackWrittenRecently);
+        Map<UUID, FeedbackEntity> current = new HashMap<>();
+        ReadRoutingContext.onPrimaryIf(primaryRequired,
+                () -> readOnlyTransaction.execute(status -> feedbackRepository.findByIdIn(feedbackIds)))
+                .forEach(entity -> current.put(entity.getId(), entity));
+
+        Map<String, FeedbackResponse> feedback = new LinkedHashMap<>();
+        List<String> notFound = new ArrayList<>();
+        for (UUID feedbackId : feedbackIds) {
+            // Only the misses can have been archived
+            Optional<FeedbackEntity> entity = Optional.ofNullable(current.get(feedbackId))
+                    .or(() -> feedbackArchive.findById(feedbackId));
+            if (entity.isPresent()) {
+                feedback.put(feedbackId.toString(), mapEntityToResponse(entity.get()));
+            } else {
+                notFound.add(feedbackId.toString());
+            }
+        }
+        return new FeedbackBatchResponse(feedback, notFound);
+    }
+}
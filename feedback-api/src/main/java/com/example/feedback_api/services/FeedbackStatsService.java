@@ -0,0 +1,182 @@
+package com.example.feedback_api.services;
+
+import com.example.feedback_api.dtos.ErrorResponse;
+import com.example.feedback_api.dtos.FeedbackCountResponse;
+import com.example.feedback_api.dtos.ProviderRatingsResponse;
+import com.example.feedback_api.dtos.RatingHistogramResponse;
+import com.example.feedback_api.repositories.FeedbackRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Service layer for feedback statistics
+ * Counts, averages and rating histograms are computed by SQL aggregates over
+ * covering indexes, so only a few rows ever leave the database. Results are
+ * cached for a short TTL and may lag new submissions by up to that long;
+ * concurrent misses for the same statistic run the query once.
+ */
+@Service
+public class FeedbackStatsService {
+
+    static final int MIN_RATING = 1;
+    static final int MAX_RATING = 5;
+
+    // An open window is bound to these so every query keeps one indexable range predicate
+    static final Instant OPEN_START = Instant.EPOCH;
+    static final Instant OPEN_END = Instant.parse("9999-12-31T23:59:59Z");
+
+    private final FeedbackRepository feedbackRepository;
+    private final ProviderDictionary providerDictionary;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<Key, Object> cache;
+
+    public FeedbackStatsService(FeedbackRepository feedbackRepository, ProviderDictionary providerDictionary,
+            PlatformTransactionManager transactionManager,
+            @Value("${feedback.stats.cache-ttl-seconds:10}") long cacheTtlSeconds,
+            @Value("${feedback.stats.cache-max-entries:10000}") long cacheMaxEntries) {
+        this.feedbackRepository = feedbackRepository;
+        this.providerDictionary = providerDictionary;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .maximumSize(cacheMaxEntries)
+                .build();
+    }
+
+    /**
+     * Number of feedback entries, overall or for one member
+     *
+     * @param memberId optional member ID (blank means all members)
+     * @param from     optional inclusive start of the window
+     * @param to       optional exclusive end of the window
+     * @return feedback count
+     * @throws ValidationException if from is not before to
+     */
+    public FeedbackCountResponse countFeedback(String memberId, Instant from, Instant to) {
+        validateWindow(from, to);
+        String member = memberId == null || memberId.isBlank() ? null : memberId.trim();
+
+        return cached(new Key("count", member, from, to), () -> {
+            long count = member == null
+                    ? feedbackRepository.countSubmittedBetween(start(from), end(to))
+                    : feedbackRepository.countByMemberIdSubmittedBetween(member, start(from), end(to));
+            return new FeedbackCountResponse(member, count, from, to);
+        });
+    }
+
+    /**
+     * Rating distribution with total and average, overall or for one provider
+     * An unknown provider has an empty histogram
+     *
+     * @param providerName optional provider name (blank means all providers)
+     * @param from         optional inclusive start of the window
+     * @param to           optional exclusive end of the window
+     * @return histogram over ratings 1 to 5
+     * @throws ValidationException if from is not before to
+     */
+    public RatingHistogramResponse ratingHistogram(String providerName, Instant from, Instant to) {
+        validateWindow(from, to);
+        boolean allProviders = providerName == null || providerName.isBlank();
+        String subject = allProviders ? null : ProviderDictionary.normalize(providerName);
+
+        return cached(new Key("ratings", subject, from, to), () -> {
+            if (allProviders) {
+                return histogram(null, feedbackRepository.countByRatingSubmittedBetween(start(from), end(to)),
+                        from, to);
+            }
+            Optional<Integer> providerId = providerDictionary.findId(providerName);
+            if (providerId.isEmpty()) {
+                return histogram(providerName.trim(), List.of(), from, to);
+            }
+            return histogram(providerDictionary.getName(providerId.get()),
+                    feedbackRepository.countByRatingForProviderSubmittedBetween(providerId.get(), start(from),
+                            end(to)),
+                    from, to);
+        });
+    }
+
+    /**
+     * Feedback count and average rating per provider, most reviewed first
+     *
+     * @param limit maximum number of providers
+     * @param from  optional inclusive start of the window
+     * @param to    optional exclusive end of the window
+     * @return per-provider summaries
+     * @throws ValidationException if from is not before to
+     */
+    public ProviderRatingsResponse providerRatings(int limit, Instant from, Instant to) {
+        validateWindow(from, to);
+
+        return cached(new Key("providers", String.valueOf(limit), from, to), () -> {
+            List<ProviderRatingsResponse.Entry> providers = feedbackRepository
+                    .summarizeByProviderSubmittedBetween(start(from), end(to), Limit.of(limit))
+                    .stream()
+                    .map(row -> new ProviderRatingsResponse.Entry(providerDictionary.getName(row.getProviderId()),
+                            row.getFeedbackCount(), row.getAverageRating()))
+                    .toList();
+            return new ProviderRatingsResponse(from, to, providers);
+        });
+    }
+
+    /**
+     * Build a histogram response from the aggregate rows
+     * The average is exact: it is derived from the per-rating counts
+     */
+    private RatingHistogramResponse histogram(String providerName, List<FeedbackRepository.RatingCount> rows,
+            Instant from, Instant to) {
+        Map<Integer, Long> ratings = new LinkedHashMap<>();
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            ratings.put(rating, 0L);
+        }
+
+        long total = 0;
+        long ratingSum = 0;
+        for (FeedbackRepository.RatingCount row : rows) {
+            ratings.put(row.getRating(), row.getFeedbackCount());
+            total += row.getFeedbackCount();
+            ratingSum += (long) row.getRating() * row.getFeedbackCount();
+        }
+
+        Double average = total == 0 ? null : (double) ratingSum / total;
+        return new RatingHistogramResponse(providerName, total, average, ratings, from, to);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(Key key, Supplier<T> query) {
+        return (T) cache.get(key, k -> readOnlyTransaction.execute(status -> query.get()));
+    }
+
+    private static void validateWindow(Instant from, Instant to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new ValidationException(List.of(new ErrorResponse.FieldError("from", "from must be before to")));
+        }
+    }
+
+    private static Instant start(Instant from) {
+        return from == null ? OPEN_START : from;
+    }
+
+    private static Instant end(Instant to) {
+        return to == null ? OPEN_END : to;
+    }
+
+    /**
+     * Cache key: statistic, its subject (member, provider or limit) and the window as requested
+     */
+    private record Key(String statistic, String subject, Instant from, Instant to) {
+    }
+}
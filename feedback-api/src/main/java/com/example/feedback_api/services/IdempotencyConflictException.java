@@ -0,0 +1,33 @@
+package com.example.feedback_api.services;
+
+/**
+ * Exception thrown when an Idempotency-Key cannot be honoured
+ * Either the original request with the key is still running (retry later,
+ * 409) or the key was already used for a different payload (422)
+ */
+public class IdempotencyConflictException extends RuntimeException {
+
+    private final boolean inProgress;
+
+    private IdempotencyConflictException(String message, boolean inProgress) {
+        super(message);
+        this.inProgress = inProgress;
+    }
+
+    static IdempotencyConflictException inProgress() {
+        return new IdempotencyConflictException("A request with this Idempotency-Key is still being processed", true);
+    }
+
+    static IdempotencyConflictException payloadMismatch() {
+        return new IdempotencyConflictException("Idempotency-Key has already been used for a different request",
+                false);
+    }
+
+    /**
+     * @return true if the original request is still running and a retry may succeed,
+     *         false if the key was reused with a different payload
+     */
+    public boolean isInProgress() {
+        return inProgress;
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.feedback_api.services;
+
+import com.example.feedback_api.deadline.DeadlineContext;
+import com.example.feedback_api.dtos.FeedbackRequest;
+import com.example.feedback_api.dtos.FeedbackResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key support for feedback creation
+ * Remembers the response of each successful POST by client-supplied key so that
+ * retries replay it without touching the database. Concurrent retries of an
+ * in-flight request wait for the single execution instead of running their own.
+ */
+@Service
+public class IdempotencyService {
+
+    private final Cache<String, Entry> entries;
+    private final long waitTimeoutMs;
+
+    public IdempotencyService(
+            @Value("${feedback.idempotency.max-keys:100000}") long maxKeys,
+            @Value("${feedback.idempotency.ttl-minutes:1440}") long ttlMinutes,
+            @Value("${feedback.idempotency.wait-timeout-ms:10000}") long waitTimeoutMs) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    /**
+     * Run the create operation at most once per idempotency key
+     *
+     * @param key     Idempotency-Key header value (blank means no idempotency)
+     * @param request request body, used to detect key reuse with a different payload
+     * @param action  the actual create operation
+     * @return the stored or freshly created response
+     * @throws IdempotencyConflictException if the key was used for a different request,
+     *                                      or the original execution is still running
+     * @throws ValidationException          if the original execution failed validation
+     */
+    public Result execute(String key, FeedbackRequest request, Supplier<FeedbackResponse> action) {
+        if (key == null || key.isBlank()) {
+            return new Result(action.get(), false);
+        }
+
+        Entry entry = new Entry(fingerprint(request));
+        Entry existing = entries.asMap().putIfAbsent(key, entry);
+
+        if (existing != null) {
+            if (!existing.fingerprint.equals(entry.fingerprint)) {
+                throw IdempotencyConflictException.payloadMismatch();
+            }
+            return new Result(await(existing), true);
+        }
+
+        try {
+            FeedbackResponse response = action.get();
+            entry.response.complete(response);
+            return new Result(response, false);
+        } catch (RuntimeException e) {
+            // Failed attempts are not remembered; a later retry executes again
+            entries.asMap().remove(key, entry);
+            entry.response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Non-blocking execute for the reactive variant
+     * A concurrent retry subscribes to the in-flight execution instead of
+     * blocking a thread on it
+     *
+     * @param key     Idempotency-Key header value (blank means no idempotency)
+     * @param request request body, used to detect key reuse with a different payload
+     * @param action  the actual create operation, subscribed at most once per key
+     * @return the stored or freshly created response; errors as execute throws
+     */
+    public Mono<Result> executeAsync(String key, FeedbackRequest request, Supplier<Mono<FeedbackResponse>> action) {
+        if (key == null || key.isBlank()) {
+            return Mono.defer(action).map(response -> new Result(response, false));
+        }
+
+        return Mono.defer(() -> {
+            Entry entry = new Entry(fingerprint(request));
+            Entry existing = entries.asMap().putIfAbsent(key, entry);
+
+            if (existing != null) {
+                if (!existing.fingerprint.equals(entry.fingerprint)) {
+                    return Mono.error(IdempotencyConflictException.payloadMismatch());
+                }
+                // suppressCancel: a waiter going away must not cancel the shared execution
+                return Mono.fromFuture(existing.response, true)
+                        .timeout(Duration.ofMillis(waitTimeoutMs),
+                                Mono.error(IdempotencyConflictException::inProgress))
+                        .map(response -> new Result(response, true));
+            }
+
+            return action.get()
+                    .doOnNext(entry.response::complete)
+                    .doOnError(e -> forget(key, entry, e))
+                    .doOnCancel(() -> forget(key, entry, new CancellationException("Request cancelled")))
+                    .map(response -> new Result(response, false));
+        });
+    }
+
+    private void forget(String key, Entry entry, Throwable failure) {
+        // Failed attempts are not remembered; a later retry executes again
+        entries.asMap().remove(key, entry);
+        entry.response.completeExceptionally(failure);
+    }
+
+    private FeedbackResponse await(Entry entry) {
+        try {
+            return entry.response.get(DeadlineContext.bound(waitTimeoutMs), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            DeadlineContext.check("the in-flight request with this Idempotency-Key finished");
+            throw IdempotencyConflictException.inProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight request", e);
+        }
+    }
+
+    private static String fingerprint(FeedbackRequest request) {
+        return request.getMemberId() + '\u0000' + request.getProviderName() + '\u0000'
+                + request.getRating() + '\u0000' + request.getComment();
+    }
+
+    /**
+     * Outcome of an idempotent execution
+     *
+     * @param response the feedback response to return
+     * @param replayed true if served from a previous execution
+     */
+    public record Result(FeedbackResponse response, boolean replayed) {
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final CompletableFuture<FeedbackResponse> response = new CompletableFuture<>();
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
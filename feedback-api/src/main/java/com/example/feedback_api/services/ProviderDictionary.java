@@ -0,0 +1,194 @@
+package com.example.feedback_api.services;
+
+import com.example.feedback_api.model.FeedbackEntity;
+import com.example.feedback_api.model.ProviderEntity;
+import com.example.feedback_api.repositories.ProviderRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory provider name ↔ id dictionary backed by the providers table
+ * Reads are lock-free map lookups; misses fall through to the database once
+ * and are cached for the life of the instance (providers are never renamed
+ * or deleted). The startup warm-up preloads every provider, so only providers
+ * created by another instance since then miss. New providers are created
+ * race-safely in their own transaction.
+ */
+@Service
+public class ProviderDictionary {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ProviderRepository providerRepository;
+    private final TransactionTemplate newTransaction;
+
+    private final Map<String, Integer> idsByNormalizedName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+
+    public ProviderDictionary(ProviderRepository providerRepository, PlatformTransactionManager transactionManager) {
+        this.providerRepository = providerRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Canonical form used for provider identity
+     * Trims, collapses internal whitespace and lower-cases the name
+     *
+     * @param providerName raw provider name
+     * @return normalized name
+     */
+    public static String normalize(String providerName) {
+        return displayName(providerName).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Look up the id of an existing provider without creating it
+     *
+     * @param providerName raw provider name
+     * @return provider id, or empty if the provider has never been seen
+     */
+    public Optional<Integer> findId(String providerName) {
+        String normalizedName = normalize(providerName);
+        Integer cached = idsByNormalizedName.get(normalizedName);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return providerRepository.findByNormalizedName(normalizedName).map(this::cache);
+    }
+
+    /**
+     * Resolve a provider name to its id, creating the provider on first use
+     * The insert commits independently of the caller's transaction, so a rolled
+     * back feedback save never leaves a cached id without a row behind it
+     *
+     * @param providerName raw provider name
+     * @return provider id
+     */
+    public int resolveId(String providerName) {
+        Optional<Integer> existing = findId(providerName);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        String name = displayName(providerName);
+        String normalizedName = normalize(providerName);
+        ProviderEntity provider = newTransaction.execute(status -> {
+            // Another request or instance may win the race; either way the row exists afterwards
+            providerRepository.insertIfAbsent(name, normalizedName);
+            return providerRepository.findByNormalizedName(normalizedName).orElseThrow();
+        });
+        return cache(provider);
+    }
+
+    /**
+     * Display name of a provider
+     * A miss is loaded in the caller's transaction, so this must not be called
+     * while Hibernate is materializing a result (the entity listener uses
+     * cachedName and leaves misses to fillName)
+     *
+     * @param providerId provider id
+     * @return display name, or null if no such provider exists
+     */
+    public String getName(Integer providerId) {
+        if (providerId == null) {
+            return null;
+        }
+        String cached = namesById.get(providerId);
+        if (cached != null) {
+            return cached;
+        }
+        return providerRepository.findById(providerId)
+                .map(provider -> {
+                    cache(provider);
+                    return provider.getName();
+                })
+                .orElse(null);
+    }
+
+    /**
+     * Set the provider name the entity listener could not resolve from memory
+     * Call once the query has returned
+     *
+     * @param feedback loaded feedback row
+     */
+    public void fillName(FeedbackEntity feedback) {
+        if (feedback.getProviderName() == null) {
+            feedback.setProviderName(getName(feedback.getProviderId()));
+        }
+    }
+
+    /**
+     * Cache-only lookup of a provider id, never touches the database
+     * Used by the reactive variant, which loads misses through R2DBC and
+     * hands the result back via remember
+     *
+     * @param providerName raw provider name
+     * @return provider id, or empty if not cached
+     */
+    public Optional<Integer> cachedId(String providerName) {
+        return Optional.ofNullable(idsByNormalizedName.get(normalize(providerName)));
+    }
+
+    /**
+     * Cache-only lookup of a provider's display name, never touches the database
+     *
+     * @param providerId provider id
+     * @return display name, or null if not cached
+     */
+    public String cachedName(Integer providerId) {
+        return providerId == null ? null : namesById.get(providerId);
+    }
+
+    /**
+     * Cache a provider row loaded outside this class
+     *
+     * @param providerId provider id
+     * @param name       display name as stored in the providers table
+     * @return provider id
+     */
+    public Integer remember(Integer providerId, String name) {
+        namesById.putIfAbsent(providerId, name);
+        idsByNormalizedName.putIfAbsent(normalize(name), providerId);
+        return providerId;
+    }
+
+    /**
+     * Load every provider into the in-memory maps
+     * Used by the startup warm-up so early requests do not miss
+     *
+     * @return number of providers loaded
+     */
+    public int preload() {
+        int count = 0;
+        for (ProviderEntity provider : providerRepository.findAll()) {
+            cache(provider);
+            count++;
+        }
+        return count;
+    }
+
+    private Integer cache(ProviderEntity provider) {
+        namesById.putIfAbsent(provider.getId(), provider.getName());
+        idsByNormalizedName.putIfAbsent(provider.getNormalizedName(), provider.getId());
+        return provider.getId();
+    }
+
+    /**
+     * Display form of a provider name: trimmed with internal whitespace collapsed
+     *
+     * @param providerName raw provider name
+     * @return name as stored in the providers table
+     */
+    public static String displayName(String providerName) {
+        return WHITESPACE.matcher(providerName.trim()).replaceAll(" ");
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.feedback_api.services;
+
+import com.example.feedback_api.model.FeedbackEntity;
+import jakarta.persistence.PostLoad;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that fills FeedbackEntity.providerName after loading
+ * Feedback rows only store provider_id; the name comes from the in-memory
+ * ProviderDictionary, so reads need no join against the providers table.
+ * Only the cache is consulted: a database lookup here would need a second
+ * connection while the query's own is still busy. A miss (a provider another
+ * instance created since startup) leaves the name null for
+ * ProviderDictionary.fillName to set after the query.
+ * The dictionary is looked up lazily because Hibernate creates listeners
+ * while the EntityManagerFactory the dictionary depends on is still starting.
+ */
+@Component
+public class ProviderNameEntityListener {
+
+    private final ObjectProvider<ProviderDictionary> providerDictionary;
+
+    public ProviderNameEntityListener(ObjectProvider<ProviderDictionary> providerDictionary) {
+        this.providerDictionary = providerDictionary;
+    }
+
+    @PostLoad
+    public void resolveProviderName(FeedbackEntity feedback) {
+        feedback.setProviderName(providerDictionary.getObject().cachedName(feedback.getProviderId()));
+    }
+}
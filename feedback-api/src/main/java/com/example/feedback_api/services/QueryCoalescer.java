@@ -0,0 +1,102 @@
+package com.example.feedback_api.services;
+
+import com.example.feedback_api.deadline.DeadlineContext;
+import com.example.feedback_api.deadline.DeadlineExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution of identical read queries
+ * The first caller for a key runs the query; callers arriving while it is in
+ * flight wait for and share its result instead of running it again. Followers
+ * wait at most max-wait-ms before running the query themselves, so one slow
+ * execution cannot stall every reader. The wait is also bounded by the
+ * caller's request deadline, and a follower whose leader ran out of its own
+ * deadline runs the query itself. Results are shared between callers and
+ * must not be modified.
+ */
+@Component
+public class QueryCoalescer {
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final long maxWaitMs;
+    private final Counter executedCounter;
+    private final Counter coalescedCounter;
+    private final Counter waitTimeoutCounter;
+
+    public QueryCoalescer(MeterRegistry meterRegistry,
+            @Value("${feedback.coalescing.max-wait-ms:2000}") long maxWaitMs) {
+        this.maxWaitMs = maxWaitMs;
+        this.executedCounter = meterRegistry.counter("feedback.query.coalescing", "result", "executed");
+        this.coalescedCounter = meterRegistry.counter("feedback.query.coalescing", "result", "coalesced");
+        this.waitTimeoutCounter = meterRegistry.counter("feedback.query.coalescing", "result", "wait_timeout");
+        meterRegistry.gaugeMapSize("feedback.query.coalescing.in_flight", List.of(), inFlight);
+    }
+
+    /**
+     * Run a query, or join an identical one already in flight
+     *
+     * @param key   normalized query parameters; equal keys must mean identical queries
+     * @param query the query
+     * @return the query result, possibly shared with concurrent callers
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> query) {
+        CompletableFuture<Object> leader = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, leader);
+        if (existing == null) {
+            return lead(key, leader, query);
+        }
+
+        try {
+            T result = (T) existing.get(DeadlineContext.bound(maxWaitMs), TimeUnit.MILLISECONDS);
+            coalescedCounter.increment();
+            return result;
+        } catch (TimeoutException e) {
+            waitTimeoutCounter.increment();
+            DeadlineContext.check("the coalesced query finished");
+            executedCounter.increment();
+            return query.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DeadlineExceededException || e.getCause() instanceof QueryTimeoutException) {
+                // The leader's deadline, not ours
+                DeadlineContext.check("the coalesced query finished");
+                executedCounter.increment();
+                return query.get();
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Coalesced query failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for coalesced query", e);
+        }
+    }
+
+    private <T> T lead(String key, CompletableFuture<Object> leader, Supplier<T> query) {
+        executedCounter.increment();
+        try {
+            T result = query.get();
+            leader.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.feedback_api.services;
+
+import com.example.feedback_api.archive.FeedbackArchive;
+import com.example.feedback_api.dtos.FeedbackResponse;
+import com.example.feedback_api.messaging.FeedbackEventPublisher;
+import com.example.feedback_api.model.FeedbackEntity;
+import com.example.feedback_api.model.FeedbackRow;
+import com.example.feedback_api.repositories.ReactiveFeedbackRepository;
+import com.example.feedback_api.streaming.FeedbackSubmittedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service layer for the reactive variant of the feedback endpoints
+ * Same business rules and responses as FeedbackService, with every database
+ * call going through R2DBC. The provider dictionary cache is shared with the
+ * servlet code; its misses are loaded here without blocking. Archive lookups
+ * read memory-mapped files and run on the bounded elastic scheduler.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveFeedbackService {
+
+    private final ReactiveFeedbackRepository feedbackRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final DatabaseClient databaseClient;
+    private final ProviderDictionary providerDictionary;
+    private final FeedbackEventPublisher eventPublisher;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final FeedbackArchive feedbackArchive;
+
+    public ReactiveFeedbackService(ReactiveFeedbackRepository feedbackRepository, R2dbcEntityTemplate entityTemplate,
+            ProviderDictionary providerDictionary, FeedbackEventPublisher eventPublisher,
+            ApplicationEventPublisher applicationEventPublisher, FeedbackArchive feedbackArchive) {
+        this.feedbackRepository = feedbackRepository;
+        this.entityTemplate = entityTemplate;
+        this.databaseClient = entityTemplate.getDatabaseClient();
+        this.providerDictionary = providerDictionary;
+        this.eventPublisher = eventPublisher;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.feedbackArchive = feedbackArchive;
+    }
+
+    /**
+     * Save an already validated submission
+     * The Kafka event is handed to FeedbackEventPublisher, whose enqueue never
+     * waits for the broker
+     *
+     * @param feedback output of FeedbackRequestValidator
+     * @return the saved feedback; errors with ValidationException on a duplicate
+     */
+    public Mono<FeedbackResponse> save(ValidatedFeedback feedback) {
+        // A provider that isn't in the dictionary yet cannot have feedback
+        return findProviderId(feedback.providerName())
+                .filterWhen(providerId -> isDuplicate(feedback.memberId(), providerId))
+                .flatMap(providerId -> Mono.<Integer>error(new ValidationException(
+                        "You have already submitted feedback for " + feedback.providerName())))
+                .then(resolveProviderId(feedback.providerName()))
+                .flatMap(providerId -> entityTemplate.insert(new FeedbackRow(UUID.randomUUID(), feedback.memberId(),
+                        providerId, feedback.rating(), feedback.comment(), Instant.now())))
+                // Lost a race with a concurrent submission: the unique index rejected the insert
+                .onErrorMap(DuplicateKeyException.class, e -> new ValidationException(
+                        "You have already submitted feedback for " + feedback.providerName()))
+                .flatMap(this::toEntity)
+                .map(entity -> {
+                    eventPublisher.publishFeedbackSubmitted(entity);
+                    FeedbackResponse response = toResponse(entity);
+                    // No surrounding transaction here: listeners run immediately, after the insert
+                    applicationEventPublisher.publishEvent(new FeedbackSubmittedEvent(response));
+                    return response;
+                });
+    }
+
+    /**
+     * Retrieve feedback, optionally filtered by member ID, newest first
+     * A member's archived feedback follows their rows from the table, as in
+     * FeedbackService.getFeedback
+     *
+     * @param memberId optional member ID to filter by
+     * @return feedback emitted as rows arrive
+     */
+    public Flux<FeedbackResponse> getFeedback(String memberId) {
+        if (memberId == null || memberId.trim().isEmpty()) {
+            return feedbackRepository.findAllByOrderBySubmittedAtDesc()
+                    .concatMap(this::toEntity)
+                    .map(this::toResponse);
+        }
+
+        String trimmedMemberId = memberId.trim();
+        return Flux.defer(() -> {
+            // While the archive job runs, a row can briefly be in both places
+            Set<UUID> currentIds = ConcurrentHashMap.newKeySet();
+            Flux<FeedbackEntity> archived = Mono.fromCallable(() -> feedbackArchive.findByMemberId(trimmedMemberId))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMapIterable(rows -> rows)
+                    .filter(entity -> !currentIds.contains(entity.getId()));
+            return feedbackRepository.findByMemberIdOrderBySubmittedAtDesc(trimmedMemberId)
+                    .doOnNext(row -> currentIds.add(row.id()))
+                    .concatMap(this::toEntity)
+                    .concatWith(archived)
+                    .map(this::toResponse);
+        });
+    }
+
+    /**
+     * Get feedback by ID, falling back to the archive
+     *
+     * @param id feedback ID
+     * @return the feedback; errors with FeedbackNotFoundException if it does not exist
+     */
+    public Mono<FeedbackResponse> getFeedbackById(String id) {
+        UUID feedbackId = UUID.fromString(id);
+        return feedbackRepository.findById(feedbackId)
+                .flatMap(this::toEntity)
+                .switchIfEmpty(Mono.fromCallable(() -> feedbackArchive.findById(feedbackId).orElse(null))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .map(this::toResponse)
+                .switchIfEmpty(Mono.error(() -> new FeedbackNotFoundException("Feedback not found with id:" + id)));
+    }
+
+    private Mono<Boolean> isDuplicate(String memberId, Integer providerId) {
+        return feedbackRepository.existsByMemberIdAndProviderId(memberId, providerId)
+                .flatMap(exists -> exists
+                        ? Mono.just(true)
+                        : Mono.fromCallable(() -> feedbackArchive.existsByMemberIdAndProviderId(memberId, providerId))
+                                .subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    /**
+     * Non-blocking ProviderDictionary.findId
+     *
+     * @param providerName raw provider name
+     * @return provider id, or empty if the provider has never been seen
+     */
+    private Mono<Integer> findProviderId(String providerName) {
+        return Mono.defer(() -> providerDictionary.cachedId(providerName)
+                .map(Mono::just)
+                .orElseGet(() -> databaseClient.sql("SELECT id, name FROM providers WHERE normalized_name = :normalizedName")
+                        .bind("normalizedName", ProviderDictionary.normalize(providerName))
+                        .map(row -> providerDictionary.remember(row.get("id", Integer.class), row.get("name", String.class)))
+                        .one()));
+    }
+
+    /**
+     * Non-blocking ProviderDictionary.resolveId
+     * The insert is a single auto-committed statement, so a failed feedback
+     * insert never leaves a cached id without a row behind it
+     *
+     * @param providerName raw provider name
+     * @return provider id, creating the provider on first use
+     */
+    private Mono<Integer> resolveProviderId(String providerName) {
+        return findProviderId(providerName).switchIfEmpty(Mono.defer(() -> databaseClient
+                // Another request or instance may win the race; either way the row exists afterwards
+                .sql("INSERT INTO providers (name, normalized_name) VALUES (:name, :normalizedName) "
+                        + "ON CONFLICT (normalized_name) DO NOTHING")
+                .bind("name", ProviderDictionary.displayName(providerName))
+                .bind("normalizedName", ProviderDictionary.normalize(providerName))
+                .fetch()
+                .rowsUpdated()
+                .then(findProviderId(providerName))));
+    }
+
+    private Mono<FeedbackEntity> toEntity(FeedbackRow row) {
+        String cached = providerDictionary.cachedName(row.providerId());
+        if (cached != null) {
+            return Mono.just(row.toEntity(cached));
+        }
+        return databaseClient.sql("SELECT id, name FROM providers WHERE id = :id")
+                .bind("id", row.providerId())
+                .map(provider -> providerDictionary.remember(provider.get("id", Integer.class),
+                        provider.get("name", String.class)))
+                .one()
+                .map(providerId -> row.toEntity(providerDictionary.cachedName(providerId)));
+    }
+
+    private FeedbackResponse toResponse(FeedbackEntity entity) {
+        return new FeedbackResponse(
+                entity.getId(),
+                entity.getMemberId(),
+                entity.getProviderName(),
+                entity.getRating(),
+                entity.getComment(),
+                entity.getSubmittedAt());
+    }
+}
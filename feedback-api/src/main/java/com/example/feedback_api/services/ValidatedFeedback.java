@@ -0,0 +1,13 @@
+package com.example.feedback_api.services;
+
+/**
+ * A feedback submission that has passed FeedbackRequestValidator
+ * String fields are already trimmed; only FeedbackRequestValidator creates these
+ *
+ * @param memberId     trimmed member ID
+ * @param providerName trimmed provider name
+ * @param rating       rating between 1 and 5
+ * @param comment      trimmed comment, or null if none was given
+ */
+public record ValidatedFeedback(String memberId, String providerName, int rating, String comment) {
+}
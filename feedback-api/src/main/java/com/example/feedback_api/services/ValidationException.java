@@ -1,16 +1,38 @@
 package com.example.feedback_api.services;
 
+import com.example.feedback_api.dtos.ErrorResponse;
+
+import java.util.List;
+
 /**
- * Exception thrown when feedback validation fails business rules
- * Used for business logic validation (not DTO validation)
+ * Exception thrown when feedback validation fails
+ * Carries per-field errors for request validation; business rule failures
+ * (e.g. duplicates) have a message only
  */
 public class ValidationException extends RuntimeException {
 
+    private final List<ErrorResponse.FieldError> fieldErrors;
+
     public ValidationException(String message) {
         super(message);
+        this.fieldErrors = List.of();
     }
 
     public ValidationException(String message, Throwable cause) {
         super(message, cause);
+        this.fieldErrors = List.of();
+    }
+
+    // Bad input is routine and always reported to the client, so no stack trace is captured
+    public ValidationException(List<ErrorResponse.FieldError> fieldErrors) {
+        super(fieldErrors.get(0).getMessage(), null, false, false);
+        this.fieldErrors = List.copyOf(fieldErrors);
+    }
+
+    /**
+     * @return per-field errors, or an empty list for business rule failures
+     */
+    public List<ErrorResponse.FieldError> getFieldErrors() {
+        return fieldErrors;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,155 @@
+package com.example.feedback_api.streaming;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process fan-out of submitted feedback to SSE subscribers
+ * Events arrive from FeedbackService after commit and are copied into each
+ * matching subscriber's bounded buffer. Buffers are drained on short-lived
+ * virtual threads, so idle subscribers cost no threads and no database polling.
+ */
+@Service
+public class FeedbackStreamBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackStreamBroadcaster.class);
+
+    private final Set<StreamSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final long timeoutMs;
+    private final Counter deliveredCounter;
+    private final Counter droppedCounter;
+    private final Counter disconnectedCounter;
+
+    public FeedbackStreamBroadcaster(
+            @Value("${feedback.stream.buffer-size:256}") int bufferSize,
+            @Value("${feedback.stream.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+            @Value("${feedback.stream.timeout-ms:1800000}") long timeoutMs,
+            MeterRegistry meterRegistry) {
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.timeoutMs = timeoutMs;
+        this.deliveredCounter = meterRegistry.counter("feedback.stream.events", "outcome", "buffered");
+        this.droppedCounter = meterRegistry.counter("feedback.stream.events", "outcome", "dropped");
+        this.disconnectedCounter = meterRegistry.counter("feedback.stream.slow.consumers.disconnected");
+        meterRegistry.gauge("feedback.stream.subscribers", subscriptions, Set::size);
+    }
+
+    /**
+     * Register a new stream subscriber
+     *
+     * @param memberId     optional member ID filter
+     * @param providerName optional provider name filter (case-insensitive)
+     * @return emitter bound to the client connection
+     */
+    public SseEmitter subscribe(String memberId, String providerName) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        StreamSubscription subscription = new StreamSubscription(emitter, memberId, providerName, bufferSize);
+
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+
+        subscriptions.add(subscription);
+        return emitter;
+    }
+
+    /**
+     * Fan out a committed feedback submission to all matching subscribers
+     * Submissions saved by the reactive variant have no transaction to wait
+     * for and go out as soon as they are published
+     *
+     * @param event event published by FeedbackService
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFeedbackSubmitted(FeedbackSubmittedEvent event) {
+        for (StreamSubscription subscription : subscriptions) {
+            if (!subscription.matches(event.getFeedback())) {
+                continue;
+            }
+
+            long droppedBefore = subscription.getDropped();
+            if (!subscription.offer(event.getFeedback(), overflowPolicy)) {
+                logger.warn("Disconnecting slow feedback stream subscriber after {} dropped events",
+                        subscription.getDropped());
+                disconnectedCounter.increment();
+                droppedCounter.increment();
+                close(subscription);
+                continue;
+            }
+
+            if (subscription.getDropped() > droppedBefore) {
+                droppedCounter.increment();
+            } else {
+                deliveredCounter.increment();
+            }
+            scheduleDrain(subscription);
+        }
+    }
+
+    /**
+     * Periodically write an SSE comment to every subscriber
+     * Keeps idle connections alive through proxies and detects dead clients
+     */
+    @Scheduled(fixedDelayString = "${feedback.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (StreamSubscription subscription : subscriptions) {
+            try {
+                subscription.heartbeat();
+            } catch (IOException | IllegalStateException e) {
+                close(subscription);
+            }
+        }
+    }
+
+    /**
+     * @return number of currently connected subscribers
+     */
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.forEach(this::close);
+        dispatcher.shutdown();
+    }
+
+    private void scheduleDrain(StreamSubscription subscription) {
+        if (!subscription.tryStartDrain()) {
+            return;
+        }
+
+        dispatcher.execute(() -> {
+            try {
+                while (subscription.drain()) {
+                    // more events arrived while draining
+                }
+            } catch (IOException | IllegalStateException e) {
+                close(subscription);
+            }
+        });
+    }
+
+    private void close(StreamSubscription subscription) {
+        subscriptions.remove(subscription);
+        subscription.getEmitter().complete();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.feedback_api.streaming;
+
+import com.example.feedback_api.dtos.FeedbackResponse;
+
+/**
+ * In-process application event raised when feedback has been saved
+ * Delivered to listeners only after the surrounding transaction commits
+ */
+public class FeedbackSubmittedEvent {
+
+    private final FeedbackResponse feedback;
+
+    public FeedbackSubmittedEvent(FeedbackResponse feedback) {
+        this.feedback = feedback;
+    }
+
+    public FeedbackResponse getFeedback() {
+        return feedback;
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackSubmittedEvent{" +
+                "feedback=" + feedback +
+                '}';
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.feedback_api.streaming;
+
+/**
+ * What to do when a stream subscriber's buffer is full
+ * i.e. the client is reading slower than feedback is submitted
+ */
+public enum OverflowPolicy {
+
+    /** Evict the oldest buffered event to make room for the new one */
+    DROP_OLDEST,
+
+    /** Discard the new event and keep what is already buffered */
+    DROP_NEWEST,
+
+    /** Close the slow subscriber's stream; the client may reconnect */
+    DISCONNECT
+}
@@ -0,0 +1,131 @@
+package com.example.feedback_api.streaming;
+
+import com.example.feedback_api.dtos.FeedbackResponse;
+import com.example.feedback_api.services.ProviderDictionary;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A single SSE client of the feedback stream
+ * Holds the client's filters and a bounded buffer of events not yet written
+ * to the connection. An idle subscription owns no thread, only this object.
+ */
+class StreamSubscription {
+
+    private final SseEmitter emitter;
+    private final String memberId;
+    private final String providerName;
+    private final ArrayBlockingQueue<FeedbackResponse> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicLong dropped = new AtomicLong();
+
+    StreamSubscription(SseEmitter emitter, String memberId, String providerName, int bufferSize) {
+        this.emitter = emitter;
+        this.memberId = normalize(memberId);
+        this.providerName = providerName == null || providerName.isBlank()
+                ? null
+                : ProviderDictionary.normalize(providerName);
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Check the subscriber's memberId/providerName filters against an event
+     * Provider names are compared in dictionary-normalized form
+     *
+     * @param feedback submitted feedback
+     * @return true if the subscriber wants this event
+     */
+    boolean matches(FeedbackResponse feedback) {
+        if (memberId != null && !memberId.equals(feedback.getMemberId())) {
+            return false;
+        }
+        return providerName == null || providerName.equals(ProviderDictionary.normalize(feedback.getProviderName()));
+    }
+
+    /**
+     * Buffer an event, applying the overflow policy when the buffer is full
+     *
+     * @param feedback event to buffer
+     * @param policy   overflow policy
+     * @return false if the subscriber should be disconnected
+     */
+    boolean offer(FeedbackResponse feedback, OverflowPolicy policy) {
+        if (buffer.offer(feedback)) {
+            return true;
+        }
+
+        dropped.incrementAndGet();
+        switch (policy) {
+            case DROP_OLDEST -> {
+                buffer.poll();
+                buffer.offer(feedback);
+                return true;
+            }
+            case DROP_NEWEST -> {
+                return true;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Claim the right to drain this subscription
+     * Ensures at most one writer per connection at a time
+     *
+     * @return true if the caller should run {@link #drain()}
+     */
+    boolean tryStartDrain() {
+        return !buffer.isEmpty() && draining.compareAndSet(false, true);
+    }
+
+    /**
+     * Write all buffered events to the connection
+     *
+     * @return true if more events arrived after draining and another drain is needed
+     * @throws IOException if the client has gone away
+     */
+    boolean drain() throws IOException {
+        try {
+            FeedbackResponse next;
+            while ((next = buffer.poll()) != null) {
+                emitter.send(SseEmitter.event()
+                        .id(next.getId().toString())
+                        .name("feedback")
+                        .data(next));
+            }
+        } finally {
+            draining.set(false);
+        }
+        return tryStartDrain();
+    }
+
+    /**
+     * Send an SSE comment line so proxies keep the idle connection open
+     *
+     * @throws IOException if the client has gone away
+     */
+    void heartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("heartbeat"));
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        return value.trim();
+    }
+}
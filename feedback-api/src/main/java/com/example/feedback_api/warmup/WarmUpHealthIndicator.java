@@ -0,0 +1,36 @@
+package com.example.feedback_api.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the warm-up phase as the "warmUp" health component
+ * OUT_OF_SERVICE until warm-up has finished, then UP with the duration and
+ * the outcome of each step (step failures are reported, not fatal)
+ */
+@Component
+@ConditionalOnProperty(name = "feedback.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final WarmUpRunner warmUpRunner;
+
+    public WarmUpHealthIndicator(WarmUpRunner warmUpRunner) {
+        this.warmUpRunner = warmUpRunner;
+    }
+
+    @Override
+    public Health health() {
+        WarmUpRunner.State state = warmUpRunner.getState();
+        Health.Builder builder = state == WarmUpRunner.State.COMPLETED
+                || state == WarmUpRunner.State.COMPLETED_WITH_ERRORS
+                        ? Health.up()
+                        : Health.outOfService();
+        return builder
+                .withDetail("state", state)
+                .withDetail("durationMs", warmUpRunner.getDurationMs())
+                .withDetail("steps", warmUpRunner.getSteps())
+                .build();
+    }
+}
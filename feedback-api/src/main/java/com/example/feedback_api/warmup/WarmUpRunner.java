@@ -0,0 +1,229 @@
+package com.example.feedback_api.warmup;
+
+import com.example.feedback_api.datasource.PoolShareContext;
+import com.example.feedback_api.datasource.PoolShareDataSource;
+import com.example.feedback_api.dtos.ErrorResponse;
+import com.example.feedback_api.dtos.FeedbackRequest;
+import com.example.feedback_api.dtos.FeedbackResponse;
+import com.example.feedback_api.messaging.FeedbackEventPublisher;
+import com.example.feedback_api.services.FeedbackNotFoundException;
+import com.example.feedback_api.services.FeedbackRequestValidator;
+import com.example.feedback_api.services.FeedbackService;
+import com.example.feedback_api.services.ProviderDictionary;
+import com.example.feedback_api.services.ValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Warm-up phase that runs before the instance reports ready
+ * Spring Boot only moves readiness to ACCEPTING_TRAFFIC after all
+ * ApplicationRunners have returned, so the steps here (pool fill, Kafka
+ * metadata, cache preload, synthetic read/validation/serialization calls for
+ * the JIT) complete before an orchestrator routes traffic to the pod. Every
+ * step is best-effort: a failure is recorded and reported, never fatal, and
+ * the remaining steps are skipped once the time budget is spent.
+ */
+@Component
+@ConditionalOnProperty(name = "feedback.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmUpRunner.class);
+
+    public enum State {
+        PENDING, RUNNING, COMPLETED, COMPLETED_WITH_ERRORS
+    }
+
+    private final DataSource dataSource;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ProviderDictionary providerDictionary;
+    private final FeedbackService feedbackService;
+    private final FeedbackRequestValidator feedbackRequestValidator;
+    private final ObjectMapper objectMapper;
+    private final int connections;
+    private final int iterations;
+    private final long maxDurationMs;
+
+    private final Map<String, String> steps = new LinkedHashMap<>();
+    private volatile State state = State.PENDING;
+    private volatile long durationMs;
+
+    public WarmUpRunner(DataSource dataSource,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            ProviderDictionary providerDictionary,
+            FeedbackService feedbackService,
+            FeedbackRequestValidator feedbackRequestValidator,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${feedback.warmup.connections:10}") int connections,
+            @Value("${feedback.warmup.iterations:200}") int iterations,
+            @Value("${feedback.warmup.max-duration-ms:30000}") long maxDurationMs) {
+        this.dataSource = dataSource;
+        this.kafkaTemplate = kafkaTemplate;
+        this.providerDictionary = providerDictionary;
+        this.feedbackService = feedbackService;
+        this.feedbackRequestValidator = feedbackRequestValidator;
+        this.objectMapper = objectMapper;
+        this.connections = connections;
+        this.iterations = iterations;
+        this.maxDurationMs = maxDurationMs;
+
+        meterRegistry.gauge("feedback.warmup.duration.ms", this, runner -> runner.durationMs);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        state = State.RUNNING;
+        long start = System.nanoTime();
+        long deadline = start + maxDurationMs * 1_000_000;
+        boolean failed = false;
+
+        failed |= !step("connectionPool", deadline, this::fillConnectionPool);
+        failed |= !step("kafkaMetadata", deadline, this::fetchKafkaMetadata);
+        failed |= !step("providerDictionary", deadline, () -> providerDictionary.preload() + " providers");
+        failed |= !step("readPath", deadline, this::exerciseReadPath);
+        failed |= !step("writeValidation", deadline, this::exerciseValidation);
+
+        durationMs = (System.nanoTime() - start) / 1_000_000;
+        state = failed ? State.COMPLETED_WITH_ERRORS : State.COMPLETED;
+        logger.info("Warm-up {} in {} ms: {}", state, durationMs, getSteps());
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public synchronized Map<String, String> getSteps() {
+        return new LinkedHashMap<>(steps);
+    }
+
+    private boolean step(String name, long deadline, WarmUpStep step) {
+        if (System.nanoTime() > deadline) {
+            record(name, "skipped: time budget exhausted");
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            String detail = step.run();
+            record(name, "ok in " + (System.nanoTime() - start) / 1_000_000 + " ms (" + detail + ")");
+            return true;
+        } catch (Exception e) {
+            record(name, "failed: " + e.getMessage());
+            logger.warn("Warm-up step {} failed: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    private synchronized void record(String name, String outcome) {
+        steps.put(name, outcome);
+    }
+
+    /**
+     * Hold several connections at once so the pool opens them now rather than
+     * on the first burst of requests
+     * A pool split into shares is filled one share at a time, since a thread
+     * can only hold its own share's connections.
+     */
+    private String fillConnectionPool() throws Exception {
+        if (!dataSource.isWrapperFor(PoolShareDataSource.class)) {
+            return holdConnections(connections) + " connections";
+        }
+        Map<String, Integer> shares = dataSource.unwrap(PoolShareDataSource.class).getShareSizes();
+        int opened = 0;
+        for (Map.Entry<String, Integer> share : shares.entrySet()) {
+            int count = Math.min(share.getValue(), connections - opened);
+            opened += PoolShareContext.call(share.getKey(), () -> holdConnections(count));
+        }
+        return opened + " connections";
+    }
+
+    private int holdConnections(int count) throws SQLException {
+        List<Connection> held = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                Connection connection = dataSource.getConnection();
+                held.add(connection);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+            }
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+        return held.size();
+    }
+
+    private String fetchKafkaMetadata() {
+        // Creates the producer and loads cluster and topic metadata (bounded by max.block.ms)
+        return kafkaTemplate.partitionsFor(FeedbackEventPublisher.FEEDBACK_TOPIC).size() + " partitions";
+    }
+
+    /**
+     * Run the GET /feedback code paths (query, mapping, JSON) against ids that
+     * match nothing, so the queries are index lookups returning no rows
+     */
+    private String exerciseReadPath() throws Exception {
+        FeedbackResponse sample = new FeedbackResponse(UUID.randomUUID(), "warmup-member", "Dr. Warm Up", 5,
+                "Synthetic warm-up feedback", Instant.now());
+        List<FeedbackResponse> page = List.of(sample, sample, sample);
+        for (int i = 0; i < iterations; i++) {
+            feedbackService.getFeedback("warmup-" + UUID.randomUUID());
+            try {
+                feedbackService.getFeedbackById(UUID.randomUUID().toString());
+            } catch (FeedbackNotFoundException expected) {
+                // The not-found path is part of what gets warmed
+            }
+            objectMapper.writeValueAsBytes(page);
+        }
+        return iterations + " iterations";
+    }
+
+    /**
+     * Run the POST /feedback request handling that happens before the database:
+     * JSON binding, validation and error serialization
+     */
+    private String exerciseValidation() throws Exception {
+        byte[] valid = objectMapper.writeValueAsBytes(
+                new FeedbackRequest("warmup-member", "Dr. Warm Up", 4, "Synthetic warm-up feedback"));
+        byte[] invalid = objectMapper.writeValueAsBytes(new FeedbackRequest(" ", null, 9, null));
+        int rounds = iterations * 10;
+        for (int i = 0; i < rounds; i++) {
+            feedbackRequestValidator.validate(objectMapper.readValue(valid, FeedbackRequest.class));
+            try {
+                feedbackRequestValidator.validate(objectMapper.readValue(invalid, FeedbackRequest.class));
+            } catch (ValidationException expected) {
+                objectMapper.writeValueAsBytes(new ErrorResponse(expected.getFieldErrors()));
+            }
+        }
+        return rounds + " iterations";
+    }
+
+    @FunctionalInterface
+    private interface WarmUpStep {
+        String run() throws Exception;
+    }
+}
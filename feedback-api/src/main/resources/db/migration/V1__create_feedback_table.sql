@@ -1,6 +1,5 @@
--- Drop table if exists and recreate fresh
-DROP TABLE IF EXISTS feedback CASCADE;
-
+-- Initial feedback table
+-- Existing databases created by the old schema.sql are baselined at this version
 CREATE TABLE feedback (
     id UUID PRIMARY KEY,
     member_id VARCHAR(36) NOT NULL,
@@ -8,4 +7,4 @@ CREATE TABLE feedback (
     rating INT NOT NULL CHECK (rating BETWEEN 1 AND 5),
     comment VARCHAR(200),
     submitted_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
-);
\ No newline at end of file
+);
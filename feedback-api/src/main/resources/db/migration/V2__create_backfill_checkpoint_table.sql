@@ -0,0 +1,9 @@
+-- Progress of the feedback-submitted backfill job, one row per key-range partition
+CREATE TABLE backfill_checkpoint (
+    partition_no INT PRIMARY KEY,
+    partition_count INT NOT NULL,
+    last_id UUID,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    events_sent BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
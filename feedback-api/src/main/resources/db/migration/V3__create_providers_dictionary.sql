@@ -0,0 +1,32 @@
+-- Provider dictionary: feedback rows reference providers by integer id instead of
+-- repeating the free-form name. normalized_name must match ProviderDictionary.normalize
+-- (trim, collapse internal whitespace, lower-case) so "Dr. Smith" and "dr.  smith "
+-- resolve to the same provider.
+CREATE TABLE providers (
+    id SERIAL PRIMARY KEY,
+    name VARCHAR(80) NOT NULL,
+    normalized_name VARCHAR(80) NOT NULL UNIQUE
+);
+
+-- Earliest spelling of each provider becomes its display name
+INSERT INTO providers (name, normalized_name)
+SELECT DISTINCT ON (lower(n.name)) n.name, lower(n.name)
+FROM (
+    SELECT btrim(regexp_replace(provider_name, '\s+', ' ', 'g')) AS name, submitted_at
+    FROM feedback
+) n
+ORDER BY lower(n.name), n.submitted_at;
+
+ALTER TABLE feedback ADD COLUMN provider_id INT;
+
+UPDATE feedback f
+SET provider_id = p.id
+FROM providers p
+WHERE p.normalized_name = lower(btrim(regexp_replace(f.provider_name, '\s+', ' ', 'g')));
+
+ALTER TABLE feedback ALTER COLUMN provider_id SET NOT NULL;
+ALTER TABLE feedback ADD CONSTRAINT fk_feedback_provider FOREIGN KEY (provider_id) REFERENCES providers (id);
+ALTER TABLE feedback DROP COLUMN provider_name;
+
+-- Supports the duplicate-feedback check (member + provider)
+CREATE INDEX idx_feedback_member_provider ON feedback (member_id, provider_id);
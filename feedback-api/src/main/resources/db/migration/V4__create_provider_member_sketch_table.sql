@@ -0,0 +1,10 @@
+-- HyperLogLog registers of distinct member ids per provider and calendar month (UTC).
+-- Registers from different instances or months are merged by taking the
+-- element-wise maximum, so rows can be combined in any order.
+CREATE TABLE provider_member_sketch (
+    provider_id INT NOT NULL REFERENCES providers (id),
+    bucket_start DATE NOT NULL,
+    registers BYTEA NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (provider_id, bucket_start)
+);
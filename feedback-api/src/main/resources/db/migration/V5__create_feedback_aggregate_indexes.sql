@@ -0,0 +1,13 @@
+-- Covering indexes for the aggregate (stats) endpoints. Every column an aggregate
+-- reads is in the index, so Postgres can answer with an index-only scan and never
+-- touch the heap (as long as autovacuum keeps the visibility map current).
+
+-- Totals, rating histogram and per-provider averages over a time window
+CREATE INDEX idx_feedback_submitted_at ON feedback (submitted_at) INCLUDE (provider_id, rating);
+
+-- Rating histogram / average of one provider, optionally windowed
+CREATE INDEX idx_feedback_provider_submitted_at ON feedback (provider_id, submitted_at) INCLUDE (rating);
+
+-- Feedback count of one member, optionally windowed; also serves the member's
+-- newest-first listing (backward scan)
+CREATE INDEX idx_feedback_member_submitted_at ON feedback (member_id, submitted_at);
@@ -0,0 +1,46 @@
+-- One feedback row per member and provider. The application checks for duplicates
+-- before inserting, but a provider created by the submission itself skips that
+-- check and concurrent submissions can both pass it; the unique index has the
+-- final say and replaces the plain lookup index from V3.
+--
+-- Existing duplicates come from such races and from V3, which merged case and
+-- whitespace variants of a provider name into one provider. Nothing is dropped:
+-- every row except the member's earliest for the provider is moved, unchanged,
+-- into feedback_duplicates together with the id of the row that was kept.
+CREATE TABLE feedback_duplicates (
+    id UUID PRIMARY KEY,
+    member_id VARCHAR(36) NOT NULL,
+    provider_id INT NOT NULL REFERENCES providers (id),
+    rating INT NOT NULL,
+    comment VARCHAR(200),
+    submitted_at TIMESTAMPTZ NOT NULL,
+    kept_id UUID NOT NULL,
+    moved_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+INSERT INTO feedback_duplicates (id, member_id, provider_id, rating, comment, submitted_at, kept_id)
+SELECT d.id, d.member_id, d.provider_id, d.rating, d.comment, d.submitted_at, d.kept_id
+FROM (
+    SELECT f.*,
+           first_value(f.id) OVER (PARTITION BY f.member_id, f.provider_id
+                                   ORDER BY f.submitted_at, f.id) AS kept_id
+    FROM feedback f
+) d
+WHERE d.id <> d.kept_id;
+
+DELETE FROM feedback f
+USING feedback_duplicates d
+WHERE d.id = f.id;
+
+DO $$
+DECLARE
+    moved BIGINT;
+BEGIN
+    SELECT count(*) INTO moved FROM feedback_duplicates;
+    IF moved > 0 THEN
+        RAISE WARNING 'V6 moved % duplicate feedback rows (same member and provider) to feedback_duplicates', moved;
+    END IF;
+END $$;
+
+CREATE UNIQUE INDEX uq_feedback_member_provider ON feedback (member_id, provider_id);
+DROP INDEX idx_feedback_member_provider;
@@ -0,0 +1,45 @@
+package com.example.feedback_api.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CountMinSketch
+ * Tests the hash against the MurmurHash3 reference and independence of hashCode collisions
+ */
+class CountMinSketchTest {
+
+    @Test
+    void murmur3_ShouldMatchReferenceVectors() {
+        assertEquals("6c1b07bc7bbc4be347939ac4a93c437a", hex("The quick brown fox jumps over the lazy dog"));
+        assertEquals("00000000000000000000000000000000", hex(""));
+    }
+
+    @Test
+    void estimate_KeysWithEqualHashCode_ShouldNotShareCounts() {
+        // Arrange
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        CountMinSketch sketch = new CountMinSketch(0.001, 0.01);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            sketch.add("Aa");
+        }
+
+        // Assert
+        assertEquals(100, sketch.estimate("Aa"));
+        assertEquals(0, sketch.estimate("BB"));
+    }
+
+    private static String hex(String key) {
+        long[] hash = CountMinSketch.murmur3(key.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer bytes = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN).putLong(hash[0]).putLong(hash[1]);
+        return HexFormat.of().formatHex(bytes.array());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.feedback_api.analytics;
+
+import com.example.feedback_api.dtos.FeedbackResponse;
+import com.example.feedback_api.dtos.HeavyHittersResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HeavyHitterTracker
+ * Tests top-k ordering, error bounds and sliding-window expiry
+ */
+class HeavyHitterTrackerTest {
+
+    private static final long WINDOW_MS = 60_000;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final HeavyHitterTracker tracker = new HeavyHitterTracker(WINDOW_MS, 6, 3, 0.01, 0.01, clock::get);
+
+    private void submit(String memberId, String providerName, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.record(new FeedbackResponse(UUID.randomUUID(), memberId, providerName, 5, null, Instant.now()));
+        }
+    }
+
+    @Test
+    void topProviders_ShouldOrderByCountWithinErrorBounds() {
+        // Arrange
+        submit("member-1", "Dr. Smith", 50);
+        submit("member-2", "Dr. Jones", 30);
+        submit("member-3", "Dr. Brown", 20);
+        for (int i = 0; i < 10; i++) {
+            submit("member-x" + i, "Dr. Rare " + i, 1);
+        }
+
+        // Act
+        HeavyHittersResponse response = tracker.topProviders(2);
+
+        // Assert
+        assertEquals(110, response.getTotalCount());
+        assertEquals(60, response.getWindowSeconds());
+        assertEquals(2, response.getEntries().size());
+        HeavyHittersResponse.Entry first = response.getEntries().get(0);
+        assertEquals("Dr. Smith", first.getKey());
+        assertTrue(first.getEstimatedCount() >= 50);
+        assertTrue(first.getEstimatedCount() - first.getMaxError() <= 50);
+    }
+
+    @Test
+    void memberFrequency_ShouldNeverUnderestimate() {
+        // Arrange
+        submit("member-1", "Dr. Smith", 7);
+        submit("member-2", "Dr. Smith", 3);
+
+        // Act
+        HeavyHittersResponse.Entry entry = tracker.memberFrequency("member-1").getEntries().get(0);
+
+        // Assert
+        assertTrue(entry.getEstimatedCount() >= 7);
+        assertTrue(entry.getEstimatedCount() - entry.getMaxError() <= 7);
+    }
+
+    @Test
+    void topProviders_AfterWindowPasses_ShouldForgetOldSubmissions() {
+        // Arrange
+        submit("member-1", "Dr. Smith", 10);
+        clock.addAndGet(WINDOW_MS);
+        submit("member-2", "Dr. Jones", 2);
+
+        // Act
+        HeavyHittersResponse response = tracker.topProviders(10);
+
+        // Assert
+        assertEquals(2, response.getTotalCount());
+        assertEquals(1, response.getEntries().size());
+        assertEquals("Dr. Jones", response.getEntries().get(0).getKey());
+    }
+}
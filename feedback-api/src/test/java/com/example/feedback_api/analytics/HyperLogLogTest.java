@@ -0,0 +1,66 @@
+package com.example.feedback_api.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HyperLogLog
+ * Tests estimate accuracy, union merging and serialization
+ */
+class HyperLogLogTest {
+
+    private static HyperLogLog sketchOf(int from, int to) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = from; i < to; i++) {
+            sketch.add("member-" + i);
+        }
+        return sketch;
+    }
+
+    private static void assertWithinThreeStandardErrors(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= 3 * HyperLogLog.STANDARD_ERROR * expected,
+                "estimate " + actual + " too far from " + expected);
+    }
+
+    @Test
+    void estimate_DuplicatesShouldNotCount() {
+        // Arrange
+        HyperLogLog sketch = sketchOf(0, 1000);
+
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            sketch.add("member-" + i);
+        }
+
+        // Assert
+        assertWithinThreeStandardErrors(1000, sketch.estimate());
+    }
+
+    @Test
+    void merge_OverlappingSketches_ShouldEstimateUnion() {
+        // Arrange
+        HyperLogLog first = sketchOf(0, 60_000);
+        HyperLogLog second = sketchOf(40_000, 100_000);
+
+        // Act
+        first.merge(second);
+
+        // Assert
+        assertWithinThreeStandardErrors(100_000, first.estimate());
+        assertTrue(first.sameRegisters(sketchOf(0, 100_000)));
+    }
+
+    @Test
+    void fromBytes_ShouldRoundTripAndRejectWrongSize() {
+        // Arrange
+        HyperLogLog sketch = sketchOf(0, 500);
+
+        // Act
+        HyperLogLog restored = HyperLogLog.fromBytes(sketch.toBytes());
+
+        // Assert
+        assertTrue(restored.sameRegisters(sketch));
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[16]));
+    }
+}
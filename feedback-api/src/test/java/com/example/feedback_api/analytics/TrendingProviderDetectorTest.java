@@ -0,0 +1,200 @@
+package com.example.feedback_api.analytics;
+
+import com.example.feedback_api.dtos.FeedbackResponse;
+import com.example.feedback_api.dtos.TrendingProvidersResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TrendingProviderDetector and its per-minute ring
+ * A fake clock moves through whole minutes so windows are deterministic
+ */
+@ExtendWith(MockitoExtension.class)
+class TrendingProviderDetectorTest {
+
+    private static final long MINUTE_MS = 60_000;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000 * MINUTE_MS);
+    private MeterRegistry meterRegistry;
+    private TrendingProviderDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 5 recent minutes against a 60-minute baseline; trend at 3x rate or 1 star
+        detector = new TrendingProviderDetector(5, 60, 10, 3.0, 1.0, 15, applicationEventPublisher, meterRegistry,
+                clock::get);
+    }
+
+    private void submit(String providerName, int rating, int times) {
+        for (int i = 0; i < times; i++) {
+            detector.record(new FeedbackResponse(UUID.randomUUID(), "member-" + i, providerName, rating, null,
+                    Instant.now()));
+        }
+    }
+
+    /**
+     * Steady traffic of perMinute submissions for the given number of minutes
+     */
+    private void baseline(String providerName, int rating, int perMinute, int minutes) {
+        for (int minute = 0; minute < minutes; minute++) {
+            submit(providerName, rating, perMinute);
+            clock.addAndGet(MINUTE_MS);
+        }
+    }
+
+    @Test
+    void record_SuddenRunOfLowRatings_ShouldAlertOnceForRatingDrop() {
+        // Arrange
+        baseline("Dr. Smith", 5, 2, 65);
+
+        // Act - same volume as usual but all one-star, twice
+        submit("Dr. Smith", 1, 10);
+        submit("Dr. Smith", 1, 10);
+
+        // Assert
+        ArgumentCaptor<ProviderTrendAlertEvent> alert = ArgumentCaptor.forClass(ProviderTrendAlertEvent.class);
+        verify(applicationEventPublisher, times(1)).publishEvent(alert.capture());
+        assertEquals(ProviderTrendAlertEvent.Reason.RATING, alert.getValue().getReason());
+        assertEquals("Dr. Smith", alert.getValue().getTrend().getProviderName());
+        assertTrue(alert.getValue().getTrend().getRatingDelta() <= -1.0);
+        assertEquals(1.0, meterRegistry.get("feedback.trending.alerts").tag("reason", "rating").counter().count());
+    }
+
+    @Test
+    void record_VolumeSpike_ShouldAlertForVolume() {
+        // Arrange - 1 per minute baseline
+        baseline("Dr. Jones", 4, 1, 65);
+
+        // Act - 30 in the current minute is 6/min over the recent window, 6x the baseline
+        submit("Dr. Jones", 4, 30);
+
+        // Assert
+        ArgumentCaptor<ProviderTrendAlertEvent> alert = ArgumentCaptor.forClass(ProviderTrendAlertEvent.class);
+        verify(applicationEventPublisher).publishEvent(alert.capture());
+        assertEquals(ProviderTrendAlertEvent.Reason.VOLUME, alert.getValue().getReason());
+        assertTrue(alert.getValue().getTrend().getRateRatio() >= 3.0);
+    }
+
+    @Test
+    void record_BeforeBaselineObserved_ShouldNotAlert() {
+        // Act - a busy provider right after startup looks like a spike against an empty baseline
+        baseline("Dr. Busy", 4, 20, 10);
+
+        // Assert
+        verify(applicationEventPublisher, never()).publishEvent(any());
+        assertFalse(detector.trending(10).getProviders().get(0).isTrending());
+    }
+
+    @Test
+    void record_SteadyTraffic_ShouldNotAlert() {
+        // Act
+        baseline("Dr. Brown", 4, 5, 90);
+
+        // Assert
+        verify(applicationEventPublisher, never()).publishEvent(any());
+        TrendingProvidersResponse.Entry entry = detector.trending(10).getProviders().get(0);
+        assertFalse(entry.isTrending());
+        assertEquals(1.0, entry.getRateRatio(), 0.25);
+    }
+
+    @Test
+    void trending_ShouldRankByScoreAndSkipQuietProviders() {
+        // Arrange
+        baseline("Dr. Steady", 4, 3, 65);
+        clock.addAndGet(-65 * MINUTE_MS);
+        baseline("Dr. Spike", 4, 1, 65);
+        submit("Dr. Spike", 4, 40);
+        submit("Dr. Quiet", 3, 2);
+
+        // Act
+        TrendingProvidersResponse response = detector.trending(10);
+
+        // Assert
+        assertEquals(300, response.getRecentWindowSeconds());
+        assertEquals(3600, response.getBaselineWindowSeconds());
+        assertEquals(2, response.getProviders().size());
+        assertEquals("Dr. Spike", response.getProviders().get(0).getProviderName());
+        assertTrue(response.getProviders().get(0).isTrending());
+        assertEquals("Dr. Steady", response.getProviders().get(1).getProviderName());
+    }
+
+    @Test
+    void trending_AfterWindowPasses_ShouldForgetOldBuckets() {
+        // Arrange
+        submit("Dr. Smith", 1, 50);
+
+        // Act
+        clock.addAndGet(66 * MINUTE_MS);
+        submit("Dr. Smith", 5, 10);
+        TrendingProvidersResponse.Entry entry = detector.trending(10).getProviders().get(0);
+
+        // Assert
+        assertEquals(10, entry.getRecentCount());
+        assertEquals(0, entry.getBaselineCount());
+        assertEquals(5.0, entry.getRecentAverageRating());
+    }
+
+    @Test
+    void ring_ConcurrentWriters_ShouldCountEveryRating() throws Exception {
+        // Arrange
+        ProviderActivityRing ring = new ProviderActivityRing(4);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        for (int thread = 0; thread < 4; thread++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 10_000; i++) {
+                    ring.add(3, 42);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Assert
+        ProviderActivityRing.Totals totals = ring.sum(42, 42);
+        assertEquals(40_000, totals.count());
+        assertEquals(120_000, totals.ratingSum());
+    }
+
+    @Test
+    void ring_LateWriterForOverwrittenMinute_ShouldNotClobberNewerBucket() {
+        // Arrange
+        ProviderActivityRing ring = new ProviderActivityRing(4);
+        ring.add(5, 104);
+
+        // Act - minute 100 maps to the same slot as 104
+        ring.add(1, 100);
+
+        // Assert
+        assertEquals(1, ring.sum(104, 104).count());
+        assertEquals(0, ring.sum(100, 100).count());
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.feedback_api.archive;
+
+import com.example.feedback_api.model.FeedbackEntity;
+import com.example.feedback_api.services.ProviderDictionary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.RandomAccessFile;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * Unit tests for the archive segment format and FeedbackArchive
+ * Segments are written to a temporary directory with small blocks so that
+ * lookups cross block boundaries
+ */
+@ExtendWith(MockitoExtension.class)
+class FeedbackArchiveTest {
+
+    private static final int BLOCK_ROWS = 64;
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private ProviderDictionary providerDictionary;
+
+    @Test
+    void segment_RoundTrip_ShouldFindEveryRowByIdAndByMember() throws Exception {
+        // Arrange
+        List<FeedbackEntity> rows = rows(2_000, 150);
+        Path file = directory.resolve("segment-000000000001.seg");
+
+        // Act
+        ArchiveSegment.write(file, rows, BLOCK_ROWS);
+        ArchiveSegment segment = ArchiveSegment.open(file);
+
+        // Assert
+        assertEquals(rows.size(), segment.rowCount());
+        for (FeedbackEntity expected : rows) {
+            FeedbackEntity actual = segment.findById(expected.getId()).orElseThrow();
+            assertEquals(expected.getMemberId(), actual.getMemberId());
+            assertEquals(expected.getProviderId(), actual.getProviderId());
+            assertEquals(expected.getRating(), actual.getRating());
+            assertEquals(expected.getComment(), actual.getComment());
+            assertEquals(expected.getSubmittedAt(), actual.getSubmittedAt());
+        }
+
+        List<UUID> expectedIds = rows.stream()
+                .filter(row -> row.getMemberId().equals("member-42"))
+                .sorted(Comparator.comparing(FeedbackEntity::getSubmittedAt).reversed())
+                .map(FeedbackEntity::getId)
+                .toList();
+        assertEquals(expectedIds, segment.findByMemberId("member-42").stream().map(FeedbackEntity::getId).toList());
+
+        assertTrue(segment.findById(UUID.randomUUID()).isEmpty());
+        assertTrue(segment.findByMemberId("member-unknown").isEmpty());
+        assertTrue(segment.findByMemberId("a").isEmpty());
+        assertTrue(segment.findByMemberId("zzz").isEmpty());
+    }
+
+    @Test
+    void segment_CorruptBlock_ShouldFailChecksum() throws Exception {
+        // Arrange
+        List<FeedbackEntity> rows = rows(10, 3);
+        Path file = directory.resolve("segment-000000000001.seg");
+        ArchiveSegment.write(file, rows, BLOCK_ROWS);
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            raw.seek(70);
+            raw.write(raw.read() ^ 0xFF);
+        }
+
+        // Act
+        ArchiveSegment segment = ArchiveSegment.open(file);
+
+        // Assert
+        assertThrows(IllegalStateException.class, () -> segment.findById(rows.get(0).getId()));
+    }
+
+    @Test
+    void segment_ExistingTarget_ShouldNotBeReplaced() throws Exception {
+        // Arrange
+        List<FeedbackEntity> first = rows(10, 3);
+        List<FeedbackEntity> second = rows(10, 3);
+        Path file = directory.resolve("segment-000000000001.seg");
+        ArchiveSegment.write(file, first, BLOCK_ROWS);
+
+        // Act & Assert
+        assertThrows(FileAlreadyExistsException.class, () -> ArchiveSegment.write(file, second, BLOCK_ROWS));
+        ArchiveSegment segment = ArchiveSegment.open(file);
+        assertTrue(segment.findById(first.get(0).getId()).isPresent());
+        assertTrue(segment.findById(second.get(0).getId()).isEmpty());
+        try (var files = Files.list(directory)) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+
+    @Test
+    void archive_Reload_ShouldServeSegmentsNewestFirstAndLeaveIncompleteWritesToRecovery() throws Exception {
+        // Arrange
+        lenient().when(providerDictionary.getName(anyInt())).thenReturn("Dr. Smith");
+        FeedbackArchive archive = new FeedbackArchive(directory.toString(), providerDictionary);
+        archive.load();
+        FeedbackEntity older = row(UUID.randomUUID(), "member-1", 7, Instant.parse("2023-01-01T00:00:00Z"));
+        FeedbackEntity newer = row(UUID.randomUUID(), "member-1", 8, Instant.parse("2024-01-01T00:00:00Z"));
+        archive.append(List.of(older), BLOCK_ROWS);
+        archive.append(List.of(newer), BLOCK_ROWS);
+        Path partial = directory.resolve("segment-000000000003.seg." + UUID.randomUUID() + ".tmp");
+        Files.writeString(partial, "partial");
+
+        // Act
+        FeedbackArchive reloaded = new FeedbackArchive(directory.toString(), providerDictionary);
+        reloaded.load();
+
+        // Assert
+        assertEquals(2, reloaded.segmentCount());
+        assertEquals(List.of(newer.getId(), older.getId()),
+                reloaded.findByMemberId("member-1").stream().map(FeedbackEntity::getId).toList());
+        assertEquals("Dr. Smith", reloaded.findById(older.getId()).orElseThrow().getProviderName());
+        assertTrue(reloaded.existsByMemberIdAndProviderId("member-1", 8));
+        assertFalse(reloaded.existsByMemberIdAndProviderId("member-1", 9));
+        assertTrue(Files.exists(partial));
+
+        reloaded.recover();
+        assertFalse(Files.exists(partial));
+        assertEquals(2, reloaded.segmentCount());
+    }
+
+    @Test
+    void archive_OlderRowInLaterSegment_ShouldStillListNewestFirst() throws Exception {
+        // Arrange
+        FeedbackArchive archive = new FeedbackArchive(directory.toString(), providerDictionary);
+        archive.load();
+        FeedbackEntity newer = row(UUID.randomUUID(), "member-1", 7, Instant.parse("2024-01-01T00:00:00Z"));
+        FeedbackEntity backDated = row(UUID.randomUUID(), "member-1", 8, Instant.parse("2022-01-01T00:00:00Z"));
+        archive.append(List.of(newer), BLOCK_ROWS);
+        archive.append(List.of(backDated), BLOCK_ROWS);
+
+        // Act
+        List<FeedbackEntity> rows = archive.findByMemberId("member-1");
+
+        // Assert
+        assertEquals(List.of(newer.getId(), backDated.getId()), rows.stream().map(FeedbackEntity::getId).toList());
+    }
+
+    @Test
+    void archive_SegmentWrittenByAnotherInstance_ShouldBeServedWithoutRestart() throws Exception {
+        // Arrange
+        lenient().when(providerDictionary.getName(anyInt())).thenReturn("Dr. Smith");
+        FeedbackArchive writer = new FeedbackArchive(directory.toString(), providerDictionary);
+        writer.load();
+        FeedbackArchive reader = new FeedbackArchive(directory.toString(), providerDictionary);
+        reader.load();
+        FeedbackEntity archived = row(UUID.randomUUID(), "member-1", 7, Instant.parse("2023-01-01T00:00:00Z"));
+
+        // Act
+        writer.append(List.of(archived), BLOCK_ROWS);
+
+        // Assert
+        assertTrue(reader.existsByMemberIdAndProviderId("member-1", 7));
+        assertTrue(reader.findById(archived.getId()).isPresent());
+        assertEquals(1, reader.segmentCount());
+    }
+
+    @Test
+    void archive_RelativeDirectory_ShouldFailStartup() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new FeedbackArchive("feedback-archive", providerDictionary));
+        assertFalse(new FeedbackArchive("", providerDictionary).isEnabled());
+    }
+
+    private static List<FeedbackEntity> rows(int count, int members) {
+        Random random = new Random(42);
+        Instant start = Instant.parse("2024-01-01T00:00:00.123456Z");
+        List<FeedbackEntity> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            FeedbackEntity row = row(UUID.randomUUID(), "member-" + random.nextInt(members), 1 + random.nextInt(300),
+                    start.plusMillis(random.nextInt(1_000_000_000)).plusNanos(random.nextInt(1_000) * 1_000L));
+            row.setComment(random.nextInt(4) == 0 ? null : "Comment " + i + " – ok");
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static FeedbackEntity row(UUID id, String memberId, int providerId, Instant submittedAt) {
+        FeedbackEntity row = new FeedbackEntity();
+        row.setId(id);
+        row.setMemberId(memberId);
+        row.setProviderId(providerId);
+        row.setRating(1 + Math.floorMod(id.hashCode(), 5));
+        row.setSubmittedAt(submittedAt);
+        return row;
+    }
+}
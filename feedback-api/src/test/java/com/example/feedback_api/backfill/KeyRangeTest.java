@@ -0,0 +1,52 @@
+package com.example.feedback_api.backfill;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for KeyRange
+ * Tests that partitions tile the UUID key space without gaps
+ */
+class KeyRangeTest {
+
+    @Test
+    void of_AdjacentPartitions_ShouldShareBoundaries() {
+        // Arrange
+        int partitionCount = 16;
+
+        // Act & Assert
+        assertEquals(new UUID(0L, 0L), KeyRange.of(0, partitionCount).lower());
+        assertEquals(new UUID(-1L, -1L), KeyRange.of(partitionCount - 1, partitionCount).upper());
+        for (int i = 1; i < partitionCount; i++) {
+            assertEquals(KeyRange.of(i - 1, partitionCount).upper(), KeyRange.of(i, partitionCount).lower());
+        }
+    }
+
+    @Test
+    void of_RandomUuid_ShouldFallInExactlyOnePartition() {
+        // Arrange
+        int partitionCount = 7;
+        UUID id = UUID.randomUUID();
+
+        // Act
+        int matches = 0;
+        for (int i = 0; i < partitionCount; i++) {
+            KeyRange range = KeyRange.of(i, partitionCount);
+            if (unsignedCompare(id, range.lower()) > 0 && unsignedCompare(id, range.upper()) < 0) {
+                matches++;
+            }
+        }
+
+        // Assert
+        assertEquals(1, matches);
+    }
+
+    // Bytewise ordering, as PostgreSQL compares uuid values
+    private static int unsignedCompare(UUID a, UUID b) {
+        int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return msb != 0 ? msb : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
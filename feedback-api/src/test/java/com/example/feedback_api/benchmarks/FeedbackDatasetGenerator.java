@@ -0,0 +1,465 @@
+package com.example.feedback_api.benchmarks;
+
+import com.example.feedback_api.services.ProviderDictionary;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Synthetic feedback dataset loaded through Postgres COPY
+ * Generates production-shaped rows for benchmarks and query-plan checks:
+ * - provider popularity follows a Zipf distribution
+ * - a small set of hot members submits a large share of the feedback
+ * - ratings are J-shaped (mostly 5s, a bump of 1s), with some poorly rated providers
+ * - comments are optional, mostly short, with a long tail up to the 200-character limit
+ * - submission times are spread evenly over a period, in time order like a live table
+ * No member rates the same provider twice, matching the duplicate check. Every
+ * value derives from the seed and options, so a seed always reproduces the same
+ * dataset. Rows are streamed into one COPY through the driver's CopyManager
+ * rather than saved through JPA; by default the secondary indexes are dropped
+ * for the load and rebuilt afterwards, then the table is vacuumed and analyzed
+ * so plans and index-only scans behave as in production.
+ * Run with scripts/generate-dataset.sh
+ */
+public final class FeedbackDatasetGenerator {
+
+    private static final String[] FIRST_NAMES = { "Sarah", "James", "Maria", "David", "Aisha", "Robert", "Mei",
+            "Carlos", "Emily", "Michael", "Priya", "Daniel", "Olga", "Kwame", "Laura", "Ahmed", "Hannah", "Lucas",
+            "Fatima", "Thomas" };
+    private static final String[] LAST_NAMES = { "Johnson", "Smith", "Garcia", "Chen", "Patel", "Okafor", "Müller",
+            "Rossi", "Kim", "Nguyen", "Silva", "Cohen", "Novak", "Hughes", "Tanaka", "Haddad", "Larsen", "Moreau",
+            "Kowalski", "Dubois", "Reyes", "Schmidt", "Singh", "Walker", "Ibrahim" };
+    private static final String[] WORDS = { "the", "doctor", "was", "very", "kind", "and", "explained", "everything",
+            "clearly", "wait", "time", "too", "long", "staff", "friendly", "appointment", "on", "helpful", "would",
+            "recommend", "not", "listen", "rushed", "great", "experience", "clinic", "clean", "follow-up", "call",
+            "billing", "confusing", "thorough", "exam", "professional", "again", "felt", "heard", "parking", "hard",
+            "nurse", "excellent", "care", "late", "minutes", "answered", "questions", "prescription", "ready", "visit" };
+
+    // Cumulative rating probabilities for 1..5 stars
+    private static final double[] TYPICAL_RATINGS = { 0.08, 0.13, 0.22, 0.45, 1.0 };
+    private static final double[] POOR_RATINGS = { 0.35, 0.52, 0.68, 0.84, 1.0 };
+    private static final double POOR_PROVIDER_SHARE = 0.15;
+
+    private static final int MAX_COMMENT_LENGTH = 200;
+    private static final int COPY_CHUNK_CHARS = 1 << 20;
+
+    private FeedbackDatasetGenerator() {
+    }
+
+    /**
+     * @param args --key=value options, see Options.parse
+     */
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        try (Connection connection = DriverManager.getConnection(options.url(), options.user(), options.password())) {
+            Result result = load(connection, options);
+            System.out.println(result);
+        }
+    }
+
+    /**
+     * Generate and load a dataset
+     *
+     * @param connection connection to a database migrated by Flyway
+     * @param options    dataset shape and load behaviour
+     * @return summary of the load
+     */
+    public static Result load(Connection connection, Options options) throws SQLException {
+        long start = System.nanoTime();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        List<String> rebuiltIndexes = List.of();
+        long rows;
+        try {
+            if (options.truncate()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("TRUNCATE feedback");
+                }
+            }
+            int[] providerIds = upsertProviders(connection, options);
+            Map<String, String> indexes = options.rebuildIndexes() ? dropSecondaryIndexes(connection) : Map.of();
+            rows = copyFeedback(connection, options, providerIds);
+            try (Statement statement = connection.createStatement()) {
+                for (String definition : indexes.values()) {
+                    statement.execute(definition);
+                }
+            }
+            rebuiltIndexes = new ArrayList<>(indexes.keySet());
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+
+        long loaded = System.nanoTime();
+        // VACUUM cannot run inside a transaction block
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM (ANALYZE) feedback");
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        long vacuumed = System.nanoTime();
+        return new Result(rows, options.providers(), options.members(), rebuiltIndexes,
+                (loaded - start) / 1_000_000, (vacuumed - loaded) / 1_000_000);
+    }
+
+    /**
+     * Insert the provider dictionary entries, keeping any that already exist
+     *
+     * @return provider ids by popularity rank
+     */
+    private static int[] upsertProviders(Connection connection, Options options) throws SQLException {
+        List<String> names = providerNames(options);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO providers (name, normalized_name) VALUES (?, ?) ON CONFLICT (normalized_name) DO NOTHING")) {
+            for (String name : names) {
+                insert.setString(1, name);
+                insert.setString(2, ProviderDictionary.normalize(name));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+
+        Map<String, Integer> idsByName = new HashMap<>();
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id, normalized_name FROM providers WHERE normalized_name = ANY (?)")) {
+            select.setArray(1, connection.createArrayOf("varchar",
+                    names.stream().map(ProviderDictionary::normalize).toArray()));
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    idsByName.put(resultSet.getString(2), resultSet.getInt(1));
+                }
+            }
+        }
+        return names.stream().mapToInt(name -> idsByName.get(ProviderDictionary.normalize(name))).toArray();
+    }
+
+    /**
+     * Distinct provider names in a seed-dependent popularity order
+     */
+    static List<String> providerNames(Options options) {
+        SplittableRandom random = new SplittableRandom(options.seed());
+        int combinations = FIRST_NAMES.length * LAST_NAMES.length;
+        List<String> names = new ArrayList<>(options.providers());
+        for (int i = 0; i < options.providers(); i++) {
+            String name = "Dr. " + FIRST_NAMES[i % FIRST_NAMES.length] + " "
+                    + LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length];
+            names.add(i < combinations ? name : name + " " + (i / combinations + 1));
+        }
+        // Fisher-Yates, so the most popular providers are not simply the first names alphabetically
+        for (int i = names.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            names.set(i, names.set(j, names.get(i)));
+        }
+        return names;
+    }
+
+    /**
+     * Drop the feedback table's indexes other than its primary key
+     *
+     * @return index definitions by name, to recreate after the load
+     */
+    private static Map<String, String> dropSecondaryIndexes(Connection connection) throws SQLException {
+        Map<String, String> indexes = new LinkedHashMap<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("""
+                        SELECT i.indexname, i.indexdef
+                        FROM pg_indexes i
+                        WHERE i.schemaname = current_schema() AND i.tablename = 'feedback'
+                          AND NOT EXISTS (SELECT 1 FROM pg_constraint c
+                                          WHERE c.conname = i.indexname AND c.conrelid = 'feedback'::regclass)
+                        ORDER BY i.indexname""")) {
+            while (resultSet.next()) {
+                indexes.put(resultSet.getString(1), resultSet.getString(2));
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String name : indexes.keySet()) {
+                statement.execute("DROP INDEX " + name);
+            }
+        }
+        return indexes;
+    }
+
+    private static long copyFeedback(Connection connection, Options options, int[] providerIds) throws SQLException {
+        // FREEZE writes rows already frozen and all-visible; Postgres only allows it after a TRUNCATE in the same transaction
+        String sql = "COPY feedback (id, member_id, provider_id, rating, comment, submitted_at) FROM STDIN"
+                + (options.truncate() ? " WITH (FREEZE)" : "");
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        try {
+            Rows rows = new Rows(options, providerIds);
+            StringBuilder buffer = new StringBuilder(COPY_CHUNK_CHARS + 512);
+            for (long i = 0; i < options.rows(); i++) {
+                rows.appendRow(i, buffer);
+                if (buffer.length() >= COPY_CHUNK_CHARS) {
+                    byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+                    copyIn.writeToCopy(bytes, 0, bytes.length);
+                    buffer.setLength(0);
+                }
+            }
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Row source for one dataset
+     * Draws every value from a single seeded random in row order
+     */
+    static final class Rows {
+
+        private final Options options;
+        private final int[] providerIds;
+        private final double[] providerCdf;
+        private final boolean[] poorProvider;
+        private final int hotMembers;
+        private final long startMicros;
+        private final double stepMicros;
+        private final SplittableRandom random;
+        private final LongHashSet ratedPairs;
+
+        Rows(Options options, int[] providerIds) {
+            if ((double) options.members() * providerIds.length < options.rows() * 2.0) {
+                throw new IllegalArgumentException("members x providers must be at least twice rows so that"
+                        + " no member rates a provider twice");
+            }
+            this.options = options;
+            this.providerIds = providerIds;
+            this.random = new SplittableRandom(options.seed() ^ 0x5DEECE66DL);
+            this.providerCdf = zipfCdf(providerIds.length, options.zipfExponent());
+            this.poorProvider = new boolean[providerIds.length];
+            for (int i = 0; i < poorProvider.length; i++) {
+                poorProvider[i] = random.nextDouble() < POOR_PROVIDER_SHARE;
+            }
+            this.hotMembers = Math.max(1, (int) (options.members() * options.hotMemberFraction()));
+            Instant end = options.end();
+            this.startMicros = ChronoUnit.MICROS.between(Instant.EPOCH, end.minus(options.days(), ChronoUnit.DAYS));
+            this.stepMicros = (double) options.days() * 86_400_000_000L / Math.max(1, options.rows());
+            this.ratedPairs = new LongHashSet(options.rows());
+        }
+
+        /**
+         * Append row number i in COPY text format
+         */
+        void appendRow(long i, StringBuilder out) {
+            int member;
+            int provider;
+            do {
+                member = nextMember();
+                provider = nextProvider();
+            } while (!ratedPairs.add((long) member * providerIds.length + provider));
+
+            out.append(new UUID((random.nextLong() & ~0xF000L) | 0x4000L,
+                    (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L)).append('\t');
+            out.append("member-").append(member).append('\t');
+            out.append(providerIds[provider]).append('\t');
+            out.append(nextRating(poorProvider[provider] ? POOR_RATINGS : TYPICAL_RATINGS)).append('\t');
+            appendComment(out);
+            out.append('\t');
+            long micros = startMicros + (long) (i * stepMicros) + random.nextLong(Math.max(1, (long) stepMicros));
+            out.append(Instant.EPOCH.plus(micros, ChronoUnit.MICROS)).append('\n');
+        }
+
+        private int nextMember() {
+            if (random.nextDouble() < options.hotMemberShare() && hotMembers < options.members()) {
+                return random.nextInt(hotMembers);
+            }
+            return hotMembers + random.nextInt(options.members() - hotMembers);
+        }
+
+        private int nextProvider() {
+            int index = Arrays.binarySearch(providerCdf, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, providerCdf.length - 1);
+        }
+
+        private int nextRating(double[] cdf) {
+            double draw = random.nextDouble();
+            for (int rating = 1; rating < cdf.length; rating++) {
+                if (draw < cdf[rating - 1]) {
+                    return rating;
+                }
+            }
+            return cdf.length;
+        }
+
+        private void appendComment(StringBuilder out) {
+            if (random.nextDouble() >= options.commentRate()) {
+                out.append("\\N");
+                return;
+            }
+            // Exponential lengths: mean about 60 characters, a few percent at the limit
+            int length = (int) Math.min(MAX_COMMENT_LENGTH, 8 - Math.log(1 - random.nextDouble()) * 55);
+            int start = out.length();
+            while (out.length() - start < length) {
+                if (out.length() > start) {
+                    out.append(' ');
+                }
+                out.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            out.setLength(start + length);
+            // Never end on a space, which the API would have trimmed
+            while (out.length() > start + 1 && out.charAt(out.length() - 1) == ' ') {
+                out.setLength(out.length() - 1);
+            }
+        }
+
+        private static double[] zipfCdf(int size, double exponent) {
+            double[] cdf = new double[size];
+            double sum = 0;
+            for (int rank = 0; rank < size; rank++) {
+                sum += 1 / Math.pow(rank + 1, exponent);
+                cdf[rank] = sum;
+            }
+            for (int rank = 0; rank < size; rank++) {
+                cdf[rank] /= sum;
+            }
+            return cdf;
+        }
+    }
+
+    /**
+     * Open-addressing set of non-negative longs
+     * Kept at most half full: 16 to 32 bytes per element, against roughly 60 for a
+     * HashSet of boxed Longs
+     */
+    private static final class LongHashSet {
+
+        private final long[] slots;
+        private final int mask;
+
+        private LongHashSet(long expected) {
+            int capacity = Integer.highestOneBit((int) Math.min(1 << 30, Math.max(16, expected * 2)) - 1) << 1;
+            this.slots = new long[capacity];
+            this.mask = capacity - 1;
+        }
+
+        /**
+         * @return true if the value was not present
+         */
+        private boolean add(long value) {
+            long stored = value + 1;
+            int index = (int) (mix(stored) & mask);
+            while (slots[index] != 0) {
+                if (slots[index] == stored) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+            slots[index] = stored;
+            return true;
+        }
+
+        private static long mix(long value) {
+            value *= 0x9E3779B97F4A7C15L;
+            return value ^ (value >>> 32);
+        }
+    }
+
+    /**
+     * Dataset shape and load behaviour
+     *
+     * @param url                JDBC URL of the target database
+     * @param user               database user
+     * @param password           database password
+     * @param rows               feedback rows to generate
+     * @param providers          distinct providers
+     * @param members            distinct members
+     * @param zipfExponent       skew of provider popularity (1 is classic Zipf)
+     * @param hotMemberFraction  fraction of members that are hot
+     * @param hotMemberShare     share of rows submitted by hot members
+     * @param commentRate        share of rows with a comment
+     * @param days               period the submissions are spread over
+     * @param end                end of that period (fixed so the seed reproduces timestamps too)
+     * @param seed               random seed
+     * @param truncate           empty the feedback table first
+     * @param rebuildIndexes     drop secondary indexes for the load and rebuild them afterwards
+     */
+    public record Options(String url, String user, String password, long rows, int providers, int members,
+            double zipfExponent, double hotMemberFraction, double hotMemberShare, double commentRate, int days,
+            Instant end, long seed, boolean truncate, boolean rebuildIndexes) {
+
+        /**
+         * Parse --key=value arguments; unset keys take their defaults
+         * (--rows=1000000 --providers=2000 --members=rows/4 --zipf=1.1
+         * --hot-member-fraction=0.01 --hot-member-share=0.25 --comment-rate=0.7
+         * --days=365 --end=2026-01-01T00:00:00Z --seed=42 --truncate=false
+         * --rebuild-indexes=true, and the local docker-compose database)
+         *
+         * @param args command-line arguments
+         * @return parsed options
+         */
+        public static Options parse(String... args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("Expected --key=value but got " + arg);
+                }
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+            long rows = Long.parseLong(values.getOrDefault("rows", "1000000"));
+            return new Options(
+                    values.getOrDefault("url", "jdbc:postgresql://localhost:5433/feedbackdb"),
+                    values.getOrDefault("user", "postgres"),
+                    values.getOrDefault("password", "postgres"),
+                    rows,
+                    Integer.parseInt(values.getOrDefault("providers", "2000")),
+                    Integer.parseInt(values.getOrDefault("members", Long.toString(Math.max(1, rows / 4)))),
+                    Double.parseDouble(values.getOrDefault("zipf", "1.1")),
+                    Double.parseDouble(values.getOrDefault("hot-member-fraction", "0.01")),
+                    Double.parseDouble(values.getOrDefault("hot-member-share", "0.25")),
+                    Double.parseDouble(values.getOrDefault("comment-rate", "0.7")),
+                    Integer.parseInt(values.getOrDefault("days", "365")),
+                    Instant.parse(values.getOrDefault("end", "2026-01-01T00:00:00Z")),
+                    Long.parseLong(values.getOrDefault("seed", "42")),
+                    Boolean.parseBoolean(values.getOrDefault("truncate", "false")),
+                    Boolean.parseBoolean(values.getOrDefault("rebuild-indexes", "true")));
+        }
+    }
+
+    /**
+     * Summary of a load
+     *
+     * @param rows           rows copied
+     * @param providers      providers in the dataset
+     * @param members        members in the dataset
+     * @param rebuiltIndexes indexes dropped and rebuilt around the copy
+     * @param loadMs         time to copy and rebuild indexes
+     * @param vacuumMs       time to vacuum and analyze
+     */
+    public record Result(long rows, int providers, int members, List<String> rebuiltIndexes, long loadMs,
+            long vacuumMs) {
+
+        @Override
+        public String toString() {
+            return String.format("rows=%d providers=%d members=%d load=%.1f s (%.0f rows/s) vacuum+analyze=%.1f s "
+                    + "rebuilt indexes=%s",
+                    rows, providers, members, loadMs / 1000.0, rows * 1000.0 / Math.max(1, loadMs), vacuumMs / 1000.0,
+                    rebuiltIndexes);
+        }
+    }
+}
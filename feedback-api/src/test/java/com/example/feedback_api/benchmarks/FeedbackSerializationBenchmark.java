@@ -0,0 +1,91 @@
+package com.example.feedback_api.benchmarks;
+
+import com.example.feedback_api.dtos.FeedbackResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * JMH benchmark: encoding one 10k-row GET /feedback page
+ * Compares JSON with the CBOR and Smile encodings offered through content
+ * negotiation, with and without gzip. Bytes on the wire for each combination
+ * are printed once per trial; time is per page.
+ * Run with scripts/run-benchmarks.sh FeedbackSerializationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeedbackSerializationBenchmark {
+
+    private static final int PAGE_ROWS = 10_000;
+
+    @Param({ "json", "cbor", "smile" })
+    public String format;
+
+    @Param({ "false", "true" })
+    public boolean gzip;
+
+    private ObjectMapper mapper;
+    private List<FeedbackResponse> page;
+    private ByteArrayOutputStream buffer;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Same builder and date settings as the application's converters
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        mapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        page = new ArrayList<>(PAGE_ROWS);
+        Instant submittedAt = Instant.parse("2025-11-10T20:23:00.123456Z");
+        for (int i = 0; i < PAGE_ROWS; i++) {
+            page.add(new FeedbackResponse(UUID.randomUUID(), "m-" + (100_000 + i % 2_500),
+                    "Dr. Provider " + (i % 300), 1 + i % 5,
+                    i % 3 == 0 ? null : "Very professional and explained everything clearly, visit " + i,
+                    submittedAt.plusSeconds(i * 37L)));
+        }
+
+        buffer = new ByteArrayOutputStream(4 * 1024 * 1024);
+        System.out.printf("%n%s gzip=%s: %,d bytes per %,d-row page%n", format, gzip, encode().size(), PAGE_ROWS);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream encodePage() throws IOException {
+        return encode();
+    }
+
+    private ByteArrayOutputStream encode() throws IOException {
+        buffer.reset();
+        if (gzip) {
+            try (OutputStream out = new GZIPOutputStream(buffer, 8192)) {
+                mapper.writeValue(out, page);
+            }
+        } else {
+            mapper.writeValue(buffer, page);
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.feedback_api.benchmarks;
+
+import com.example.feedback_api.dtos.FeedbackRequest;
+import com.example.feedback_api.services.FeedbackRequestValidator;
+import com.example.feedback_api.services.ValidatedFeedback;
+import com.example.feedback_api.services.ValidationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark: POST /feedback request validation
+ * Compares the previous two passes (Bean Validation on the annotations, then
+ * the hand-written service checks) with the single-pass FeedbackRequestValidator.
+ * Run with scripts/run-benchmarks.sh FeedbackValidationBenchmark; the gc
+ * profiler reports allocation per operation (gc.alloc.rate.norm).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeedbackValidationBenchmark {
+
+    private Validator beanValidator;
+    private FeedbackRequestValidator requestValidator;
+    private FeedbackRequest validRequest;
+    private FeedbackRequest invalidRequest;
+
+    @Setup
+    public void setUp() {
+        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+        beanValidator = factory.getValidator();
+        requestValidator = new FeedbackRequestValidator();
+        validRequest = new FeedbackRequest(" m-123456 ", "Dr. Sarah Johnson", 4,
+                "Dr. Johnson was very professional and explained everything clearly.");
+        invalidRequest = new FeedbackRequest("  ", "Dr. Sarah Johnson", 9, null);
+    }
+
+    @Benchmark
+    public void twoPass_Valid(Blackhole blackhole) {
+        blackhole.consume(twoPass(validRequest));
+    }
+
+    @Benchmark
+    public void singlePass_Valid(Blackhole blackhole) {
+        blackhole.consume(requestValidator.validate(validRequest));
+    }
+
+    @Benchmark
+    public void twoPass_Invalid(Blackhole blackhole) {
+        blackhole.consume(twoPass(invalidRequest));
+    }
+
+    @Benchmark
+    public void singlePass_Invalid(Blackhole blackhole) {
+        try {
+            blackhole.consume(requestValidator.validate(invalidRequest));
+        } catch (ValidationException e) {
+            blackhole.consume(e.getFieldErrors());
+        }
+    }
+
+    // The previous path: annotation validation in the controller, then the service's
+    // own checks and trimming when mapping to the entity
+    private Object twoPass(FeedbackRequest request) {
+        Set<ConstraintViolation<FeedbackRequest>> violations = beanValidator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations;
+        }
+        if (request.getMemberId() == null || request.getMemberId().trim().isEmpty()) {
+            return "Member ID is required";
+        }
+        if (request.getProviderName() == null || request.getProviderName().trim().isEmpty()) {
+            return "Provider name is required";
+        }
+        if (request.getRating() < 1 || request.getRating() > 5) {
+            return "Rating must be between 1 and 5";
+        }
+        if (request.getComment() != null && request.getComment().length() > 200) {
+            return "Comment must be 200 characters or less";
+        }
+        return new ValidatedFeedback(request.getMemberId().trim(), request.getProviderName(),
+                request.getRating(), request.getComment() != null ? request.getComment().trim() : null);
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.feedback_api.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load generator for comparing the servlet and reactive builds
+ * Each virtual client sends one request at a time for the whole run: a POST
+ * /feedback by a new member for writePercent of requests, otherwise
+ * GET /feedback?memberId=... for a member seeded before the run. Prints
+ * throughput, latency percentiles and the server's live thread count (from
+ * /actuator/metrics) at the end.
+ * Run with scripts/load-benchmark.sh
+ */
+public final class HttpLoadGenerator {
+
+    private static final int SEED_MEMBERS = 200;
+    private static final Pattern METRIC_VALUE = Pattern.compile("\"value\"\\s*:\\s*([0-9.E]+)");
+
+    private HttpLoadGenerator() {
+    }
+
+    /**
+     * @param args base URL, concurrency, seconds, write percent
+     *             (defaults http://localhost:8080 200 30 10)
+     */
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        int writePercent = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+
+        Result result = run(baseUrl, concurrency, seconds, writePercent);
+        System.out.println(result);
+    }
+
+    /**
+     * Seed members, then drive load and collect the results
+     *
+     * @param baseUrl      server root, e.g. http://localhost:8080
+     * @param concurrency  number of concurrent clients
+     * @param seconds      measured duration
+     * @param writePercent share of requests that are POSTs
+     * @return summary of the run
+     */
+    public static Result run(String baseUrl, int concurrency, int seconds, int writePercent) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        String runId = Long.toString(System.nanoTime(), 36);
+
+        for (int i = 0; i < SEED_MEMBERS; i++) {
+            send(client, post(baseUrl, "load-" + runId + "-" + i, "Seed Provider " + i));
+        }
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        AtomicLong writes = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        long[][] latencies = new long[concurrency][];
+        int[] counts = new int[concurrency];
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?>[] futures = new Future<?>[concurrency];
+            for (int c = 0; c < concurrency; c++) {
+                int clientIndex = c;
+                futures[c] = clients.submit(() -> {
+                    long[] own = new long[1024];
+                    int n = 0;
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request;
+                        if (random.nextInt(100) < writePercent) {
+                            // New members reviewing known providers: every write passes the duplicate check
+                            request = post(baseUrl, "load-" + runId + "-w" + writes.incrementAndGet(),
+                                    "Seed Provider " + random.nextInt(SEED_MEMBERS));
+                        } else {
+                            request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/feedback?memberId=load-"
+                                    + runId + "-" + random.nextInt(SEED_MEMBERS))).GET().build();
+                        }
+                        long start = System.nanoTime();
+                        if (!send(client, request)) {
+                            errors.incrementAndGet();
+                        }
+                        if (n == own.length) {
+                            own = Arrays.copyOf(own, n * 2);
+                        }
+                        own[n++] = System.nanoTime() - start;
+                    }
+                    latencies[clientIndex] = own;
+                    counts[clientIndex] = n;
+                    return null;
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        int total = Arrays.stream(counts).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (int c = 0; c < concurrency; c++) {
+            System.arraycopy(latencies[c], 0, all, offset, counts[c]);
+            offset += counts[c];
+        }
+        Arrays.sort(all);
+        return new Result(concurrency, total, errors.get(), total / (double) seconds,
+                percentileMs(all, 0.50), percentileMs(all, 0.99), percentileMs(all, 0.999),
+                serverMetric(client, baseUrl, "jvm.threads.live"));
+    }
+
+    private static HttpRequest post(String baseUrl, String memberId, String providerName) {
+        String body = "{\"memberId\":\"" + memberId + "\",\"providerName\":\"" + providerName
+                + "\",\"rating\":4,\"comment\":\"load test\"}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/feedback"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static boolean send(HttpClient client, HttpRequest request) {
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status < 400;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static long serverMetric(HttpClient client, String baseUrl, String metric) {
+        try {
+            String body = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + metric)).build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+            Matcher matcher = METRIC_VALUE.matcher(body);
+            return matcher.find() ? (long) Double.parseDouble(matcher.group(1)) : -1;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Summary of one load run
+     */
+    public record Result(int concurrency, int requests, long errors, double requestsPerSecond,
+            double p50Ms, double p99Ms, double p999Ms, long serverThreads) {
+
+        @Override
+        public String toString() {
+            return String.format("concurrency=%d requests=%d errors=%d throughput=%.0f req/s "
+                    + "p50=%.2f ms p99=%.2f ms p99.9=%.2f ms server threads=%d",
+                    concurrency, requests, errors, requestsPerSecond, p50Ms, p99Ms, p999Ms, serverThreads);
+        }
+    }
+}
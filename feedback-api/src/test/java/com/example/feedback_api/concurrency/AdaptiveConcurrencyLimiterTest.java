@@ -0,0 +1,127 @@
+package com.example.feedback_api.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimiter and GradientLimit
+ * Latency samples are fed straight into GradientLimit so the tests do not depend on timing
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void tryAcquire_AboveLimit_ShouldRejectAndCount() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("write", 2, 1, 10, 1.5, 0.2, 100,
+                meterRegistry);
+
+        // Act
+        Optional<AdaptiveConcurrencyLimiter.Permit> first = limiter.tryAcquire();
+        Optional<AdaptiveConcurrencyLimiter.Permit> second = limiter.tryAcquire();
+        Optional<AdaptiveConcurrencyLimiter.Permit> third = limiter.tryAcquire();
+
+        // Assert
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertTrue(third.isEmpty());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1.0, meterRegistry.get("feedback.concurrency.rejected").tag("operation", "write").counter().count());
+        assertEquals(2.0, meterRegistry.get("feedback.concurrency.in_flight").tag("operation", "write").gauge().value());
+        assertEquals(2.0, meterRegistry.get("feedback.concurrency.limit").tag("operation", "write").gauge().value());
+    }
+
+    @Test
+    void release_ShouldFreeSlotForNextRequest() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("read", 1, 1, 10, 1.5, 0.2, 100,
+                meterRegistry);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire().orElseThrow();
+
+        // Act
+        permit.release(false);
+        Optional<AdaptiveConcurrencyLimiter.Permit> next = limiter.tryAcquire();
+
+        // Assert
+        assertTrue(next.isPresent());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void onSample_SteadyLatencyAtFullUse_ShouldGrowLimit() {
+        // Arrange
+        GradientLimit limit = new GradientLimit(10, 2, 100, 1.5, 0.2, 100);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(20 * MILLIS, limit.getLimit(), false);
+        }
+
+        // Assert
+        assertTrue(limit.getLimit() > 10, "limit should grow, was " + limit.getLimit());
+    }
+
+    @Test
+    void onSample_LatencySpike_ShouldShrinkLimit() {
+        // Arrange
+        GradientLimit limit = new GradientLimit(50, 2, 100, 1.5, 0.2, 100);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(20 * MILLIS, 50, false);
+        }
+        int before = limit.getLimit();
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(400 * MILLIS, limit.getLimit(), false);
+        }
+
+        // Assert
+        assertTrue(limit.getLimit() < before, "limit should shrink from " + before + ", was " + limit.getLimit());
+    }
+
+    @Test
+    void onSample_Dropped_ShouldShrinkLimitDownToMinimum() {
+        // Arrange
+        GradientLimit limit = new GradientLimit(40, 4, 100, 1.5, 0.2, 100);
+
+        // Act
+        List<Integer> limits = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            limits.add(limit.onSample(20 * MILLIS, 1, true));
+        }
+
+        // Assert
+        assertTrue(limits.get(0) < 40);
+        assertEquals(4, limit.getLimit());
+    }
+
+    @Test
+    void onSample_MostlyIdle_ShouldNotGrowLimit() {
+        // Arrange
+        GradientLimit limit = new GradientLimit(20, 2, 100, 1.5, 0.2, 100);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(20 * MILLIS, 3, false);
+        }
+
+        // Assert
+        assertEquals(20, limit.getLimit());
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.feedback_api.concurrency;
+
+import com.example.feedback_api.datasource.PoolShareDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for Bulkhead and the connection shares of PoolShareDataSource
+ * Workers are held on a latch so the bulkhead can be filled deterministically
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkheadTest {
+
+    @Mock
+    private DataSource pool;
+
+    private MeterRegistry meterRegistry;
+    private Bulkhead bulkhead;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkhead = new Bulkhead("read", 1, 1, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        bulkhead.shutdown();
+    }
+
+    @Test
+    void submit_WorkersAndQueueFull_ShouldRejectAndCount() throws Exception {
+        // Arrange
+        CountDownLatch running = new CountDownLatch(1);
+        CompletableFuture<String> first = bulkhead.submit(() -> {
+            running.countDown();
+            release.await();
+            return "first";
+        });
+        running.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = bulkhead.submit(() -> "queued");
+
+        // Act
+        BulkheadFullException exception = assertThrows(BulkheadFullException.class,
+                () -> bulkhead.submit(() -> "rejected"));
+        release.countDown();
+
+        // Assert
+        assertEquals("read", exception.getBulkhead());
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+        assertEquals(1.0, meterRegistry.get("feedback.bulkhead.rejected").tag("bulkhead", "read").counter().count());
+        assertEquals(2, meterRegistry.get("feedback.bulkhead.queue.wait").tag("bulkhead", "read").timer().count());
+    }
+
+    @Test
+    void submit_WorkThrows_ShouldCompleteExceptionally() {
+        // Arrange
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        // Act
+        CompletableFuture<String> result = bulkhead.submit(() -> {
+            throw failure;
+        });
+
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertSame(failure, exception.getCause());
+    }
+
+    @Test
+    void poolShare_ShareExhausted_ShouldTimeOutWithoutTouchingPool() throws Exception {
+        // Arrange
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        PoolShareDataSource dataSource = new PoolShareDataSource(pool, Map.of("read", 1), null, 50, meterRegistry);
+        CountDownLatch holding = new CountDownLatch(1);
+        CompletableFuture<Void> holder = bulkhead.submit(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                holding.countDown();
+                release.await();
+            }
+            return null;
+        });
+        holding.await(5, TimeUnit.SECONDS);
+        Bulkhead other = new Bulkhead("read", 1, 1, meterRegistry);
+
+        // Act
+        CompletableFuture<Connection> blocked = other.submit(dataSource::getConnection);
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> blocked.get(5, TimeUnit.SECONDS));
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        other.shutdown();
+
+        // Assert
+        assertInstanceOf(SQLTransientConnectionException.class, exception.getCause());
+        verify(pool, times(1)).getConnection();
+        assertEquals(1.0, meterRegistry.get("feedback.bulkhead.connections.timeouts").tag("bulkhead", "read")
+                .counter().count());
+        assertEquals(0.0, meterRegistry.get("feedback.bulkhead.connections.in_use").tag("bulkhead", "read")
+                .gauge().value());
+    }
+
+    @Test
+    void poolShare_NestedConnectionOnSameThread_ShouldNotWaitForOwnShare() throws Exception {
+        // Arrange
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        PoolShareDataSource dataSource = new PoolShareDataSource(pool, Map.of("read", 1), null, 50, meterRegistry);
+
+        // Act
+        CompletableFuture<Boolean> nested = bulkhead.submit(() -> {
+            try (Connection outer = dataSource.getConnection(); Connection inner = dataSource.getConnection()) {
+                return outer != null && inner != null;
+            }
+        });
+
+        // Assert
+        assertTrue(nested.get(5, TimeUnit.SECONDS));
+        verify(pool, times(2)).getConnection();
+    }
+
+    @Test
+    void poolShare_SecondNestedConnectionOnSameThread_ShouldWaitForShare() throws Exception {
+        // Arrange
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        PoolShareDataSource dataSource = new PoolShareDataSource(pool, Map.of("read", 1), null, 50, meterRegistry);
+
+        // Act
+        CompletableFuture<Void> nested = bulkhead.submit(() -> {
+            try (Connection outer = dataSource.getConnection(); Connection inner = dataSource.getConnection();
+                    Connection third = dataSource.getConnection()) {
+                return null;
+            }
+        });
+
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> nested.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(SQLTransientConnectionException.class, exception.getCause());
+        verify(pool, times(2)).getConnection();
+        assertEquals(0.0, meterRegistry.get("feedback.bulkhead.connections.in_use").tag("bulkhead", "read")
+                .gauge().value());
+    }
+
+    @Test
+    void poolShare_OutsideAnyShare_ShouldUsePoolDirectly() throws Exception {
+        // Arrange
+        Connection connection = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(connection);
+        PoolShareDataSource dataSource = new PoolShareDataSource(pool, Map.of("read", 1), null, 50, meterRegistry);
+
+        // Act
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        // Assert
+        assertSame(connection, first);
+        assertSame(connection, second);
+    }
+
+    @Test
+    void poolShare_OutsideAnyShareWithDefaultShare_ShouldBeCappedAtDefaultShare() throws Exception {
+        // Arrange
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        PoolShareDataSource dataSource = new PoolShareDataSource(pool, Map.of("read", 1, "background", 1),
+                "background", 50, meterRegistry);
+        CountDownLatch holding = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                holding.countDown();
+                release.await();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        holding.await(5, TimeUnit.SECONDS);
+
+        // Act
+        SQLTransientConnectionException exception = assertThrows(SQLTransientConnectionException.class,
+                dataSource::getConnection);
+        CompletableFuture<Boolean> read = bulkhead.submit(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                return connection != null;
+            }
+        });
+
+        // Assert - background work is capped, the read share still has its connection
+        assertTrue(exception.getMessage().contains("background"));
+        assertTrue(read.get(5, TimeUnit.SECONDS));
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+    }
+}
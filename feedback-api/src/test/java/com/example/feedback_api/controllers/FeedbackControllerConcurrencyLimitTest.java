@@ -0,0 +1,108 @@
+package com.example.feedback_api.controllers;
+
+import com.example.feedback_api.config.BinaryFormatsConfig;
+import com.example.feedback_api.config.BulkheadConfig;
+import com.example.feedback_api.config.ConcurrencyLimitConfig;
+import com.example.feedback_api.dtos.FeedbackBatchRequest;
+import com.example.feedback_api.dtos.FeedbackBatchResponse;
+import com.example.feedback_api.dtos.FeedbackRequest;
+import com.example.feedback_api.dtos.MemberFeedbackBatchRequest;
+import com.example.feedback_api.dtos.MemberFeedbackBatchResponse;
+import com.example.feedback_api.services.FeedbackRequestValidator;
+import com.example.feedback_api.services.FeedbackService;
+import com.example.feedback_api.services.IdempotencyService;
+import com.example.feedback_api.services.ValidatedFeedback;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for the adaptive concurrency limits in front of FeedbackController
+ * The write limit is pinned at zero, so any request classified as a write is shed
+ */
+@WebMvcTest(FeedbackController.class)
+@Import({ IdempotencyService.class, FeedbackRequestValidator.class, BinaryFormatsConfig.class, BulkheadConfig.class,
+        ConcurrencyLimitConfig.class })
+@TestPropertySource(properties = {
+        "feedback.concurrency.write.initial-limit=0",
+        "feedback.concurrency.write.min-limit=0",
+        "feedback.concurrency.write.max-limit=0" })
+class FeedbackControllerConcurrencyLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private FeedbackService feedbackService;
+
+    @MockitoBean
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void createFeedback_WriteLimitReached_ShouldReturn503() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/feedback")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new FeedbackRequest("member-123", "Dr. Smith", 4, null))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.errors[0].field").value("concurrency"));
+        verify(feedbackService, never()).save(any(ValidatedFeedback.class));
+    }
+
+    @Test
+    void getFeedbackByIds_WriteLimitReached_ShouldBeAdmittedAsRead() throws Exception {
+        // Arrange
+        List<String> ids = List.of(UUID.randomUUID().toString());
+        when(feedbackService.getFeedbackByIds(ids)).thenReturn(new FeedbackBatchResponse(Map.of(), ids));
+
+        // Act & Assert
+        MvcResult started = mockMvc.perform(post("/api/v1/feedback/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new FeedbackBatchRequest(ids))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getFeedbackByMemberIds_WriteLimitReached_ShouldBeAdmittedAsRead() throws Exception {
+        // Arrange
+        List<String> memberIds = List.of("member-123");
+        when(feedbackService.getFeedbackByMemberIds(memberIds))
+                .thenReturn(new MemberFeedbackBatchResponse(Map.of("member-123", List.of())));
+
+        // Act & Assert
+        MvcResult started = mockMvc.perform(post("/api/v1/feedback/members/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new MemberFeedbackBatchRequest(memberIds))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk());
+    }
+}
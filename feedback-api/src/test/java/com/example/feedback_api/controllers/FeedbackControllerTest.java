@@ -1,33 +1,56 @@
 package com.example.feedback_api.controllers;
 
+import com.example.feedback_api.config.BinaryFormatsConfig;
+import com.example.feedback_api.config.BulkheadConfig;
+import com.example.feedback_api.dtos.ErrorResponse;
+import com.example.feedback_api.dtos.FeedbackBatchRequest;
+import com.example.feedback_api.dtos.FeedbackBatchResponse;
 import com.example.feedback_api.dtos.FeedbackRequest;
 import com.example.feedback_api.dtos.FeedbackResponse;
+import com.example.feedback_api.dtos.MemberFeedbackBatchRequest;
+import com.example.feedback_api.messaging.EventPublishRejectedException;
+import com.example.feedback_api.services.FeedbackRequestValidator;
 import com.example.feedback_api.services.FeedbackService;
+import com.example.feedback_api.services.IdempotencyService;
+import com.example.feedback_api.services.ValidatedFeedback;
 import com.example.feedback_api.services.ValidationException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
  * Controller tests for FeedbackController
- * Tests HTTP request/response handling without starting full application
+ * Tests HTTP request/response handling without starting full application.
+ * Handlers run on the bulkheads, so each request is followed by its async dispatch.
  */
 @WebMvcTest(FeedbackController.class)
+@Import({ IdempotencyService.class, FeedbackRequestValidator.class, BinaryFormatsConfig.class, BulkheadConfig.class })
 class FeedbackControllerTest {
 
     @Autowired
@@ -65,10 +88,10 @@ class FeedbackControllerTest {
     @Test
     void createFeedback_ValidRequest_ShouldReturn201() throws Exception {
         // Arrange
-        when(feedbackService.validateAndSave(any(FeedbackRequest.class))).thenReturn(mockResponse);
+        when(feedbackService.save(any(ValidatedFeedback.class))).thenReturn(mockResponse);
 
         // Act & Assert
-        mockMvc.perform(post("/api/v1/feedback")
+        performAsync(post("/api/v1/feedback")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(validRequest)))
                 .andExpect(status().isCreated())
@@ -79,20 +102,82 @@ class FeedbackControllerTest {
                 .andExpect(jsonPath("$.comment").value("Great service!"));
     }
 
+    @Test
+    void createFeedback_RepeatedIdempotencyKey_ShouldReplayWithoutSavingAgain() throws Exception {
+        // Arrange
+        when(feedbackService.save(any(ValidatedFeedback.class))).thenReturn(mockResponse);
+        String body = objectMapper.writeValueAsString(validRequest);
+
+        // Act & Assert - first call executes, retry replays the stored response
+        performAsync(post("/api/v1/feedback")
+                .header("Idempotency-Key", "retry-key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "false"));
+
+        performAsync(post("/api/v1/feedback")
+                .header("Idempotency-Key", "retry-key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(mockResponse.getId().toString()));
+
+        verify(feedbackService, times(1)).save(any(ValidatedFeedback.class));
+    }
+
+    @Test
+    void createFeedback_IdempotencyKeyReusedWithDifferentPayload_ShouldReturn422() throws Exception {
+        // Arrange
+        when(feedbackService.save(any(ValidatedFeedback.class))).thenReturn(mockResponse);
+        performAsync(post("/api/v1/feedback")
+                .header("Idempotency-Key", "retry-key-2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isCreated());
+        validRequest.setRating(2);
+
+        // Act & Assert
+        performAsync(post("/api/v1/feedback")
+                .header("Idempotency-Key", "retry-key-2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].field").value("idempotencyKey"));
+
+        verify(feedbackService, times(1)).save(any(ValidatedFeedback.class));
+    }
+
     @Test
     void createFeedback_ValidationError_ShouldReturn400() throws Exception {
         // Arrange
-        when(feedbackService.validateAndSave(any(FeedbackRequest.class)))
-                .thenThrow(new ValidationException("Member ID is required"));
+        when(feedbackService.save(any(ValidatedFeedback.class)))
+                .thenThrow(new ValidationException("You have already submitted feedback for Dr. Smith"));
 
         // Act & Assert
-        mockMvc.perform(post("/api/v1/feedback")
+        performAsync(post("/api/v1/feedback")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(validRequest)))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.errors").isArray())
                 .andExpect(jsonPath("$.errors[0].field").value("business"))
-                .andExpect(jsonPath("$.errors[0].message").value("Member ID is required"));
+                .andExpect(jsonPath("$.errors[0].message").value("You have already submitted feedback for Dr. Smith"));
+    }
+
+    @Test
+    void createFeedback_EventQueueFull_ShouldReturn503WithRetryAfter() throws Exception {
+        // Arrange
+        when(feedbackService.save(any(ValidatedFeedback.class)))
+                .thenThrow(new EventPublishRejectedException("Feedback event queue is full"));
+
+        // Act & Assert
+        performAsync(post("/api/v1/feedback")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.errors[0].field").value("events"));
     }
 
     @Test
@@ -102,10 +187,16 @@ class FeedbackControllerTest {
         // Missing required fields will trigger validation
 
         // Act & Assert
-        mockMvc.perform(post("/api/v1/feedback")
+        performAsync(post("/api/v1/feedback")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(invalidRequest)))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.length()").value(3))
+                .andExpect(jsonPath("$.errors[0].field").value("memberId"))
+                .andExpect(jsonPath("$.errors[1].field").value("providerName"))
+                .andExpect(jsonPath("$.errors[2].field").value("rating"));
+
+        verify(feedbackService, never()).save(any(ValidatedFeedback.class));
     }
 
     @Test
@@ -115,7 +206,7 @@ class FeedbackControllerTest {
         when(feedbackService.getFeedback("member-123")).thenReturn(mockResponses);
 
         // Act & Assert
-        mockMvc.perform(get("/api/v1/feedback")
+        performAsync(get("/api/v1/feedback")
                 .param("memberId", "member-123"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
@@ -130,8 +221,81 @@ class FeedbackControllerTest {
         when(feedbackService.getFeedback(null)).thenReturn(mockResponses);
 
         // Act & Assert
-        mockMvc.perform(get("/api/v1/feedback"))
+        performAsync(get("/api/v1/feedback"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getFeedback_SlowerThanRequestTimeout_ShouldReturn504() throws Exception {
+        // Arrange
+        when(feedbackService.getFeedback("member-123")).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return List.of(mockResponse);
+        });
+
+        // Act & Assert
+        performAsync(get("/api/v1/feedback")
+                .param("memberId", "member-123")
+                .header(FeedbackController.REQUEST_TIMEOUT_HEADER, "50"))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.errors[0].field").value("deadline"));
+    }
+
+    @Test
+    void getFeedback_AcceptCbor_ShouldReturnCbor() throws Exception {
+        // Arrange
+        when(feedbackService.getFeedback("member-123")).thenReturn(List.of(mockResponse));
+
+        // Act
+        byte[] body = performAsync(get("/api/v1/feedback")
+                .param("memberId", "member-123")
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert - same fields as JSON, including the ISO-8601 timestamp
+        JsonNode feedback = new ObjectMapper(new CBORFactory()).readTree(body).get(0);
+        assertEquals("member-123", feedback.get("memberId").asText());
+        assertEquals(mockResponse.getSubmittedAt().toString(), feedback.get("submittedAt").asText());
+    }
+
+    @Test
+    void getFeedbackByIds_ShouldReturnFoundAndNotFound() throws Exception {
+        // Arrange
+        String missingId = UUID.randomUUID().toString();
+        List<String> ids = List.of(mockResponse.getId().toString(), missingId);
+        when(feedbackService.getFeedbackByIds(ids)).thenReturn(new FeedbackBatchResponse(
+                Map.of(mockResponse.getId().toString(), mockResponse), List.of(missingId)));
+
+        // Act & Assert
+        performAsync(post("/api/v1/feedback/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new FeedbackBatchRequest(ids))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.feedback['" + mockResponse.getId() + "'].memberId").value("member-123"))
+                .andExpect(jsonPath("$.notFound[0]").value(missingId));
+    }
+
+    @Test
+    void getFeedbackByMemberIds_InvalidBatch_ShouldReturn400() throws Exception {
+        // Arrange
+        when(feedbackService.getFeedbackByMemberIds(List.of())).thenThrow(new ValidationException(
+                List.of(new ErrorResponse.FieldError("memberIds", "At least one ID is required"))));
+
+        // Act & Assert
+        performAsync(post("/api/v1/feedback/members/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new MemberFeedbackBatchRequest(List.of()))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field").value("memberIds"));
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult started = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.feedback_api.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReplicaRoutingDataSource
+ * Tests routing of read-only vs read-write work with mocked pools
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private HikariDataSource primary;
+
+    @Mock
+    private HikariDataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        // Long health-check interval: the background check never runs during a test
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), 5000, 3_600_000,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void getConnection_ReadWriteTransaction_ShouldUsePrimary() throws SQLException {
+        // Arrange
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act & Assert
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void getConnection_ReadOnlyTransaction_ShouldUseReplica() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        // Act & Assert
+        assertSame(replicaConnection, routingDataSource.getConnection());
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void getConnection_ReadOnlyButPrimaryRequired_ShouldUsePrimary() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection connection = ReadRoutingContext.onPrimaryIf(true, () -> {
+            try {
+                return routingDataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void getConnection_ReplicaUnreachable_ShouldEjectAndFallBackToPrimary() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        routingDataSource.getConnection();
+        Connection second = routingDataSource.getConnection();
+
+        // Assert - the ejected replica is not tried again
+        assertSame(primaryConnection, second);
+        verify(replica, times(1)).getConnection();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.feedback_api.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TimedDataSource
+ * Tests that statements are timed per SQL string and still reach the driver
+ */
+@ExtendWith(MockitoExtension.class)
+class TimedDataSourceTest {
+
+    private static final String SELECT_BY_MEMBER = "select f.id from feedback f where f.member_id=?";
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TimedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new TimedDataSource(targetDataSource, new StatementMetrics(meterRegistryProvider, 0, 10));
+    }
+
+    @Test
+    void executeQuery_ShouldTimeStatementAndPassThroughRows() throws Exception {
+        // Arrange
+        when(meterRegistryProvider.getObject()).thenReturn(meterRegistry);
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SELECT_BY_MEMBER)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+
+        // Act
+        int rows = 0;
+        try (Connection timedConnection = dataSource.getConnection();
+                PreparedStatement timedStatement = timedConnection.prepareStatement(SELECT_BY_MEMBER)) {
+            timedStatement.setString(1, "member-1");
+            try (ResultSet timedResultSet = timedStatement.executeQuery()) {
+                while (timedResultSet.next()) {
+                    rows++;
+                }
+            }
+        }
+
+        // Assert
+        assertEquals(2, rows);
+        verify(statement).setString(1, "member-1");
+        verify(resultSet).close();
+        verify(connection).close();
+        Timer timer = meterRegistry.get("feedback.jdbc.statement")
+                .tag("statement", StatementMetrics.statementId(SELECT_BY_MEMBER))
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void statementId_ShouldNameOperationAndTable() {
+        // Act
+        String id = StatementMetrics.statementId("insert into feedback (id, member_id)\n values (?, ?)");
+
+        // Assert
+        assertTrue(id.startsWith("insert feedback "), id);
+    }
+}
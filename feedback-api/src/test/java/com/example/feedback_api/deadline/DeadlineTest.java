@@ -0,0 +1,165 @@
+package com.example.feedback_api.deadline;
+
+import com.example.feedback_api.concurrency.Bulkhead;
+import com.example.feedback_api.datasource.DeadlineDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for request deadlines: DeadlineContext, DeadlineDataSource and
+ * the deadline handling in Bulkhead
+ */
+@ExtendWith(MockitoExtension.class)
+class DeadlineTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    private MeterRegistry meterRegistry;
+    private Bulkhead bulkhead;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkhead = new Bulkhead("read", 1, 5, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        bulkhead.shutdown();
+    }
+
+    @Test
+    void prepareStatement_UnderDeadline_ShouldSetQueryTimeoutToRemainingBudget() throws Exception {
+        // Arrange
+        when(pool.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement);
+        DeadlineDataSource dataSource = new DeadlineDataSource(pool, meterRegistry);
+
+        // Act
+        DeadlineContext.call(Deadline.after(2500), () -> dataSource.getConnection().prepareStatement("SELECT 1"));
+
+        // Assert - 2.5 s left rounds up to 3 whole seconds
+        verify(statement).setQueryTimeout(3);
+    }
+
+    @Test
+    void getConnection_DeadlinePassed_ShouldRefuseWithoutTouchingPool() throws Exception {
+        // Arrange
+        DeadlineDataSource dataSource = new DeadlineDataSource(pool, meterRegistry);
+
+        // Act & Assert
+        assertThrows(SQLTimeoutException.class,
+                () -> DeadlineContext.call(Deadline.after(0), dataSource::getConnection));
+        verifyNoInteractions(pool);
+        assertEquals(1.0, meterRegistry.get("feedback.deadline.exceeded").tag("stage", "connection").counter().count());
+    }
+
+    @Test
+    void getConnection_NoDeadline_ShouldReturnPoolConnectionUnchanged() throws Exception {
+        // Arrange
+        when(pool.getConnection()).thenReturn(connection);
+        DeadlineDataSource dataSource = new DeadlineDataSource(pool, meterRegistry);
+
+        // Act
+        Connection result = dataSource.getConnection();
+
+        // Assert
+        assertSame(connection, result);
+    }
+
+    @Test
+    void bound_ShouldShortenWaitsToRemainingBudget() throws Exception {
+        // Act
+        long bounded = DeadlineContext.call(Deadline.after(100), () -> DeadlineContext.bound(2000));
+        long unbounded = DeadlineContext.bound(2000);
+
+        // Assert
+        assertTrue(bounded <= 100, "was " + bounded);
+        assertEquals(2000, unbounded);
+    }
+
+    @Test
+    void submit_WorkOutlivesDeadline_ShouldFailFutureAtDeadline() {
+        // Arrange
+        Deadline deadline = Deadline.after(50);
+
+        // Act
+        CompletableFuture<String> result = bulkhead.submit(deadline, () -> {
+            release.await();
+            return "too late";
+        });
+
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DeadlineExceededException.class, exception.getCause());
+        assertEquals(1.0, meterRegistry.get("feedback.deadline.exceeded").tag("stage", "response").counter().count());
+    }
+
+    @Test
+    void submit_DeadlinePassesWhileQueued_ShouldSkipWork() throws Exception {
+        // Arrange
+        CountDownLatch running = new CountDownLatch(1);
+        CompletableFuture<Void> blocker = bulkhead.submit(() -> {
+            running.countDown();
+            release.await();
+            return null;
+        });
+        running.await(5, TimeUnit.SECONDS);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // Act
+        CompletableFuture<String> queued = bulkhead.submit(Deadline.after(20), () -> {
+            ran.set(true);
+            return "ran";
+        });
+        assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        release.countDown();
+        blocker.get(5, TimeUnit.SECONDS);
+        bulkhead.submit(() -> null).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertFalse(ran.get());
+        assertEquals(1.0, meterRegistry.get("feedback.deadline.exceeded").tag("stage", "queue").counter().count());
+    }
+
+    @Test
+    void submit_WithDeadline_ShouldExposeDeadlineToWork() throws Exception {
+        // Arrange
+        Deadline deadline = Deadline.after(5000);
+
+        // Act
+        Deadline seen = bulkhead.submit(deadline, () -> DeadlineContext.current().orElse(null))
+                .get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertSame(deadline, seen);
+    }
+}
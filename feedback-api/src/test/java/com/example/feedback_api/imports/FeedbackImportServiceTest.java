@@ -0,0 +1,203 @@
+package com.example.feedback_api.imports;
+
+import com.example.feedback_api.archive.FeedbackArchive;
+import com.example.feedback_api.dtos.FeedbackImportResponse;
+import com.example.feedback_api.repositories.FeedbackRepository;
+import com.example.feedback_api.services.FeedbackRequestValidator;
+import com.example.feedback_api.services.ProviderDictionary;
+import com.example.feedback_api.services.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import javax.sql.DataSource;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the streaming parse / validate / stage step of FeedbackImportService
+ * The COPY target is a StringBuilder, so no database is needed
+ */
+@ExtendWith(MockitoExtension.class)
+class FeedbackImportServiceTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private ProviderDictionary providerDictionary;
+
+    @Mock
+    private FeedbackArchive feedbackArchive;
+
+    @Mock
+    private FeedbackArchive.Snapshot archived;
+
+    @Mock
+    private FeedbackRepository feedbackRepository;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private FeedbackImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new FeedbackImportService(dataSource, new FeedbackRequestValidator(), providerDictionary,
+                feedbackArchive, feedbackRepository, kafkaTemplate, 1, 2, 1000, 1000, 365);
+    }
+
+    private long stage(String csv, StringBuilder out, FeedbackImportService.Rejections rejections) throws Exception {
+        return importService.stage(new CsvReader(new StringReader(csv)), out, rejections);
+    }
+
+    @Test
+    void stage_ValidRows_ShouldWriteEscapedCopyRows() throws Exception {
+        // Arrange
+        when(providerDictionary.findId(anyString())).thenReturn(Optional.empty());
+        when(providerDictionary.resolveId("Dr. Smith")).thenReturn(7);
+        String csv = "\uFEFFRating,memberId,providerName,comment,submittedAt,source\r\n"
+                + "5,member-1,Dr. Smith,\"Kind, thorough\ttab \\ slash\",2025-03-01T14:30:00Z,portal\r\n"
+                + "\r\n"
+                + "4, member-2 ,Dr. Smith,\"said \"\"hi\"\"\nthen left\",,\r\n"
+                + "3,member-3,Dr. Smith\r\n";
+        StringBuilder out = new StringBuilder();
+        FeedbackImportService.Rejections rejections = new FeedbackImportService.Rejections(10);
+
+        // Act
+        long rows = stage(csv, out, rejections);
+
+        // Assert
+        assertEquals(3, rows);
+        assertEquals(0, rejections.count());
+        String[] lines = out.toString().split("\n");
+        assertEquals(3, lines.length);
+        String[] first = lines[0].split("\t");
+        assertEquals("2", first[0]);
+        assertEquals("member-1", first[2]);
+        assertEquals("7", first[3]);
+        assertEquals("5", first[4]);
+        assertEquals("Kind, thorough\\ttab \\\\ slash", first[5]);
+        assertEquals("2025-03-01T14:30:00Z", first[6]);
+        String[] second = lines[1].split("\t");
+        assertEquals("4", second[0]);
+        assertEquals("member-2", second[2]);
+        assertEquals("said \"hi\"\\nthen left", second[5]);
+        assertEquals("\\N", lines[2].split("\t")[5]);
+    }
+
+    @Test
+    void stage_InvalidRows_ShouldRejectWithLineAndFieldErrors() throws Exception {
+        // Arrange
+        String csv = "memberId,providerName,rating,submittedAt\n"
+                + "member-1,Dr. Smith,five,\n"
+                + ",Dr. Smith,9,\n"
+                + "member-3,Dr. Smith,4,yesterday\n";
+        StringBuilder out = new StringBuilder();
+        FeedbackImportService.Rejections rejections = new FeedbackImportService.Rejections(10);
+
+        // Act
+        long rows = stage(csv, out, rejections);
+
+        // Assert
+        assertEquals(3, rows);
+        assertEquals(3, rejections.count());
+        assertTrue(out.isEmpty());
+        List<FeedbackImportResponse.RejectedRow> rejected = rejections.reported();
+        assertEquals(2, rejected.get(0).getLine());
+        assertEquals(1, rejected.get(0).getErrors().size());
+        assertEquals("rating", rejected.get(0).getErrors().get(0).getField());
+        assertEquals(3, rejected.get(1).getLine());
+        assertEquals(List.of("memberId", "rating"),
+                rejected.get(1).getErrors().stream().map(error -> error.getField()).toList());
+        assertEquals("submittedAt", rejected.get(2).getErrors().get(0).getField());
+        verifyNoInteractions(providerDictionary);
+    }
+
+    @Test
+    void stage_ArchivedDuplicate_ShouldRejectAsBusinessError() throws Exception {
+        // Arrange
+        when(providerDictionary.findId("Dr. Smith")).thenReturn(Optional.of(7));
+        when(feedbackArchive.snapshot()).thenReturn(archived);
+        when(archived.existsByMemberIdAndProviderId(anyString(), eq(7)))
+                .thenAnswer(invocation -> invocation.getArgument(0).equals("member-1"));
+        when(providerDictionary.resolveId("Dr. Smith")).thenReturn(7);
+        StringBuilder out = new StringBuilder();
+        FeedbackImportService.Rejections rejections = new FeedbackImportService.Rejections(10);
+
+        // Act
+        stage("memberId,providerName,rating\nmember-1,Dr. Smith,5\nmember-2,Dr. Smith,4\n", out, rejections);
+
+        // Assert - the archive directory is checked once per import, not once per row
+        assertEquals(1, out.toString().split("\n").length);
+        FeedbackImportResponse.RejectedRow rejected = rejections.reported().get(0);
+        assertEquals(2, rejected.getLine());
+        assertEquals("business", rejected.getErrors().get(0).getField());
+        assertEquals("You have already submitted feedback for Dr. Smith", rejected.getErrors().get(0).getMessage());
+        verify(feedbackArchive, times(1)).snapshot();
+        verify(feedbackArchive, never()).existsByMemberIdAndProviderId(anyString(), anyInt());
+    }
+
+    @Test
+    void stage_SubmittedBeforeArchiveCutoff_ShouldReject() throws Exception {
+        // Arrange
+        when(feedbackArchive.isEnabled()).thenReturn(true);
+        String csv = "memberId,providerName,rating,submittedAt\n"
+                + "member-1,Dr. Smith,5,2000-01-01T00:00:00Z\n";
+        StringBuilder out = new StringBuilder();
+        FeedbackImportService.Rejections rejections = new FeedbackImportService.Rejections(10);
+
+        // Act
+        stage(csv, out, rejections);
+
+        // Assert
+        assertTrue(out.isEmpty());
+        assertEquals("submittedAt", rejections.reported().get(0).getErrors().get(0).getField());
+        verifyNoInteractions(providerDictionary);
+    }
+
+    @Test
+    void stage_MissingRequiredColumn_ShouldRejectFile() {
+        // Act & Assert
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> stage("memberId,provider,rating\nmember-1,Dr. Smith,5\n", new StringBuilder(),
+                        new FeedbackImportService.Rejections(10)));
+        assertEquals("file", exception.getFieldErrors().get(0).getField());
+        assertTrue(exception.getMessage().contains("providername"));
+    }
+
+    @Test
+    void stage_UnterminatedQuote_ShouldRejectFileWithLine() {
+        // Act & Assert
+        CsvFormatException exception = assertThrows(CsvFormatException.class,
+                () -> stage("memberId,providerName,rating\nmember-1,\"Dr. Smith,5\nmember-2,Dr. Jones,4\n",
+                        new StringBuilder(), new FeedbackImportService.Rejections(10)));
+        assertEquals(2, exception.getLine());
+        assertTrue(exception.getMessage().contains("line 2"));
+    }
+
+    @Test
+    void rejections_OverLimit_ShouldCountAllAndListEarliestInFileOrder() {
+        // Arrange
+        FeedbackImportService.Rejections rejections = new FeedbackImportService.Rejections(2);
+
+        // Act - merge duplicates arrive after the streamed validation failures
+        rejections.add(40, new ValidationException("invalid"));
+        rejections.add(9, new ValidationException("duplicate"));
+        rejections.add(3, new ValidationException("duplicate"));
+
+        // Assert
+        assertEquals(3, rejections.count());
+        assertEquals(List.of(3L, 9L), rejections.reported().stream().map(FeedbackImportResponse.RejectedRow::getLine).toList());
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.feedback_api.messaging;
+
+import com.example.feedback_api.model.FeedbackEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for FeedbackEventPublisher
+ * Tests hand-off queue overflow policies and delivery tracking with a mocked KafkaTemplate
+ */
+@ExtendWith(MockitoExtension.class)
+class FeedbackEventPublisherTest {
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private FeedbackEventPublisher publisher(int capacity, QueueFullPolicy policy) {
+        return new FeedbackEventPublisher(kafkaTemplate, new ObjectMapper(), meterRegistry,
+                capacity, policy, "target/test-spill.jsonl", 3, 5, 30000);
+    }
+
+    private FeedbackEntity feedback() {
+        return new FeedbackEntity(UUID.randomUUID(), "member-123", "Dr. Smith", 4, "Great", Instant.now());
+    }
+
+    private double events(String outcome) {
+        return meterRegistry.counter("feedback.kafka.events", "outcome", outcome).count();
+    }
+
+    @Test
+    void publish_QueueFullWithRejectPolicy_ShouldThrow() {
+        // Arrange - sender not started, so the single slot stays occupied
+        FeedbackEventPublisher publisher = publisher(1, QueueFullPolicy.REJECT);
+        publisher.publishFeedbackSubmitted(feedback());
+
+        // Act & Assert
+        assertThrows(EventPublishRejectedException.class, () -> publisher.publishFeedbackSubmitted(feedback()));
+        assertEquals(1, events("rejected"));
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void publish_QueueFullWithDropPolicy_ShouldNotThrow() {
+        // Arrange
+        FeedbackEventPublisher publisher = publisher(1, QueueFullPolicy.DROP);
+        publisher.publishFeedbackSubmitted(feedback());
+
+        // Act
+        publisher.publishFeedbackSubmitted(feedback());
+
+        // Assert
+        assertEquals(1, publisher.getQueueSize());
+        assertEquals(1, events("dropped"));
+    }
+
+    @Test
+    void publish_SenderRunning_ShouldRecordAck() throws Exception {
+        // Arrange
+        when(kafkaTemplate.send(eq(FeedbackEventPublisher.FEEDBACK_TOPIC), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        FeedbackEventPublisher publisher = publisher(10, QueueFullPolicy.DROP);
+        publisher.start();
+
+        // Act
+        publisher.publishFeedbackSubmitted(feedback());
+        publisher.stop();
+
+        // Assert
+        assertEquals(1, events("acked"));
+        assertEquals(0, publisher.getQueueSize());
+    }
+
+    @Test
+    void publish_SendFails_ShouldRetryThenCountFailure() throws Exception {
+        // Arrange
+        when(kafkaTemplate.send(eq(FeedbackEventPublisher.FEEDBACK_TOPIC), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        FeedbackEventPublisher publisher = publisher(10, QueueFullPolicy.DROP);
+        publisher.start();
+
+        // Act
+        publisher.publishFeedbackSubmitted(feedback());
+        publisher.stop();
+
+        // Assert - 3 attempts: 2 retries, then a final failure
+        assertEquals(2, events("retried"));
+        assertEquals(1, events("failed"));
+        verify(kafkaTemplate, times(3)).send(eq(FeedbackEventPublisher.FEEDBACK_TOPIC), anyString(), any());
+    }
+}
@@ -0,0 +1,342 @@
+package com.example.feedback_api.repositories;
+
+import com.example.feedback_api.benchmarks.FeedbackDatasetGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query-plan regression tests for the repository queries
+ * Seeds a production-shaped dataset into a disposable Postgres of the same
+ * major version as docker-compose, migrated by the real Flyway scripts, then
+ * runs EXPLAIN (ANALYZE, BUFFERS) for each query and checks the index used,
+ * the buffers touched and the execution time. A migration that drops or
+ * changes an index, or a query change that stops matching one, fails here
+ * instead of turning into a sequential scan in production.
+ * The SQL mirrors what Hibernate generates for each repository method. It is
+ * prepared and explained both as a custom plan and, for request-path queries,
+ * as the generic plan the driver's server-side prepared statements can switch to.
+ * findAllByOrderBySubmittedAtDesc is not covered: it returns the whole table.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class FeedbackQueryPlanTest {
+
+    private static final long ROWS = 200_000;
+    private static final Instant END = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant ONE_DAY_BEFORE_END = END.minus(1, ChronoUnit.DAYS);
+    private static final Instant THIRTY_DAYS_BEFORE_END = END.minus(30, ChronoUnit.DAYS);
+    private static final Instant START = END.minus(365, ChronoUnit.DAYS);
+
+    // Fastest of several runs, so the limits measure the plan rather than a cold cache or a busy machine
+    private static final int RUNS = 3;
+
+    private static final String FEEDBACK_COLUMNS = "f1_0.id,f1_0.comment,f1_0.member_id,f1_0.provider_id,"
+            + "f1_0.rating,f1_0.submitted_at";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15");
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static Connection connection;
+    private static String busiestMemberId;
+    private static int busiestMemberProviderId;
+    private static int busiestProviderId;
+    private static UUID sampleId;
+    private static List<UUID> batchIds;
+    private static String sampleNormalizedName;
+
+    @BeforeAll
+    static void seed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                POSTGRES.getPassword());
+        FeedbackDatasetGenerator.load(connection, FeedbackDatasetGenerator.Options.parse(
+                "--rows=" + ROWS, "--providers=2000", "--days=365", "--end=" + END, "--seed=42"));
+
+        // Worst cases of the hot paths: the member and the provider with the most feedback
+        busiestMemberId = queryForObject("SELECT member_id FROM feedback GROUP BY member_id "
+                + "ORDER BY count(*) DESC, member_id LIMIT 1", String.class);
+        busiestMemberProviderId = queryForObject("SELECT provider_id FROM feedback WHERE member_id = '"
+                + busiestMemberId + "' ORDER BY submitted_at LIMIT 1", Integer.class);
+        busiestProviderId = queryForObject("SELECT provider_id FROM feedback GROUP BY provider_id "
+                + "ORDER BY count(*) DESC, provider_id LIMIT 1", Integer.class);
+        sampleId = queryForObject("SELECT id FROM feedback ORDER BY id OFFSET " + ROWS / 2 + " LIMIT 1", UUID.class);
+        batchIds = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(
+                        "SELECT id FROM feedback ORDER BY hashtext(id::text) LIMIT 200")) {
+            while (resultSet.next()) {
+                batchIds.add(resultSet.getObject(1, UUID.class));
+            }
+        }
+        sampleNormalizedName = queryForObject("SELECT normalized_name FROM providers ORDER BY id LIMIT 1",
+                String.class);
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void findById_ShouldUsePrimaryKey() throws Exception {
+        assertPlan("select " + FEEDBACK_COLUMNS + " from feedback f1_0 where f1_0.id=$1",
+                List.of("uuid"), List.of(sampleId),
+                new Expected("feedback_pkey", false, false, 10, 5), true);
+    }
+
+    @Test
+    void findByIdIn_PaddedBatch_ShouldUsePrimaryKey() throws Exception {
+        // 200 IDs padded to 256 parameters by hibernate.query.in_clause_parameter_padding
+        List<Object> ids = new ArrayList<>(batchIds);
+        while (ids.size() < 256) {
+            ids.add(batchIds.get(batchIds.size() - 1));
+        }
+        List<String> placeholders = new ArrayList<>();
+        for (int i = 1; i <= ids.size(); i++) {
+            placeholders.add("$" + i);
+        }
+        assertPlan("select " + FEEDBACK_COLUMNS + " from feedback f1_0 where f1_0.id in ("
+                + String.join(",", placeholders) + ")",
+                Collections.nCopies(ids.size(), "uuid"), ids,
+                new Expected("feedback_pkey", false, false, 1000, 25), true);
+    }
+
+    @Test
+    void findByMemberIdOrderBySubmittedAtDesc_ShouldScanMemberIndexBackwardWithoutSort() throws Exception {
+        assertPlan("select " + FEEDBACK_COLUMNS + " from feedback f1_0 where f1_0.member_id=$1 "
+                + "order by f1_0.submitted_at desc",
+                List.of("varchar"), List.of(busiestMemberId),
+                new Expected("idx_feedback_member_submitted_at", false, true, 300, 10), true);
+    }
+
+    @Test
+    void existsByMemberIdAndProviderId_ShouldUseMemberProviderIndex() throws Exception {
+        assertPlan("select f1_0.id from feedback f1_0 where f1_0.member_id=$1 and f1_0.provider_id=$2 "
+                + "fetch first $3 rows only",
+                List.of("varchar", "int", "int"), List.of(busiestMemberId, busiestMemberProviderId, 1),
+                new Expected("uq_feedback_member_provider", false, false, 10, 5), true);
+    }
+
+    @Test
+    void countSubmittedBetween_ShouldBeIndexOnly() throws Exception {
+        assertPlan("select count(*) from feedback f1_0 where f1_0.submitted_at>=$1 and f1_0.submitted_at<$2",
+                List.of("timestamptz", "timestamptz"), List.of(ONE_DAY_BEFORE_END, END),
+                new Expected("idx_feedback_submitted_at", true, false, 20, 10), true);
+    }
+
+    @Test
+    void countByMemberIdSubmittedBetween_ShouldBeIndexOnly() throws Exception {
+        assertPlan("select count(*) from feedback f1_0 where f1_0.member_id=$1 and f1_0.submitted_at>=$2 "
+                + "and f1_0.submitted_at<$3",
+                List.of("varchar", "timestamptz", "timestamptz"), List.of(busiestMemberId, START, END),
+                new Expected("idx_feedback_member_submitted_at", true, false, 10, 5), true);
+    }
+
+    @Test
+    void countByRatingSubmittedBetween_ShouldBeIndexOnly() throws Exception {
+        assertPlan("select f1_0.rating,count(*) from feedback f1_0 where f1_0.submitted_at>=$1 "
+                + "and f1_0.submitted_at<$2 group by f1_0.rating",
+                List.of("timestamptz", "timestamptz"), List.of(ONE_DAY_BEFORE_END, END),
+                new Expected("idx_feedback_submitted_at", true, false, 20, 10), true);
+    }
+
+    @Test
+    void countByRatingForProviderSubmittedBetween_ShouldBeIndexOnly() throws Exception {
+        assertPlan("select f1_0.rating,count(*) from feedback f1_0 where f1_0.provider_id=$1 "
+                + "and f1_0.submitted_at>=$2 and f1_0.submitted_at<$3 group by f1_0.rating",
+                List.of("int", "timestamptz", "timestamptz"),
+                List.of(busiestProviderId, THIRTY_DAYS_BEFORE_END, END),
+                new Expected("idx_feedback_provider_submitted_at", true, false, 40, 10), true);
+    }
+
+    @Test
+    void summarizeByProviderSubmittedBetween_ShouldBeIndexOnly() throws Exception {
+        assertPlan("select f1_0.provider_id,count(*),avg(f1_0.rating) from feedback f1_0 "
+                + "where f1_0.submitted_at>=$1 and f1_0.submitted_at<$2 group by f1_0.provider_id "
+                + "order by count(*) desc,f1_0.provider_id fetch first $3 rows only",
+                List.of("timestamptz", "timestamptz", "int"), List.of(ONE_DAY_BEFORE_END, END, 20),
+                new Expected("idx_feedback_submitted_at", true, false, 20, 10), true);
+    }
+
+    @Test
+    void findByIdGreaterThanAndIdLessThanOrderByIdAsc_ShouldWalkPrimaryKeyWithoutSort() throws Exception {
+        assertPlan("select " + FEEDBACK_COLUMNS + " from feedback f1_0 where f1_0.id>$1 and f1_0.id<$2 "
+                + "order by f1_0.id fetch first $3 rows only",
+                List.of("uuid", "uuid", "int"),
+                List.of(new UUID(0, 0), new UUID(Long.MAX_VALUE, 0), 500),
+                new Expected("feedback_pkey", false, true, 600, 25), false);
+    }
+
+    @Test
+    void findBySubmittedAtBeforeOrderBySubmittedAtAscIdAsc_ShouldReadOldestFromSubmittedAtIndex() throws Exception {
+        // The index orders by submitted_at only; an incremental sort on id within equal timestamps is expected
+        assertPlan("select " + FEEDBACK_COLUMNS + " from feedback f1_0 where f1_0.submitted_at<$1 "
+                + "order by f1_0.submitted_at,f1_0.id fetch first $2 rows only",
+                List.of("timestamptz", "int"), List.of(THIRTY_DAYS_BEFORE_END, 500),
+                new Expected("idx_feedback_submitted_at", false, false, 100, 25), false);
+    }
+
+    @Test
+    void findByNormalizedName_ShouldUseUniqueIndex() throws Exception {
+        assertPlan("select p1_0.id,p1_0.name,p1_0.normalized_name from providers p1_0 "
+                + "where p1_0.normalized_name=$1",
+                List.of("varchar"), List.of(sampleNormalizedName),
+                new Expected("providers_normalized_name_key", false, false, 10, 5), true);
+    }
+
+    /**
+     * Explain a query as a custom plan and optionally as a generic plan, and check each
+     *
+     * @param sql             query with $n placeholders
+     * @param parameterTypes  Postgres type of each placeholder
+     * @param arguments       value of each placeholder
+     * @param expected        plan expectations
+     * @param checkGenericPlan also check the generic plan (request-path queries run as prepared statements)
+     */
+    private static void assertPlan(String sql, List<String> parameterTypes, List<Object> arguments,
+            Expected expected, boolean checkGenericPlan) throws Exception {
+        assertPlan(sql, parameterTypes, arguments, expected, "force_custom_plan");
+        if (checkGenericPlan) {
+            assertPlan(sql, parameterTypes, arguments, expected, "force_generic_plan");
+        }
+    }
+
+    private static void assertPlan(String sql, List<String> parameterTypes, List<Object> arguments,
+            Expected expected, String planCacheMode) throws Exception {
+        Plan plan = explain(sql, parameterTypes, arguments, planCacheMode);
+        String context = planCacheMode + " of " + sql + "\n" + plan.json().toPrettyString();
+
+        assertTrue(plan.nodes().stream().noneMatch(node -> "Seq Scan".equals(node.path("Node Type").asText())),
+                "Sequential scan in " + context);
+        List<JsonNode> scans = plan.nodes().stream()
+                .filter(node -> expected.index().equals(node.path("Index Name").asText()))
+                .toList();
+        assertFalse(scans.isEmpty(), "Index " + expected.index() + " not used in " + context);
+        if (expected.indexOnly()) {
+            for (JsonNode scan : scans) {
+                assertEquals("Index Only Scan", scan.path("Node Type").asText(), "Not index-only in " + context);
+                assertEquals(0, scan.path("Heap Fetches").asLong(), "Heap fetches in " + context);
+            }
+        }
+        if (expected.noSort()) {
+            assertTrue(plan.nodes().stream().noneMatch(node -> node.path("Node Type").asText().endsWith("Sort")),
+                    "Sort in " + context);
+        }
+        assertTrue(plan.buffers() <= expected.maxBuffers(),
+                plan.buffers() + " buffers (max " + expected.maxBuffers() + ") in " + context);
+        assertTrue(plan.executionMs() <= expected.maxMillis(),
+                plan.executionMs() + " ms (max " + expected.maxMillis() + ") in " + context);
+    }
+
+    /**
+     * Run EXPLAIN (ANALYZE, BUFFERS) on a prepared statement
+     *
+     * @return the fastest of RUNS executions
+     */
+    private static Plan explain(String sql, List<String> parameterTypes, List<Object> arguments,
+            String planCacheMode) throws Exception {
+        List<String> literals = new ArrayList<>();
+        for (Object argument : arguments) {
+            literals.add(argument instanceof Number ? argument.toString()
+                    : "'" + argument.toString().replace("'", "''") + "'");
+        }
+
+        Plan fastest = null;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET plan_cache_mode = " + planCacheMode);
+            statement.execute("PREPARE plan_check(" + String.join(", ", parameterTypes) + ") AS " + sql);
+            try {
+                for (int run = 0; run < RUNS; run++) {
+                    try (ResultSet resultSet = statement.executeQuery("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) "
+                            + "EXECUTE plan_check(" + String.join(", ", literals) + ")")) {
+                        resultSet.next();
+                        Plan plan = Plan.of(objectMapper.readTree(resultSet.getString(1)).get(0));
+                        if (fastest == null || plan.executionMs() < fastest.executionMs()) {
+                            fastest = plan;
+                        }
+                    }
+                }
+            } finally {
+                statement.execute("DEALLOCATE plan_check");
+                statement.execute("RESET plan_cache_mode");
+            }
+        }
+        return fastest;
+    }
+
+    private static <T> T queryForObject(String sql, Class<T> type) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            assertTrue(resultSet.next(), "No row for " + sql);
+            return resultSet.getObject(1, type);
+        }
+    }
+
+    /**
+     * What a query's plan must look like
+     *
+     * @param index      index the plan must scan
+     * @param indexOnly  every scan of that index must be index-only with no heap fetches
+     * @param noSort     the index must provide the order, with no sort node
+     * @param maxBuffers shared buffers (hit + read) the whole plan may touch
+     * @param maxMillis  execution time limit
+     */
+    private record Expected(String index, boolean indexOnly, boolean noSort, long maxBuffers, double maxMillis) {
+    }
+
+    /**
+     * One EXPLAIN result
+     *
+     * @param json        the full JSON output
+     * @param nodes       every plan node, root first
+     * @param buffers     shared buffers hit or read by the whole plan
+     * @param executionMs execution time
+     */
+    private record Plan(JsonNode json, List<JsonNode> nodes, long buffers, double executionMs) {
+
+        static Plan of(JsonNode json) {
+            JsonNode root = json.path("Plan");
+            List<JsonNode> nodes = new ArrayList<>();
+            collect(root, nodes);
+            return new Plan(json, nodes,
+                    root.path("Shared Hit Blocks").asLong() + root.path("Shared Read Blocks").asLong(),
+                    json.path("Execution Time").asDouble());
+        }
+
+        private static void collect(JsonNode node, List<JsonNode> nodes) {
+            nodes.add(node);
+            for (JsonNode child : node.path("Plans")) {
+                collect(child, nodes);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.feedback_api.services;
+
+import com.example.feedback_api.dtos.ErrorResponse;
+import com.example.feedback_api.dtos.FeedbackRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FeedbackRequestValidator
+ * Tests normalization and that all violations are reported together
+ */
+class FeedbackRequestValidatorTest {
+
+    private final FeedbackRequestValidator validator = new FeedbackRequestValidator();
+
+    @Test
+    void validate_ValidRequest_ShouldReturnTrimmedValues() {
+        // Arrange
+        FeedbackRequest request = new FeedbackRequest(" m-123 ", " Dr. Smith", 5, " Great! ");
+
+        // Act
+        ValidatedFeedback feedback = validator.validate(request);
+
+        // Assert
+        assertEquals(new ValidatedFeedback("m-123", "Dr. Smith", 5, "Great!"), feedback);
+    }
+
+    @Test
+    void validate_MultipleViolations_ShouldReportEveryField() {
+        // Arrange
+        FeedbackRequest request = new FeedbackRequest("   ", "x".repeat(81), 0, "x".repeat(201));
+
+        // Act
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> validator.validate(request));
+
+        // Assert
+        List<String> fields = exception.getFieldErrors().stream().map(ErrorResponse.FieldError::getField).toList();
+        assertEquals(List.of("memberId", "providerName", "rating", "comment"), fields);
+        assertEquals("Member ID is required", exception.getMessage());
+    }
+
+    @Test
+    void validate_LengthsAreCheckedAfterTrimming() {
+        // Arrange - 36 characters of member ID padded with whitespace
+        FeedbackRequest request = new FeedbackRequest("  " + "m".repeat(36) + "  ", "Dr. Smith", 3, null);
+
+        // Act
+        ValidatedFeedback feedback = validator.validate(request);
+
+        // Assert
+        assertEquals(36, feedback.memberId().length());
+        assertNull(feedback.comment());
+    }
+}
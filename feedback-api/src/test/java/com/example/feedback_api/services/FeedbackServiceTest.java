@@ -1,25 +1,41 @@
 package com.example.feedback_api.services;
 
+import com.example.feedback_api.archive.FeedbackArchive;
+import com.example.feedback_api.datasource.ReadYourWritesTracker;
+import com.example.feedback_api.dtos.FeedbackBatchResponse;
 import com.example.feedback_api.dtos.FeedbackRequest;
 import com.example.feedback_api.dtos.FeedbackResponse;
+import com.example.feedback_api.dtos.MemberFeedbackBatchResponse;
 import com.example.feedback_api.messaging.FeedbackEventPublisher;
 import com.example.feedback_api.model.FeedbackEntity;
 import com.example.feedback_api.repositories.FeedbackRepository;
+import com.example.feedback_api.streaming.FeedbackSubmittedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.sql.SQLException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -36,6 +52,27 @@ class FeedbackServiceTest {
     @Mock
     private FeedbackEventPublisher eventPublisher;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private ProviderDictionary providerDictionary;
+
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Mock
+    private FeedbackArchive feedbackArchive;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private FeedbackRequestValidator requestValidator = new FeedbackRequestValidator();
+
+    @Spy
+    private QueryCoalescer queryCoalescer = new QueryCoalescer(new SimpleMeterRegistry(), 1000);
+
     @InjectMocks
     private FeedbackService feedbackService;
 
@@ -54,6 +91,7 @@ class FeedbackServiceTest {
         mockEntity = new FeedbackEntity();
         mockEntity.setId(UUID.randomUUID());
         mockEntity.setMemberId("member-123");
+        mockEntity.setProviderId(7);
         mockEntity.setProviderName("Dr. Smith");
         mockEntity.setRating(4);
         mockEntity.setComment("Great service!");
@@ -63,8 +101,11 @@ class FeedbackServiceTest {
     @Test
     void validateAndSave_ValidRequest_ShouldReturnFeedbackResponse() {
         // Arrange
-        when(feedbackRepository.existsByMemberIdAndProviderName(anyString(), anyString())).thenReturn(false);
-        when(feedbackRepository.save(any(FeedbackEntity.class))).thenReturn(mockEntity);
+        when(providerDictionary.findId("Dr. Smith")).thenReturn(Optional.of(7));
+        when(providerDictionary.resolveId("Dr. Smith")).thenReturn(7);
+        when(providerDictionary.getName(7)).thenReturn("Dr. Smith");
+        when(feedbackRepository.existsByMemberIdAndProviderId(anyString(), anyInt())).thenReturn(false);
+        when(feedbackRepository.saveAndFlush(any(FeedbackEntity.class))).thenReturn(mockEntity);
 
         // Act
         FeedbackResponse response = feedbackService.validateAndSave(validRequest);
@@ -78,15 +119,18 @@ class FeedbackServiceTest {
         assertEquals("Great service!", response.getComment());
 
         // Verify interactions
-        verify(feedbackRepository).existsByMemberIdAndProviderName("member-123", "Dr. Smith");
-        verify(feedbackRepository).save(any(FeedbackEntity.class));
+        verify(feedbackRepository).existsByMemberIdAndProviderId("member-123", 7);
+        verify(feedbackRepository).saveAndFlush(any(FeedbackEntity.class));
         verify(eventPublisher).publishFeedbackSubmitted(mockEntity);
+        verify(applicationEventPublisher).publishEvent(any(FeedbackSubmittedEvent.class));
+        verify(readYourWritesTracker).recordWrite("member-123", mockEntity.getId());
     }
 
     @Test
     void validateAndSave_DuplicateFeedback_ShouldThrowValidationException() {
         // Arrange - Mock repository to return true (duplicate exists)
-        when(feedbackRepository.existsByMemberIdAndProviderName(anyString(), anyString())).thenReturn(true);
+        when(providerDictionary.findId("Dr. Smith")).thenReturn(Optional.of(7));
+        when(feedbackRepository.existsByMemberIdAndProviderId(anyString(), anyInt())).thenReturn(true);
 
         // Act & Assert
         ValidationException exception = assertThrows(ValidationException.class, () -> {
@@ -96,10 +140,49 @@ class FeedbackServiceTest {
         assertEquals("You have already submitted feedback for Dr. Smith", exception.getMessage());
 
         // Verify repository was called to check for duplicates
-        verify(feedbackRepository).existsByMemberIdAndProviderName("member-123", "Dr. Smith");
+        verify(feedbackRepository).existsByMemberIdAndProviderId("member-123", 7);
 
         // Verify save and publish were NOT called
-        verify(feedbackRepository, never()).save(any());
+        verify(feedbackRepository, never()).saveAndFlush(any());
+        verify(eventPublisher, never()).publishFeedbackSubmitted(any());
+        verify(applicationEventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void validateAndSave_UnknownProvider_ShouldSkipDuplicateQueryAndCreateProvider() {
+        // Arrange - provider has never been seen, so no duplicate is possible
+        validRequest.setProviderName("  dr.   smith ");
+        when(providerDictionary.findId("dr.   smith")).thenReturn(Optional.empty());
+        when(providerDictionary.resolveId("dr.   smith")).thenReturn(7);
+        when(providerDictionary.getName(7)).thenReturn("Dr. Smith");
+        when(feedbackRepository.saveAndFlush(any(FeedbackEntity.class))).thenAnswer(invocation -> {
+            FeedbackEntity saved = invocation.getArgument(0);
+            saved.setId(UUID.randomUUID());
+            return saved;
+        });
+
+        // Act
+        FeedbackResponse response = feedbackService.validateAndSave(validRequest);
+
+        // Assert - response carries the dictionary's canonical name
+        assertEquals("Dr. Smith", response.getProviderName());
+        verify(feedbackRepository, never()).existsByMemberIdAndProviderId(anyString(), anyInt());
+    }
+
+    @Test
+    void validateAndSave_UniqueIndexViolation_ShouldThrowDuplicateValidationException() {
+        // Arrange - a concurrent submission inserted the same member + provider first
+        when(providerDictionary.findId("Dr. Smith")).thenReturn(Optional.empty());
+        when(providerDictionary.resolveId("Dr. Smith")).thenReturn(7);
+        when(providerDictionary.getName(7)).thenReturn("Dr. Smith");
+        when(feedbackRepository.saveAndFlush(any(FeedbackEntity.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new ConstraintViolationException("duplicate key",
+                        new SQLException("duplicate key", "23505"), "uq_feedback_member_provider")));
+
+        // Act & Assert
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> feedbackService.validateAndSave(validRequest));
+        assertEquals("You have already submitted feedback for Dr. Smith", exception.getMessage());
         verify(eventPublisher, never()).publishFeedbackSubmitted(any());
     }
 
@@ -202,6 +285,22 @@ class FeedbackServiceTest {
         verify(feedbackRepository).findById(feedbackId);
     }
 
+    @Test
+    void getFeedbackById_ArchivedId_ShouldFallBackToArchive() {
+        // Arrange
+        UUID feedbackId = UUID.randomUUID();
+        mockEntity.setId(feedbackId);
+        when(feedbackRepository.findById(feedbackId)).thenReturn(Optional.empty());
+        when(feedbackArchive.findById(feedbackId)).thenReturn(Optional.of(mockEntity));
+
+        // Act
+        FeedbackResponse response = feedbackService.getFeedbackById(feedbackId.toString());
+
+        // Assert
+        assertEquals(feedbackId, response.getId());
+        assertEquals("Dr. Smith", response.getProviderName());
+    }
+
     @Test
     void getFeedbackById_NonExistentId_ShouldThrowFeedbackNotFoundException() {
         // Arrange
@@ -232,4 +331,63 @@ class FeedbackServiceTest {
         // Verify repository was never called due to invalid UUID format
         verify(feedbackRepository, never()).findById(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getFeedbackByIds_ShouldQueryOnceAndLookUpOnlyMissesInArchive() {
+        // Arrange
+        UUID archivedId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        FeedbackEntity archived = new FeedbackEntity(archivedId, "member-9", "Dr. Jones", 5, null, Instant.now());
+        when(feedbackRepository.findByIdIn(anyCollection())).thenReturn(List.of(mockEntity));
+        when(feedbackArchive.findById(archivedId)).thenReturn(Optional.of(archived));
+
+        // Act - the first ID is repeated
+        FeedbackBatchResponse response = feedbackService.getFeedbackByIds(List.of(mockEntity.getId().toString(),
+                archivedId.toString(), missingId.toString(), " " + mockEntity.getId() + " "));
+
+        // Assert
+        assertEquals(List.of(mockEntity.getId().toString(), archivedId.toString()),
+                new ArrayList<>(response.getFeedback().keySet()));
+        assertEquals("Dr. Jones", response.getFeedback().get(archivedId.toString()).getProviderName());
+        assertEquals(List.of(missingId.toString()), response.getNotFound());
+        verify(feedbackRepository).findByIdIn(Set.of(mockEntity.getId(), archivedId, missingId));
+        verify(feedbackArchive, never()).findById(mockEntity.getId());
+    }
+
+    @Test
+    void getFeedbackByIds_TooManyIds_ShouldThrowValidationException() {
+        // Arrange
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i <= FeedbackService.MAX_BATCH_KEYS; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+
+        // Act & Assert
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> feedbackService.getFeedbackByIds(ids));
+        assertEquals("ids", exception.getFieldErrors().get(0).getField());
+        verifyNoInteractions(feedbackRepository);
+    }
+
+    @Test
+    void getFeedbackByMemberIds_ShouldGroupRowsPerMemberInRequestOrder() {
+        // Arrange
+        FeedbackEntity older = new FeedbackEntity(UUID.randomUUID(), "member-2", "Dr. Jones", 3, null,
+                Instant.now().minusSeconds(60));
+        when(feedbackRepository.findByMemberIdInOrderBySubmittedAtDesc(anyCollection()))
+                .thenReturn(List.of(mockEntity, older));
+
+        // Act
+        MemberFeedbackBatchResponse response = feedbackService.getFeedbackByMemberIds(
+                List.of(" member-2 ", "member-123", "member-9"));
+
+        // Assert
+        Map<String, List<FeedbackResponse>> byMember = response.getFeedbackByMember();
+        assertEquals(List.of("member-2", "member-123", "member-9"), new ArrayList<>(byMember.keySet()));
+        assertEquals(older.getId(), byMember.get("member-2").get(0).getId());
+        assertEquals(mockEntity.getId(), byMember.get("member-123").get(0).getId());
+        assertTrue(byMember.get("member-9").isEmpty());
+        verify(feedbackRepository, times(1)).findByMemberIdInOrderBySubmittedAtDesc(anyCollection());
+        verify(feedbackRepository, never()).findByMemberIdOrderBySubmittedAtDesc(anyString());
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.feedback_api.services;
+
+import com.example.feedback_api.dtos.FeedbackCountResponse;
+import com.example.feedback_api.dtos.RatingHistogramResponse;
+import com.example.feedback_api.repositories.FeedbackRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for FeedbackStatsService
+ * Repository aggregates are mocked; checks histogram assembly, window handling and caching
+ */
+@ExtendWith(MockitoExtension.class)
+class FeedbackStatsServiceTest {
+
+    @Mock
+    private FeedbackRepository feedbackRepository;
+
+    @Mock
+    private ProviderDictionary providerDictionary;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FeedbackStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        statsService = new FeedbackStatsService(feedbackRepository, providerDictionary, transactionManager, 60,
+                1000);
+    }
+
+    @Test
+    void ratingHistogram_Provider_ShouldFillMissingRatingsAndComputeExactAverage() {
+        // Arrange
+        when(providerDictionary.findId("dr. smith")).thenReturn(Optional.of(7));
+        when(providerDictionary.getName(7)).thenReturn("Dr. Smith");
+        when(feedbackRepository.countByRatingForProviderSubmittedBetween(7, FeedbackStatsService.OPEN_START,
+                FeedbackStatsService.OPEN_END))
+                .thenReturn(List.of(ratingCount(5, 3), ratingCount(2, 1)));
+
+        // Act
+        RatingHistogramResponse response = statsService.ratingHistogram("dr. smith", null, null);
+
+        // Assert
+        assertEquals("Dr. Smith", response.getProviderName());
+        assertEquals(4, response.getTotalCount());
+        assertEquals(4.25, response.getAverageRating());
+        assertEquals(Map.of(1, 0L, 2, 1L, 3, 0L, 4, 0L, 5, 3L), response.getRatings());
+    }
+
+    @Test
+    void ratingHistogram_UnknownProvider_ShouldBeEmptyWithoutQuerying() {
+        // Arrange
+        when(providerDictionary.findId(" Nobody ")).thenReturn(Optional.empty());
+
+        // Act
+        RatingHistogramResponse response = statsService.ratingHistogram(" Nobody ", null, null);
+
+        // Assert
+        assertEquals("Nobody", response.getProviderName());
+        assertEquals(0, response.getTotalCount());
+        assertNull(response.getAverageRating());
+        verify(feedbackRepository, never()).countByRatingForProviderSubmittedBetween(any(), any(), any());
+    }
+
+    @Test
+    void countFeedback_RepeatedWithinTtl_ShouldQueryOnce() {
+        // Arrange
+        Instant from = Instant.parse("2025-11-01T00:00:00Z");
+        when(feedbackRepository.countByMemberIdSubmittedBetween("member-123", from, FeedbackStatsService.OPEN_END))
+                .thenReturn(3L);
+
+        // Act
+        FeedbackCountResponse first = statsService.countFeedback(" member-123 ", from, null);
+        FeedbackCountResponse second = statsService.countFeedback("member-123", from, null);
+
+        // Assert
+        assertEquals(3, first.getCount());
+        assertEquals("member-123", first.getMemberId());
+        assertNull(first.getTo());
+        assertSame(first, second);
+        verify(feedbackRepository, times(1)).countByMemberIdSubmittedBetween(any(), any(), any());
+    }
+
+    @Test
+    void countFeedback_FromNotBeforeTo_ShouldThrowValidationException() {
+        // Arrange
+        Instant instant = Instant.parse("2025-11-01T00:00:00Z");
+
+        // Act & Assert
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> statsService.countFeedback(null, instant, instant));
+
+        assertEquals("from", exception.getFieldErrors().get(0).getField());
+        verifyNoInteractions(feedbackRepository);
+    }
+
+    private static FeedbackRepository.RatingCount ratingCount(int rating, long count) {
+        return new FeedbackRepository.RatingCount() {
+            @Override
+            public Integer getRating() {
+                return rating;
+            }
+
+            @Override
+            public long getFeedbackCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.feedback_api.services;
+
+import com.example.feedback_api.model.ProviderEntity;
+import com.example.feedback_api.repositories.ProviderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ProviderDictionary
+ * Tests name normalization, caching and create-on-miss with a mocked repository
+ */
+@ExtendWith(MockitoExtension.class)
+class ProviderDictionaryTest {
+
+    @Mock
+    private ProviderRepository providerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProviderDictionary providerDictionary;
+
+    @BeforeEach
+    void setUp() {
+        providerDictionary = new ProviderDictionary(providerRepository, transactionManager);
+    }
+
+    @Test
+    void normalize_CaseAndWhitespaceVariants_ShouldBeEqual() {
+        assertEquals("dr. smith", ProviderDictionary.normalize("Dr. Smith"));
+        assertEquals("dr. smith", ProviderDictionary.normalize("  dr.   SMITH \t"));
+    }
+
+    @Test
+    void findId_SecondLookup_ShouldBeServedFromMemory() {
+        // Arrange
+        when(providerRepository.findByNormalizedName("dr. smith"))
+                .thenReturn(Optional.of(new ProviderEntity(7, "Dr. Smith", "dr. smith")));
+
+        // Act
+        Optional<Integer> first = providerDictionary.findId("Dr. Smith");
+        Optional<Integer> second = providerDictionary.findId("dr. smith ");
+
+        // Assert
+        assertEquals(Optional.of(7), first);
+        assertEquals(Optional.of(7), second);
+        verify(providerRepository, times(1)).findByNormalizedName("dr. smith");
+        assertEquals("Dr. Smith", providerDictionary.getName(7));
+    }
+
+    @Test
+    void resolveId_NewProvider_ShouldInsertAndCache() {
+        // Arrange
+        when(providerRepository.findByNormalizedName("dr. new"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new ProviderEntity(9, "Dr. New", "dr. new")));
+
+        // Act
+        int id = providerDictionary.resolveId(" Dr.  New ");
+
+        // Assert
+        assertEquals(9, id);
+        verify(providerRepository).insertIfAbsent("Dr. New", "dr. new");
+        assertEquals(Optional.of(9), providerDictionary.findId("DR. NEW"));
+    }
+
+    @Test
+    void getName_Miss_ShouldLoadInCallersTransactionAndCache() {
+        // Arrange
+        when(providerRepository.findById(9)).thenReturn(Optional.of(new ProviderEntity(9, "Dr. New", "dr. new")));
+
+        // Act
+        String first = providerDictionary.getName(9);
+        String second = providerDictionary.getName(9);
+
+        // Assert - no REQUIRES_NEW transaction, so no second connection
+        assertEquals("Dr. New", first);
+        assertEquals("Dr. New", second);
+        verify(providerRepository, times(1)).findById(9);
+        verifyNoInteractions(transactionManager);
+    }
+}
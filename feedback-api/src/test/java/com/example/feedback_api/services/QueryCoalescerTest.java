@@ -0,0 +1,99 @@
+package com.example.feedback_api.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for QueryCoalescer
+ * Tests result sharing, failure propagation and bounded waiting
+ */
+class QueryCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private double count(String result) {
+        return meterRegistry.counter("feedback.query.coalescing", "result", result).count();
+    }
+
+    @Test
+    void execute_ConcurrentIdenticalQueries_ShouldRunOnce() throws Exception {
+        // Arrange
+        QueryCoalescer coalescer = new QueryCoalescer(meterRegistry, 5000);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> coalescer.execute("key", () -> {
+            executions.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return "result";
+        }));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> coalescer.execute("key", () -> {
+            executions.incrementAndGet();
+            return "own";
+        }));
+        // Give the follower time to join the in-flight query
+        Thread.sleep(200);
+        release.countDown();
+
+        // Assert
+        assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("result", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+        assertEquals(1, count("executed"));
+        assertEquals(1, count("coalesced"));
+    }
+
+    @Test
+    void execute_LeaderFails_ShouldPropagateAndAllowRetry() {
+        // Arrange
+        QueryCoalescer coalescer = new QueryCoalescer(meterRegistry, 5000);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> coalescer.execute("key", () -> {
+            throw new IllegalArgumentException("boom");
+        }));
+        assertEquals("ok", coalescer.execute("key", () -> "ok"));
+    }
+
+    @Test
+    void execute_LeaderTooSlow_ShouldRunOwnQueryAfterMaxWait() throws Exception {
+        // Arrange
+        QueryCoalescer coalescer = new QueryCoalescer(meterRegistry, 50);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> coalescer.execute("key", () -> {
+            leaderStarted.countDown();
+            await(release);
+            return "slow";
+        }));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        // Act
+        String result = coalescer.execute("key", () -> "own");
+        release.countDown();
+
+        // Assert
+        assertEquals("own", result);
+        assertEquals("slow", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, count("wait_timeout"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
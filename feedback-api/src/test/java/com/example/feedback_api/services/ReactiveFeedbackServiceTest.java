@@ -0,0 +1,162 @@
+package com.example.feedback_api.services;
+
+import com.example.feedback_api.archive.FeedbackArchive;
+import com.example.feedback_api.dtos.FeedbackResponse;
+import com.example.feedback_api.messaging.FeedbackEventPublisher;
+import com.example.feedback_api.model.FeedbackEntity;
+import com.example.feedback_api.model.FeedbackRow;
+import com.example.feedback_api.repositories.ReactiveFeedbackRepository;
+import com.example.feedback_api.streaming.FeedbackSubmittedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReactiveFeedbackService
+ * Repository and template are mocked; results are awaited with block()
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveFeedbackServiceTest {
+
+    @Mock
+    private ReactiveFeedbackRepository feedbackRepository;
+
+    @Mock
+    private R2dbcEntityTemplate entityTemplate;
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private ProviderDictionary providerDictionary;
+
+    @Mock
+    private FeedbackEventPublisher eventPublisher;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private FeedbackArchive feedbackArchive;
+
+    private ReactiveFeedbackService feedbackService;
+
+    @BeforeEach
+    void setUp() {
+        when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        feedbackService = new ReactiveFeedbackService(feedbackRepository, entityTemplate, providerDictionary,
+                eventPublisher, applicationEventPublisher, feedbackArchive);
+    }
+
+    @Test
+    void save_KnownProvider_ShouldInsertAndPublish() {
+        // Arrange
+        ValidatedFeedback feedback = new ValidatedFeedback("member-123", "Dr. Smith", 4, "Great");
+        when(providerDictionary.cachedId("Dr. Smith")).thenReturn(Optional.of(7));
+        when(providerDictionary.cachedName(7)).thenReturn("Dr. Smith");
+        when(feedbackRepository.existsByMemberIdAndProviderId("member-123", 7)).thenReturn(Mono.just(false));
+        when(feedbackArchive.existsByMemberIdAndProviderId("member-123", 7)).thenReturn(false);
+        when(entityTemplate.insert(any(FeedbackRow.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act
+        FeedbackResponse response = feedbackService.save(feedback).block();
+
+        // Assert
+        assertNotNull(response);
+        assertNotNull(response.getId());
+        assertEquals("Dr. Smith", response.getProviderName());
+        assertEquals(4, response.getRating());
+        verify(eventPublisher).publishFeedbackSubmitted(any(FeedbackEntity.class));
+        verify(applicationEventPublisher).publishEvent(any(FeedbackSubmittedEvent.class));
+        verifyNoInteractions(databaseClient);
+    }
+
+    @Test
+    void save_DuplicateFeedback_ShouldErrorWithoutInserting() {
+        // Arrange
+        ValidatedFeedback feedback = new ValidatedFeedback("member-123", "Dr. Smith", 4, null);
+        when(providerDictionary.cachedId("Dr. Smith")).thenReturn(Optional.of(7));
+        when(feedbackRepository.existsByMemberIdAndProviderId("member-123", 7)).thenReturn(Mono.just(true));
+
+        // Act
+        Mono<FeedbackResponse> result = feedbackService.save(feedback);
+
+        // Assert
+        ValidationException exception = assertThrows(ValidationException.class, result::block);
+        assertEquals("You have already submitted feedback for Dr. Smith", exception.getMessage());
+        verify(entityTemplate, never()).insert(any(FeedbackRow.class));
+        verifyNoInteractions(eventPublisher, applicationEventPublisher);
+    }
+
+    @Test
+    void getFeedback_MemberWithArchivedRows_ShouldAppendArchivedRowsOnce() {
+        // Arrange
+        UUID current = UUID.randomUUID();
+        UUID movedDuringArchiving = UUID.randomUUID();
+        UUID archived = UUID.randomUUID();
+        when(providerDictionary.cachedName(7)).thenReturn("Dr. Smith");
+        when(feedbackRepository.findByMemberIdOrderBySubmittedAtDesc("member-123")).thenReturn(Flux.just(
+                row(current, Instant.parse("2025-03-01T00:00:00Z")),
+                row(movedDuringArchiving, Instant.parse("2024-02-01T00:00:00Z"))));
+        when(feedbackArchive.findByMemberId("member-123")).thenReturn(List.of(
+                row(movedDuringArchiving, Instant.parse("2024-02-01T00:00:00Z")).toEntity("Dr. Smith"),
+                row(archived, Instant.parse("2023-01-01T00:00:00Z")).toEntity("Dr. Smith")));
+
+        // Act
+        List<FeedbackResponse> responses = feedbackService.getFeedback(" member-123 ").collectList().block();
+
+        // Assert
+        assertEquals(List.of(current, movedDuringArchiving, archived),
+                responses.stream().map(FeedbackResponse::getId).toList());
+    }
+
+    @Test
+    void getFeedbackById_ArchivedId_ShouldFallBackToArchive() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(feedbackRepository.findById(id)).thenReturn(Mono.empty());
+        when(feedbackArchive.findById(id))
+                .thenReturn(Optional.of(row(id, Instant.parse("2023-01-01T00:00:00Z")).toEntity("Dr. Smith")));
+
+        // Act
+        FeedbackResponse response = feedbackService.getFeedbackById(id.toString()).block();
+
+        // Assert
+        assertEquals(id, response.getId());
+        assertEquals("Dr. Smith", response.getProviderName());
+    }
+
+    @Test
+    void getFeedbackById_UnknownId_ShouldErrorWithNotFound() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(feedbackRepository.findById(id)).thenReturn(Mono.empty());
+        when(feedbackArchive.findById(id)).thenReturn(Optional.empty());
+
+        // Act
+        Mono<FeedbackResponse> result = feedbackService.getFeedbackById(id.toString());
+
+        // Assert
+        assertThrows(FeedbackNotFoundException.class, result::block);
+    }
+
+    private static FeedbackRow row(UUID id, Instant submittedAt) {
+        return new FeedbackRow(id, "member-123", 7, 4, "Comment", submittedAt);
+    }
+}
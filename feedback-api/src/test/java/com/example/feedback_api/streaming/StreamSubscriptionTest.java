@@ -0,0 +1,70 @@
+package com.example.feedback_api.streaming;
+
+import com.example.feedback_api.dtos.FeedbackResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StreamSubscription
+ * Tests subscriber filtering and buffer overflow policies
+ */
+class StreamSubscriptionTest {
+
+    private FeedbackResponse feedback(String memberId, String providerName) {
+        return new FeedbackResponse(UUID.randomUUID(), memberId, providerName, 4, null, Instant.now());
+    }
+
+    @Test
+    void matches_NoFilters_ShouldMatchEverything() {
+        // Arrange
+        StreamSubscription subscription = new StreamSubscription(new SseEmitter(), null, "  ", 4);
+
+        // Act & Assert
+        assertTrue(subscription.matches(feedback("member-1", "Dr. Smith")));
+        assertTrue(subscription.matches(feedback("member-2", "Dr. Jones")));
+    }
+
+    @Test
+    void matches_MemberAndProviderFilters_ShouldMatchOnlyBoth() {
+        // Arrange
+        StreamSubscription subscription = new StreamSubscription(new SseEmitter(), "member-1", " dr. smith ", 4);
+
+        // Act & Assert
+        assertTrue(subscription.matches(feedback("member-1", "Dr. Smith")));
+        assertFalse(subscription.matches(feedback("member-2", "Dr. Smith")));
+        assertFalse(subscription.matches(feedback("member-1", "Dr. Jones")));
+    }
+
+    @Test
+    void offer_FullBufferDropOldest_ShouldKeepSubscriberAndCountDrop() {
+        // Arrange
+        StreamSubscription subscription = new StreamSubscription(new SseEmitter(), null, null, 1);
+        subscription.offer(feedback("member-1", "Dr. Smith"), OverflowPolicy.DROP_OLDEST);
+
+        // Act
+        boolean keep = subscription.offer(feedback("member-2", "Dr. Smith"), OverflowPolicy.DROP_OLDEST);
+
+        // Assert
+        assertTrue(keep);
+        assertEquals(1, subscription.getDropped());
+    }
+
+    @Test
+    void offer_FullBufferDisconnect_ShouldRequestDisconnect() {
+        // Arrange
+        StreamSubscription subscription = new StreamSubscription(new SseEmitter(), null, null, 1);
+        subscription.offer(feedback("member-1", "Dr. Smith"), OverflowPolicy.DISCONNECT);
+
+        // Act
+        boolean keep = subscription.offer(feedback("member-2", "Dr. Smith"), OverflowPolicy.DISCONNECT);
+
+        // Assert
+        assertFalse(keep);
+        assertEquals(1, subscription.getDropped());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.feedback_api.warmup;
+
+import com.example.feedback_api.messaging.FeedbackEventPublisher;
+import com.example.feedback_api.services.FeedbackRequestValidator;
+import com.example.feedback_api.services.FeedbackService;
+import com.example.feedback_api.services.ProviderDictionary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WarmUpRunner
+ * Tests that step failures are reported without failing startup
+ */
+@ExtendWith(MockitoExtension.class)
+class WarmUpRunnerTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private ProviderDictionary providerDictionary;
+
+    @Mock
+    private FeedbackService feedbackService;
+
+    @Test
+    void run_KafkaUnavailable_ShouldCompleteWithErrorsAndReportUp() throws Exception {
+        // Arrange
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(kafkaTemplate.partitionsFor(FeedbackEventPublisher.FEEDBACK_TOPIC))
+                .thenThrow(new KafkaException("broker down"));
+        when(providerDictionary.preload()).thenReturn(3);
+        WarmUpRunner runner = new WarmUpRunner(dataSource, kafkaTemplate, providerDictionary, feedbackService,
+                new FeedbackRequestValidator(), new ObjectMapper().registerModule(new JavaTimeModule()),
+                new SimpleMeterRegistry(), 2, 5, 30_000);
+        WarmUpHealthIndicator healthIndicator = new WarmUpHealthIndicator(runner);
+        assertEquals(Status.OUT_OF_SERVICE, healthIndicator.health().getStatus());
+
+        // Act
+        runner.run(null);
+
+        // Assert
+        assertEquals(WarmUpRunner.State.COMPLETED_WITH_ERRORS, runner.getState());
+        Map<String, String> steps = runner.getSteps();
+        assertTrue(steps.get("connectionPool").startsWith("ok"));
+        assertEquals("failed: broker down", steps.get("kafkaMetadata"));
+        assertTrue(steps.get("readPath").startsWith("ok"));
+        verify(connection, times(2)).close();
+        verify(feedbackService, times(5)).getFeedbackById(anyString());
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+    }
+}